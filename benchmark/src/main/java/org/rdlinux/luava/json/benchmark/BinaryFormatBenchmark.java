@@ -0,0 +1,68 @@
+package org.rdlinux.luava.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.jackson.factory.BinaryFormat;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * json与Smile、CBOR的编解码耗时, 报文大小在setup时输出
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+    @Benchmark
+    public byte[] encode(FormatState state) {
+        if (state.binaryFormat == null) {
+            return JacksonUtils.toJsonBytes(state.value);
+        }
+        return JacksonUtils.toBinary(state.value, state.binaryFormat);
+    }
+
+    @Benchmark
+    public Object decode(FormatState state) {
+        return JacksonUtils.fromBinary(state.data, state.type);
+    }
+
+    public enum Format {
+        JSON,
+        SMILE,
+        CBOR
+    }
+
+    @State(Scope.Benchmark)
+    public static class FormatState {
+        @Param({"JSON", "SMILE", "CBOR"})
+        public Format format;
+        @Param({"MEDIUM", "LARGE"})
+        public Payload payload;
+        public BinaryFormat binaryFormat;
+        public Object value;
+        public Class<?> type;
+        public byte[] data;
+
+        @Setup
+        public void setup() {
+            this.binaryFormat = this.format == Format.JSON ? null : BinaryFormat.valueOf(this.format.name());
+            this.value = this.payload.create();
+            this.type = this.payload.getType();
+            this.data = this.binaryFormat == null ? JacksonUtils.toJsonBytes(this.value)
+                    : JacksonUtils.toBinary(this.value, this.binaryFormat);
+            System.out.println(this.format + " " + this.payload + " size: " + this.data.length + " bytes");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.StreamUtils;
+import org.rdlinux.luava.json.jackson.buffer.BufferPool;
+import org.rdlinux.luava.json.jackson.factory.PooledJsonFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓冲区回收策略对单次请求(解析请求体并输出响应)及StreamUtils.copyToString分配量的影响, 关注gc.alloc.rate.norm.
+ * 虚拟线程每个请求一个新线程, jackson的ThreadLocal回收器对其等同于每次新建回收器,
+ * 以{@link Recycling#PER_REQUEST}模拟; 共享池及分段池与线程无关, 在基准线程上的结果即虚拟线程下的结果
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferPoolBenchmark {
+    @Benchmark
+    public byte[] request(RequestState state) throws IOException {
+        Object value = state.objectMapper.readValue(new ByteArrayInputStream(state.json), state.type);
+        return state.objectMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public String copyToString(StreamState state) throws IOException {
+        return StreamUtils.copyToString(new ByteArrayInputStream(state.json), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String copyToStringLegacy(StreamState state) throws IOException {
+        InputStream in = new ByteArrayInputStream(state.json);
+        StringBuilder out = new StringBuilder();
+        InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        char[] buffer = new char[StreamUtils.BUFFER_SIZE];
+        int bytesRead;
+        while ((bytesRead = reader.read(buffer)) != -1) {
+            out.append(buffer, 0, bytesRead);
+        }
+        return out.toString();
+    }
+
+    public enum Recycling {
+        /**
+         * jackson默认, 长期存活的平台线程
+         */
+        JACKSON_THREAD_LOCAL,
+        /**
+         * 每次请求新建回收器, 等同于虚拟线程下的jackson默认行为
+         */
+        PER_REQUEST,
+        LOCK_FREE,
+        STRIPED
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestState {
+        @Param({"JACKSON_THREAD_LOCAL", "PER_REQUEST", "LOCK_FREE", "STRIPED"})
+        public Recycling recycling;
+        @Param({"MEDIUM"})
+        public Payload payload;
+        ObjectMapper objectMapper;
+        Class<?> type;
+        byte[] json;
+
+        @Setup
+        public void setup() throws IOException {
+            JsonFactory jsonFactory;
+            switch (this.recycling) {
+                case LOCK_FREE:
+                    jsonFactory = new PooledJsonFactory(BufferPool.lockFree());
+                    break;
+                case STRIPED:
+                    jsonFactory = new PooledJsonFactory(BufferPool.striped());
+                    break;
+                case PER_REQUEST:
+                    jsonFactory = new MappingJsonFactory().disable(JsonFactory.Feature.USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING);
+                    break;
+                default:
+                    jsonFactory = new MappingJsonFactory();
+            }
+            this.objectMapper = new ObjectMapper(jsonFactory).findAndRegisterModules();
+            this.type = this.payload.getType();
+            this.json = this.objectMapper.writeValueAsBytes(this.payload.create());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class StreamState {
+        @Param({"MEDIUM"})
+        public Payload payload;
+        byte[] json;
+
+        @Setup
+        public void setup() throws IOException {
+            this.json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(this.payload.create());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.jackson.deserializer.JsonDateDeserializer;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+import org.rdlinux.luava.json.jackson.factory.PooledJsonFactory;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 自定义Date、Boolean及java.time编解码器的单值开销, 时间解析及格式化与旧实现对照
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+    @Benchmark
+    public Object parseDate(DateState state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    @Benchmark
+    public Object parseDateLegacy(DateState state) throws IOException {
+        return state.legacyReader.readValue(state.json);
+    }
+
+    @Benchmark
+    public String formatDate(FormatState state) throws IOException {
+        return state.writer.writeValueAsString(state.date);
+    }
+
+    /**
+     * jackson默认的Date序列化, 每次克隆SimpleDateFormat
+     */
+    @Benchmark
+    public String formatDateLegacy(FormatState state) throws IOException {
+        return state.legacyWriter.writeValueAsString(state.date);
+    }
+
+    @Benchmark
+    public String formatJavaTime(JavaTimeState state) throws IOException {
+        return state.writer.writeValueAsString(state.value);
+    }
+
+    /**
+     * LocalDateTime使用旧的DateTimeFormatter实现, 其它类型使用jsr310模块
+     */
+    @Benchmark
+    public String formatJavaTimeLegacy(JavaTimeState state) throws IOException {
+        return state.legacyWriter.writeValueAsString(state.value);
+    }
+
+    @Benchmark
+    public Object parseJavaTime(JavaTimeState state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    @Benchmark
+    public Object parseJavaTimeLegacy(JavaTimeState state) throws IOException {
+        return state.legacyReader.readValue(state.json);
+    }
+
+    @Benchmark
+    public Object parseBoolean(BooleanState state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    @Benchmark
+    public Object parseBooleanLegacy(BooleanState state) throws IOException {
+        return state.legacyReader.readValue(state.json);
+    }
+
+    @Benchmark
+    public Object parseNumber(NumberState state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    /**
+     * jackson默认的数字反序列化, 不支持千分位逗号
+     */
+    @Benchmark
+    public Object parseNumberLegacy(NumberState state) throws IOException {
+        return state.legacyReader.readValue(state.json);
+    }
+
+    @State(Scope.Benchmark)
+    public static class DateState {
+        @Param({"2018-12-13 09:27:41", "2018-12-13 09:27:41.123", "2018-12-13T09:27:41.123Z",
+                "2018-12-13T09:27:41.123+0800", "2018-12-13", "12/13/2018 09:27:41", "1544693261000"})
+        public String text;
+        ObjectReader reader;
+        ObjectReader legacyReader;
+        String json;
+
+        @Setup
+        public void setup() {
+            this.json = "\"" + this.text + "\"";
+            this.reader = new ObjectMapper().registerModule(new SimpleModule()
+                    .addDeserializer(Date.class, JsonDateDeserializer.getInstance())).readerFor(Date.class);
+            this.legacyReader = new ObjectMapper().registerModule(new SimpleModule()
+                    .addDeserializer(Date.class, new LegacyDateDeserializer())).readerFor(Date.class);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FormatState {
+        Date date = new Date(1544693261123L);
+        ObjectWriter writer;
+        ObjectWriter legacyWriter;
+
+        @Setup
+        public void setup() {
+            this.writer = ObjectMapperFactory.getDefaultObjectMapper().writer();
+            this.legacyWriter = new ObjectMapper().setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss")).writer();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaTimeState {
+        private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of(2018, 12, 13, 9, 27, 41, 123000000);
+        @Param({"LocalDateTime", "LocalDate", "LocalTime", "Instant", "OffsetDateTime"})
+        public String type;
+        Object value;
+        ObjectWriter writer;
+        ObjectWriter legacyWriter;
+        ObjectReader reader;
+        ObjectReader legacyReader;
+        String json;
+
+        @Setup
+        public void setup() throws IOException {
+            switch (this.type) {
+                case "LocalDateTime":
+                    this.value = LOCAL_DATE_TIME;
+                    break;
+                case "LocalDate":
+                    this.value = LOCAL_DATE_TIME.toLocalDate();
+                    break;
+                case "LocalTime":
+                    this.value = LOCAL_DATE_TIME.toLocalTime();
+                    break;
+                case "Instant":
+                    this.value = LOCAL_DATE_TIME.toInstant(ZoneOffset.UTC);
+                    break;
+                default:
+                    this.value = OffsetDateTime.of(LOCAL_DATE_TIME, ZoneOffset.ofHours(8));
+            }
+            ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+            ObjectMapper legacyMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+                    .registerModule(new SimpleModule()
+                            .addSerializer(LocalDateTime.class, new LegacyLocalDateTimeCodec.Serializer())
+                            .addDeserializer(LocalDateTime.class, new LegacyLocalDateTimeCodec.Deserializer()));
+            this.writer = objectMapper.writer();
+            this.legacyWriter = legacyMapper.writer();
+            this.reader = objectMapper.readerFor(this.value.getClass());
+            this.legacyReader = legacyMapper.readerFor(this.value.getClass());
+            this.json = this.writer.writeValueAsString(this.value);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BooleanState {
+        @Param({"true", "\"yes\"", "\"1\"", "\"否\""})
+        public String json;
+        ObjectReader reader;
+        ObjectReader legacyReader;
+
+        @Setup
+        public void setup() {
+            this.reader = ObjectMapperFactory.getDefaultObjectMapper().readerFor(Boolean.class);
+            this.legacyReader = new ObjectMapper(new PooledJsonFactory()).registerModule(new SimpleModule()
+                    .addDeserializer(Boolean.class, new LegacyBooleanDeserializer())).readerFor(Boolean.class);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class NumberState {
+        @Param({"Integer:1234", "Integer:\"1234\"", "Long:\"1544693261123\"", "Double:\"1234.5\"",
+                "BigDecimal:\"1234.5\""})
+        public String input;
+        ObjectReader reader;
+        ObjectReader legacyReader;
+        String json;
+
+        @Setup
+        public void setup() throws ClassNotFoundException {
+            int separator = this.input.indexOf(':');
+            Class<?> type = Class.forName((this.input.startsWith("BigDecimal") ? "java.math." : "java.lang.")
+                    + this.input.substring(0, separator));
+            this.json = this.input.substring(separator + 1);
+            this.reader = ObjectMapperFactory.getDefaultObjectMapper().readerFor(type);
+            this.legacyReader = new ObjectMapper(new PooledJsonFactory()).readerFor(type);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.rdlinux.luava.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 深拷贝与转换为json字符串后再读回的耗时及分配量对照, 关注gc.alloc.rate.norm
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepCopyBenchmark {
+    @Benchmark
+    public Object deepCopy(DeepCopyState state) {
+        return JacksonUtils.deepCopy(state.value);
+    }
+
+    @Benchmark
+    public Object stringRoundTrip(DeepCopyState state) {
+        return JacksonUtils.conversion(JacksonUtils.toJsonString(state.value), state.value.getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class DeepCopyState {
+        @Param({"SMALL", "MEDIUM", "LARGE"})
+        public Payload payload;
+        public Object value;
+
+        @Setup
+        public void setup() {
+            this.value = this.payload.create();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.rdlinux.luava.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 反序列化及对象转换入口的吞吐量及内存分配
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DeserializationBenchmark {
+    @Benchmark
+    public Object conversionClass(PayloadState state) {
+        return JacksonUtils.conversion(state.json, state.type);
+    }
+
+    @Benchmark
+    public Object conversionJavaType(PayloadState state) {
+        return JacksonUtils.conversion(state.json, state.javaType);
+    }
+
+    @Benchmark
+    public Object conversionTypeReference(PayloadState state) {
+        return JacksonUtils.conversion(state.json, state.payload.getTypeReference());
+    }
+
+    @Benchmark
+    public Object conversionType(PayloadState state) {
+        return JacksonUtils.conversion(state.json, state.genericType);
+    }
+
+    @Benchmark
+    public Object conversionBytes(PayloadState state) {
+        return JacksonUtils.conversion(state.jsonBytes, state.type);
+    }
+
+    @Benchmark
+    public Object snakeCaseConversion(PayloadState state) {
+        return JacksonUtils.snakeCaseConversion(state.snakeCaseJson, state.type);
+    }
+
+    @Benchmark
+    public Object conversionWithPattern(PayloadState state) {
+        return JacksonUtils.conversion(state.patternJson, state.type, PayloadState.DATE_PATTERN);
+    }
+
+    /**
+     * 对象到对象的转换, 实体转Map
+     */
+    @Benchmark
+    public Object objectConversion(PayloadState state) {
+        return JacksonUtils.conversion(state.value, Map.class);
+    }
+}
@@ -0,0 +1,53 @@
+package org.rdlinux.luava.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.JsonDocument;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 只读取大报文中少量属性时, 转换为Map与延迟解码文档的耗时及分配量对照, 关注gc.alloc.rate.norm
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentBenchmark {
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object map(DocumentState state) {
+        Map<String, Object> page = JacksonUtils.conversion(state.json, Map.class);
+        List<Map<String, Object>> records = (List<Map<String, Object>>) page.get("records");
+        return records.get(0).get("orderNo") + "/" + page.get("total");
+    }
+
+    @Benchmark
+    public Object document(DocumentState state) {
+        JsonDocument page = JacksonUtils.document(state.json);
+        return page.get("records").get(0).get("orderNo").getValue() + "/" + page.get("total").getValue();
+    }
+
+    @State(Scope.Benchmark)
+    public static class DocumentState {
+        public byte[] json;
+
+        @Setup
+        public void setup() {
+            this.json = JacksonUtils.toJsonString(Payload.LARGE.create()).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * 0.1.0之前的JsonBooleanDeserializer实现(取文本后多次toLowerCase比较), 作为Boolean解析的对照基线
+ */
+public class LegacyBooleanDeserializer extends JsonDeserializer<Boolean> {
+    @Override
+    public Boolean deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        String source = jp.getText();
+        if (source == null) {
+            return null;
+        } else if (source.toLowerCase().equals("yes") || source.toLowerCase().equals("true") || source.toLowerCase().equals("是") || source.equals("1")) {
+            return true;
+        } else if (source.toLowerCase().equals("no") || source.toLowerCase().equals("false") || source.toLowerCase().equals("否") || source.equals("0")) {
+            return false;
+        } else {
+            throw new IllegalArgumentException(source + " cat not case to boolean");
+        }
+    }
+}
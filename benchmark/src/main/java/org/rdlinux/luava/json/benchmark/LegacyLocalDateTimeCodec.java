@@ -0,0 +1,41 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 0.1.0之前的LocalDateTime编解码实现(经DateTimeFormatter格式化及解析), 作为java.time编解码的对照基线
+ */
+public final class LegacyLocalDateTimeCodec {
+    private static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private LegacyLocalDateTimeCodec() {
+    }
+
+    public static class Serializer extends JsonSerializer<LocalDateTime> {
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            String format = dateTimeFormatter.format(value);
+            gen.writeString(format);
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<LocalDateTime> {
+        @Override
+        public LocalDateTime deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            String source = jp.getText();
+            if (source == null || source.isEmpty()) {
+                return null;
+            }
+            return LocalDateTime.parse(source, dateTimeFormatter);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.jackson.deserializer.JsonBooleanDeserializer;
+import org.rdlinux.luava.json.jackson.deserializer.JsonDateDeserializer;
+import org.rdlinux.luava.json.jackson.deserializer.LocalDateTimeDeserializer;
+import org.rdlinux.luava.json.jackson.factory.CachingObjectMapper;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+import org.rdlinux.luava.json.jackson.factory.PooledJsonFactory;
+import org.rdlinux.luava.json.jackson.serializer.LocalDateTimeSerializer;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 创建一个新时间格式的蛇形命名objectMapper的耗时. legacy为每次查找并注册模块的旧方式,
+ * factory为ObjectMapperFactory从模板复制的方式, 每次先使注册表中的对应key失效
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperCreationBenchmark {
+    private static final String DATE_PATTERN = "yyyy/MM/dd HH:mm";
+
+    @Benchmark
+    public ObjectMapper legacy() {
+        ObjectMapper objectMapper = new CachingObjectMapper(new PooledJsonFactory());
+        objectMapper.findAndRegisterModules();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        SimpleModule simpleModule = new SimpleModule();
+        simpleModule.addDeserializer(Date.class, JsonDateDeserializer.getInstance());
+        simpleModule.addDeserializer(Boolean.class, JsonBooleanDeserializer.getInstance());
+        simpleModule.addSerializer(LocalDateTime.class, LocalDateTimeSerializer.getInstance());
+        simpleModule.addDeserializer(LocalDateTime.class, LocalDateTimeDeserializer.getInstance());
+        objectMapper.registerModule(simpleModule);
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        objectMapper.setDateFormat(new SimpleDateFormat(DATE_PATTERN));
+        return objectMapper;
+    }
+
+    @Benchmark
+    public ObjectMapper factory(FactoryState state) {
+        ObjectMapperFactory.getRegistry().invalidate(state.key);
+        return ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(DATE_PATTERN);
+    }
+
+    @State(Scope.Benchmark)
+    public static class FactoryState {
+        public String key;
+
+        @Setup
+        public void setup() {
+            this.key = ((CachingObjectMapper) ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(DATE_PATTERN))
+                    .getKey();
+        }
+    }
+}
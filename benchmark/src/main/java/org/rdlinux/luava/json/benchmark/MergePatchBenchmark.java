@@ -0,0 +1,80 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.benchmark.model.Order;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对订单合并只修改少量属性的补丁, 原地合并与转换为树合并后重新绑定整个对象的耗时及分配量对照, 关注gc.alloc.rate.norm
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergePatchBenchmark {
+    private static final String PATCH = "{\"orderNo\":\"NO-PATCHED\",\"buyer\":{\"email\":\"patched@rdlinux.org\"},"
+            + "\"attributes\":{\"channel\":null,\"source\":\"app\"}}";
+
+    /**
+     * 按RFC 7386把补丁合并到树
+     */
+    private static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode node = target != null && target.isObject() ? (ObjectNode) target : ((ObjectNode) patch).objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                node.remove(field.getKey());
+            } else {
+                node.set(field.getKey(), merge(node.get(field.getKey()), field.getValue()));
+            }
+        }
+        return node;
+    }
+
+    @Benchmark
+    public Object mergePatch(MergePatchState state) {
+        return JacksonUtils.mergePatch(PATCH, state.order);
+    }
+
+    @Benchmark
+    public Object treeRebind(MergePatchState state) throws IOException {
+        ObjectMapper objectMapper = state.objectMapper;
+        JsonNode tree = merge(objectMapper.valueToTree(state.order), objectMapper.readTree(PATCH));
+        return objectMapper.treeToValue(tree, Order.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class MergePatchState {
+        public Order order;
+        public ObjectMapper objectMapper;
+
+        @Setup
+        public void setup() {
+            this.order = (Order) Payload.MEDIUM.create();
+            this.objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.rdlinux.luava.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.JsonArrayCursor;
+import org.rdlinux.luava.json.ParallelJsonReader;
+import org.rdlinux.luava.json.benchmark.model.Order;
+import org.rdlinux.luava.json.benchmark.model.OrderPage;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 大文件并行解析随并行度的扩展性, 以单线程游标读取为基线
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelReadBenchmark {
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+    /**
+     * 文件包含的订单数, 每个订单约1.9KB
+     */
+    @Param({"50000"})
+    public int records;
+    private Path arrayFile;
+    private Path linesFile;
+    private ForkJoinPool pool;
+    private ParallelJsonReader reader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        List<Order> orders = ((OrderPage) Payload.LARGE.create()).getRecords();
+        this.arrayFile = Files.createTempFile("parallel", ".json");
+        this.linesFile = Files.createTempFile("parallel", ".jsonl");
+        try (OutputStream out = Files.newOutputStream(this.arrayFile)) {
+            out.write('[');
+            for (int i = 0; i < this.records; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                JacksonUtils.writeTo(orders.get(i % orders.size()), out);
+            }
+            out.write(']');
+        }
+        try (OutputStream out = Files.newOutputStream(this.linesFile)) {
+            JacksonUtils.writeLines(new Iterator<Order>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < ParallelReadBenchmark.this.records;
+                }
+
+                @Override
+                public Order next() {
+                    return orders.get(this.index++ % orders.size());
+                }
+            }, out);
+        }
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.reader = new ParallelJsonReader(ObjectMapperFactory.getDefaultObjectMapper(), this.pool,
+                ParallelJsonReader.DEFAULT_CHUNK_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.pool.shutdown();
+        Files.deleteIfExists(this.arrayFile);
+        Files.deleteIfExists(this.linesFile);
+    }
+
+    @Benchmark
+    public long cursorArray() {
+        long count = 0;
+        try (JsonArrayCursor<Order> cursor = JacksonUtils.readArray(this.arrayFile, Order.class)) {
+            while (cursor.hasNext()) {
+                cursor.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int parallelArrayOrdered() {
+        return this.reader.readArray(this.arrayFile, Order.class).size();
+    }
+
+    @Benchmark
+    public long parallelArrayUnordered() {
+        LongAdder count = new LongAdder();
+        this.reader.readArray(this.arrayFile, Order.class, order -> count.increment());
+        return count.sum();
+    }
+
+    @Benchmark
+    public int parallelLinesOrdered() {
+        return this.reader.readLines(this.linesFile, Order.class).size();
+    }
+
+    @Benchmark
+    public long parallelLinesUnordered() {
+        LongAdder count = new LongAdder();
+        this.reader.readLines(this.linesFile, Order.class, order -> count.increment());
+        return count.sum();
+    }
+}
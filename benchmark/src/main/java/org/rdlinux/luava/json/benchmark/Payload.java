@@ -0,0 +1,180 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.rdlinux.luava.json.benchmark.model.DateRecord;
+import org.rdlinux.luava.json.benchmark.model.DateRecordBatch;
+import org.rdlinux.luava.json.benchmark.model.Order;
+import org.rdlinux.luava.json.benchmark.model.OrderItem;
+import org.rdlinux.luava.json.benchmark.model.OrderPage;
+import org.rdlinux.luava.json.benchmark.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试报文, 数据按固定规则生成, 保证每次运行内容一致
+ */
+public enum Payload {
+    /**
+     * 单个用户, 约120字节
+     */
+    SMALL(User.class, new TypeReference<User>() {
+    }) {
+        @Override
+        public Object create() {
+            return user(1);
+        }
+    },
+    /**
+     * 包含20条明细的订单, 约2KB
+     */
+    MEDIUM(Order.class, new TypeReference<Order>() {
+    }) {
+        @Override
+        public Object create() {
+            return order(1, 20);
+        }
+    },
+    /**
+     * 200个订单的分页结果, 约380KB
+     */
+    LARGE(OrderPage.class, new TypeReference<OrderPage>() {
+    }) {
+        @Override
+        public Object create() {
+            List<Order> records = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                records.add(order(i, 20));
+            }
+            OrderPage page = new OrderPage();
+            page.setPageNo(1);
+            page.setPageSize(records.size());
+            page.setTotal(10000L);
+            page.setRecords(records);
+            return page;
+        }
+    },
+    /**
+     * 500条记录, 每条包含3个Date, 1个Calendar, 2个LocalDateTime, 约115KB
+     */
+    DATE_HEAVY(DateRecordBatch.class, new TypeReference<DateRecordBatch>() {
+    }) {
+        @Override
+        public Object create() {
+            List<DateRecord> records = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                DateRecord record = new DateRecord();
+                record.setCreateTime(new Date(BASE_TIME + i * 1000L));
+                record.setUpdateTime(new Date(BASE_TIME + i * 60000L));
+                record.setExpireTime(new Date(BASE_TIME + i * 86400000L));
+                Calendar checkTime = Calendar.getInstance();
+                checkTime.setTimeInMillis(BASE_TIME + i * 3600000L);
+                record.setCheckTime(checkTime);
+                record.setEventTime(LocalDateTime.of(2018, 12, 13, 9, 27, 41, 123000000).plusSeconds(i));
+                record.setAckTime(LocalDateTime.of(2018, 12, 13, 9, 27, 41, 456000000).plusMinutes(i));
+                record.setHandled(i % 2 == 0);
+                records.add(record);
+            }
+            DateRecordBatch batch = new DateRecordBatch();
+            batch.setBatchNo("B20181213");
+            batch.setRecords(records);
+            return batch;
+        }
+    },
+    /**
+     * 多层嵌套的泛型集合, 约45KB, 按Class转换时绑定为无类型的Map
+     */
+    GENERIC(Map.class, new TypeReference<Map<String, List<Map<String, List<Long>>>>>() {
+    }) {
+        @Override
+        public Object create() {
+            Map<String, List<Map<String, List<Long>>>> value = new LinkedHashMap<>();
+            for (int i = 0; i < 20; i++) {
+                List<Map<String, List<Long>>> groups = new ArrayList<>();
+                for (int j = 0; j < 5; j++) {
+                    Map<String, List<Long>> group = new LinkedHashMap<>();
+                    for (int k = 0; k < 5; k++) {
+                        List<Long> numbers = new ArrayList<>();
+                        for (int n = 0; n < 10; n++) {
+                            numbers.add((long) i * 1000000 + j * 10000 + k * 100 + n);
+                        }
+                        group.put("k" + k, numbers);
+                    }
+                    groups.add(group);
+                }
+                value.put("key" + i, groups);
+            }
+            return value;
+        }
+    };
+
+    private static final long BASE_TIME = 1544693261000L;
+    private final Class<?> type;
+    private final TypeReference<?> typeReference;
+
+    Payload(Class<?> type, TypeReference<?> typeReference) {
+        this.type = type;
+        this.typeReference = typeReference;
+    }
+
+    private static User user(long id) {
+        User user = new User();
+        user.setUserId(id);
+        user.setUserName("user" + id);
+        user.setEmail("user" + id + "@rdlinux.org");
+        user.setAge((int) (18 + id % 50));
+        user.setEnabled(id % 3 != 0);
+        user.setCreateTime(new Date(BASE_TIME + id * 1000L));
+        return user;
+    }
+
+    private static Order order(long id, int itemSize) {
+        Order order = new Order();
+        order.setOrderId(id);
+        order.setOrderNo("NO" + (100000000L + id));
+        order.setBuyer(user(id));
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemSize; i++) {
+            OrderItem item = new OrderItem();
+            item.setSkuId(id * 100 + i);
+            item.setSkuName("商品" + i);
+            item.setQuantity(i + 1);
+            item.setUnitPrice(BigDecimal.valueOf(1999 + i, 2));
+            item.setGift(i % 5 == 0);
+            items.add(item);
+        }
+        order.setItems(items);
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("channel", "app");
+        attributes.put("remark", "请尽快发货");
+        order.setAttributes(attributes);
+        order.setCreateTime(new Date(BASE_TIME + id * 1000L));
+        order.setPayTime(LocalDateTime.of(2018, 12, 13, 9, 27, 41, 123000000).plusSeconds(id));
+        return order;
+    }
+
+    /**
+     * 生成报文对象
+     */
+    public abstract Object create();
+
+    /**
+     * 按Class转换时使用的目标类型
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * 按泛型转换时使用的目标类型
+     */
+    public TypeReference<?> getTypeReference() {
+        return this.typeReference;
+    }
+}
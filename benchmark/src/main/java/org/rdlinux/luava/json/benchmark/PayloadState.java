@@ -0,0 +1,45 @@
+package org.rdlinux.luava.json.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 各报文的对象及其驼峰、下划线、自定义时间格式的json
+ */
+@State(Scope.Benchmark)
+public class PayloadState {
+    /**
+     * 自定义时间格式, 需能被JsonDateDeserializer识别
+     */
+    public static final String DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+    @Param({"SMALL", "MEDIUM", "LARGE", "DATE_HEAVY", "GENERIC"})
+    public Payload payload;
+    public Object value;
+    public String json;
+    public byte[] jsonBytes;
+    public String snakeCaseJson;
+    public String patternJson;
+    public Class<?> type;
+    public JavaType javaType;
+    public Type genericType;
+
+    @Setup
+    public void setup() {
+        this.value = this.payload.create();
+        this.json = JacksonUtils.toJsonString(this.value);
+        this.jsonBytes = this.json.getBytes(StandardCharsets.UTF_8);
+        this.snakeCaseJson = JacksonUtils.toSnakeCaseJsonString(this.value);
+        this.patternJson = JacksonUtils.toJsonString(this.value, DATE_PATTERN);
+        this.type = this.payload.getType();
+        this.genericType = this.payload.getTypeReference().getType();
+        this.javaType = TypeFactory.defaultInstance().constructType(this.genericType);
+    }
+}
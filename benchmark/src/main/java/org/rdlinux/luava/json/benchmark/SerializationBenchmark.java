@@ -0,0 +1,75 @@
+package org.rdlinux.luava.json.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 序列化入口的吞吐量及内存分配
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+    @Benchmark
+    public String toJsonString(PayloadState state) {
+        return JacksonUtils.toJsonString(state.value);
+    }
+
+    @Benchmark
+    public String toSnakeCaseJsonString(PayloadState state) {
+        return JacksonUtils.toSnakeCaseJsonString(state.value);
+    }
+
+    @Benchmark
+    public String toJsonStringWithPattern(PayloadState state) {
+        return JacksonUtils.toJsonString(state.value, PayloadState.DATE_PATTERN);
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes(PayloadState state) {
+        return JacksonUtils.toJsonBytes(state.value);
+    }
+
+    @Benchmark
+    public int writeToOutputStream(PayloadState state, Sink sink) {
+        sink.out.reset();
+        JacksonUtils.writeTo(state.value, sink.out);
+        return sink.out.size();
+    }
+
+    @Benchmark
+    public int writeToByteBuffer(PayloadState state, Sink sink) {
+        sink.buffer.clear();
+        return JacksonUtils.writeTo(state.value, sink.buffer);
+    }
+
+    /**
+     * 每个线程复用的输出目标, 只统计序列化本身的分配
+     */
+    @State(Scope.Thread)
+    public static class Sink {
+        ByteArrayOutputStream out;
+        ByteBuffer buffer;
+
+        @Setup
+        public void setup(PayloadState state) {
+            this.out = new ByteArrayOutputStream(state.jsonBytes.length * 2);
+            this.buffer = ByteBuffer.allocateDirect(state.jsonBytes.length * 2);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.rdlinux.luava.json.benchmark.model;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * 时间密集报文的单条记录
+ */
+public class DateRecord {
+    private Date createTime;
+    private Date updateTime;
+    private Date expireTime;
+    private Calendar checkTime;
+    private LocalDateTime eventTime;
+    private LocalDateTime ackTime;
+    private Boolean handled;
+
+    public Date getCreateTime() {
+        return this.createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Date getUpdateTime() {
+        return this.updateTime;
+    }
+
+    public void setUpdateTime(Date updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    public Date getExpireTime() {
+        return this.expireTime;
+    }
+
+    public void setExpireTime(Date expireTime) {
+        this.expireTime = expireTime;
+    }
+
+    public Calendar getCheckTime() {
+        return this.checkTime;
+    }
+
+    public void setCheckTime(Calendar checkTime) {
+        this.checkTime = checkTime;
+    }
+
+    public LocalDateTime getEventTime() {
+        return this.eventTime;
+    }
+
+    public void setEventTime(LocalDateTime eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    public LocalDateTime getAckTime() {
+        return this.ackTime;
+    }
+
+    public void setAckTime(LocalDateTime ackTime) {
+        this.ackTime = ackTime;
+    }
+
+    public Boolean getHandled() {
+        return this.handled;
+    }
+
+    public void setHandled(Boolean handled) {
+        this.handled = handled;
+    }
+}
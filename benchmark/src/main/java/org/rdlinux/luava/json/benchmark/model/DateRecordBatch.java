@@ -0,0 +1,27 @@
+package org.rdlinux.luava.json.benchmark.model;
+
+import java.util.List;
+
+/**
+ * 时间密集报文: 大量Date/Calendar/LocalDateTime字段
+ */
+public class DateRecordBatch {
+    private String batchNo;
+    private List<DateRecord> records;
+
+    public String getBatchNo() {
+        return this.batchNo;
+    }
+
+    public void setBatchNo(String batchNo) {
+        this.batchNo = batchNo;
+    }
+
+    public List<DateRecord> getRecords() {
+        return this.records;
+    }
+
+    public void setRecords(List<DateRecord> records) {
+        this.records = records;
+    }
+}
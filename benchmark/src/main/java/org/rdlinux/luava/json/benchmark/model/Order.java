@@ -0,0 +1,75 @@
+package org.rdlinux.luava.json.benchmark.model;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 中等报文: 嵌套对象及集合
+ */
+public class Order {
+    private Long orderId;
+    private String orderNo;
+    private User buyer;
+    private List<OrderItem> items;
+    private Map<String, String> attributes;
+    private Date createTime;
+    private LocalDateTime payTime;
+
+    public Long getOrderId() {
+        return this.orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getOrderNo() {
+        return this.orderNo;
+    }
+
+    public void setOrderNo(String orderNo) {
+        this.orderNo = orderNo;
+    }
+
+    public User getBuyer() {
+        return this.buyer;
+    }
+
+    public void setBuyer(User buyer) {
+        this.buyer = buyer;
+    }
+
+    public List<OrderItem> getItems() {
+        return this.items;
+    }
+
+    public void setItems(List<OrderItem> items) {
+        this.items = items;
+    }
+
+    public Map<String, String> getAttributes() {
+        return this.attributes;
+    }
+
+    public void setAttributes(Map<String, String> attributes) {
+        this.attributes = attributes;
+    }
+
+    public Date getCreateTime() {
+        return this.createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public LocalDateTime getPayTime() {
+        return this.payTime;
+    }
+
+    public void setPayTime(LocalDateTime payTime) {
+        this.payTime = payTime;
+    }
+}
@@ -0,0 +1,54 @@
+package org.rdlinux.luava.json.benchmark.model;
+
+import java.math.BigDecimal;
+
+/**
+ * 订单明细
+ */
+public class OrderItem {
+    private Long skuId;
+    private String skuName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+    private Boolean gift;
+
+    public Long getSkuId() {
+        return this.skuId;
+    }
+
+    public void setSkuId(Long skuId) {
+        this.skuId = skuId;
+    }
+
+    public String getSkuName() {
+        return this.skuName;
+    }
+
+    public void setSkuName(String skuName) {
+        this.skuName = skuName;
+    }
+
+    public Integer getQuantity() {
+        return this.quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return this.unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Boolean getGift() {
+        return this.gift;
+    }
+
+    public void setGift(Boolean gift) {
+        this.gift = gift;
+    }
+}
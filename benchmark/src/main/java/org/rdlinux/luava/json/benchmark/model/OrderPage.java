@@ -0,0 +1,45 @@
+package org.rdlinux.luava.json.benchmark.model;
+
+import java.util.List;
+
+/**
+ * 大报文: 分页订单列表
+ */
+public class OrderPage {
+    private Integer pageNo;
+    private Integer pageSize;
+    private Long total;
+    private List<Order> records;
+
+    public Integer getPageNo() {
+        return this.pageNo;
+    }
+
+    public void setPageNo(Integer pageNo) {
+        this.pageNo = pageNo;
+    }
+
+    public Integer getPageSize() {
+        return this.pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Long getTotal() {
+        return this.total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public List<Order> getRecords() {
+        return this.records;
+    }
+
+    public void setRecords(List<Order> records) {
+        this.records = records;
+    }
+}
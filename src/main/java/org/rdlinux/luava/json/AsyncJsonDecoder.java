@@ -0,0 +1,260 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 非阻塞的推式解码器, 调用方在数据到达时推入字节块, 解码器在值完整后立即绑定并回调, 不阻塞线程也不缓存整个报文.
+ * 背压: 每回调一个值消耗一个需求量, 需求量耗尽后暂停解析, {@link #feed}返回false, 调用方应停止读取数据,
+ * 直到通过{@link #request}补充需求量后收到{@link Listener#onReadyForInput()}回调.
+ * 所有方法线程安全, 回调在调用{@link #feed}, {@link #endOfInput}或{@link #request}的线程上执行
+ *
+ * @param <T> 值类型
+ */
+public class AsyncJsonDecoder<T> {
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final ObjectReader reader;
+    private final Mode mode;
+    private final Listener<? super T> listener;
+    private final CompletableFuture<T> completion = new CompletableFuture<>();
+    private TokenBuffer tokens;
+    private int depth;
+    private boolean started;
+    private boolean inputEnded;
+    private boolean paused;
+    private boolean draining;
+    private long demand;
+
+    /**
+     * @param objectMapper  使用的objectMapper
+     * @param type          值类型
+     * @param mode          解码模式
+     * @param listener      值的回调, {@link Mode#VALUE}模式可为null, 通过{@link #completion()}获取结果
+     * @param initialDemand 初始需求量, 不需要背压时使用{@link Long#MAX_VALUE}
+     */
+    public AsyncJsonDecoder(ObjectMapper objectMapper, JavaType type, Mode mode, Listener<? super T> listener,
+                            long initialDemand) {
+        if (listener == null && mode != Mode.VALUE) {
+            throw new IllegalArgumentException("listener is required in " + mode + " mode");
+        }
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        this.feeder = (ByteBufferFeeder) this.parser.getNonBlockingInputFeeder();
+        this.reader = JacksonUtils.reader(objectMapper, type);
+        this.mode = mode;
+        this.listener = listener;
+        this.demand = initialDemand;
+    }
+
+    /**
+     * 推入一块数据, 读取缓冲区position到limit之间的字节, 不修改缓冲区的position
+     *
+     * @param chunk 数据块, 返回false时解码器仍引用该缓冲区, 收到{@link Listener#onReadyForInput()}之前不能复用
+     * @return 是否可以继续推入数据
+     */
+    public synchronized boolean feed(ByteBuffer chunk) {
+        if (this.completion.isDone()) {
+            return true;
+        }
+        if (this.inputEnded) {
+            throw new IllegalStateException("end of input has been signaled");
+        }
+        if (this.paused || !this.feeder.needMoreInput()) {
+            throw new IllegalStateException("decoder is paused, wait for onReadyForInput before feeding");
+        }
+        try {
+            this.feeder.feedInput(chunk);
+        } catch (IOException e) {
+            this.fail(e);
+            return true;
+        }
+        this.drain();
+        return !this.paused;
+    }
+
+    /**
+     * 推入一块数据
+     *
+     * @return 是否可以继续推入数据, 返回false时解码器仍引用该数组, 收到{@link Listener#onReadyForInput()}之前不能修改
+     */
+    public boolean feed(byte[] data, int offset, int length) {
+        return this.feed(ByteBuffer.wrap(data, offset, length));
+    }
+
+    /**
+     * 通知数据已经全部推入, 剩余的值解码完成后{@link #completion()}完成
+     */
+    public synchronized void endOfInput() {
+        if (this.inputEnded) {
+            return;
+        }
+        this.inputEnded = true;
+        this.feeder.endOfInput();
+        this.drain();
+    }
+
+    /**
+     * 增加需求量, 暂停时立即继续解析已推入的数据
+     *
+     * @param n 增加的数量
+     */
+    public synchronized void request(long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("request must be positive: " + n);
+        }
+        this.demand = this.demand + n < 0 ? Long.MAX_VALUE : this.demand + n;
+        if (!this.paused) {
+            return;
+        }
+        this.paused = false;
+        this.drain();
+        if (!this.paused && !this.completion.isDone() && !this.inputEnded && this.listener != null) {
+            this.listener.onReadyForInput();
+        }
+    }
+
+    /**
+     * 解码结束时完成, {@link Mode#VALUE}模式的结果为解码出的值, 其它模式为null; 解码失败时以异常完成
+     */
+    public CompletableFuture<T> completion() {
+        return this.completion;
+    }
+
+    private void drain() {
+        if (this.draining) {
+            return;
+        }
+        this.draining = true;
+        try {
+            while (!this.completion.isDone()) {
+                if (this.depth == 0 && this.demand <= 0 && this.mode != Mode.VALUE) {
+                    this.paused = true;
+                    return;
+                }
+                JsonToken token = this.parser.nextToken();
+                if (token == JsonToken.NOT_AVAILABLE) {
+                    return;
+                }
+                if (token == null) {
+                    this.complete(null);
+                    return;
+                }
+                if (!this.started) {
+                    this.started = true;
+                    if (this.mode == Mode.ARRAY) {
+                        if (token != JsonToken.START_ARRAY) {
+                            throw new IllegalArgumentException("json is not an array, first token: " + token);
+                        }
+                        continue;
+                    }
+                }
+                if (this.depth == 0 && token == JsonToken.END_ARRAY && this.mode == Mode.ARRAY) {
+                    this.complete(null);
+                    return;
+                }
+                if (this.tokens == null) {
+                    this.tokens = new TokenBuffer(this.parser);
+                }
+                this.tokens.copyCurrentEvent(this.parser);
+                if (token.isStructStart()) {
+                    this.depth++;
+                } else if (token.isStructEnd()) {
+                    this.depth--;
+                }
+                if (this.depth == 0) {
+                    this.emit();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            this.fail(e);
+        } finally {
+            this.draining = false;
+        }
+    }
+
+    private void emit() throws IOException {
+        TokenBuffer tokens = this.tokens;
+        this.tokens = null;
+        T value;
+        try (JsonParser valueParser = tokens.asParser()) {
+            value = this.reader.readValue(valueParser);
+        }
+        if (this.mode == Mode.VALUE) {
+            if (this.listener != null) {
+                this.listener.onValue(value);
+            }
+            this.complete(value);
+            return;
+        }
+        this.demand--;
+        this.listener.onValue(value);
+    }
+
+    private void complete(T value) {
+        this.closeParser();
+        this.completion.complete(value);
+    }
+
+    private void fail(Throwable e) {
+        this.closeParser();
+        this.completion.completeExceptionally(e instanceof IllegalArgumentException ? e
+                : new IllegalArgumentException(e));
+    }
+
+    private void closeParser() {
+        this.paused = false;
+        try {
+            this.parser.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 解码模式
+     */
+    public enum Mode {
+        /**
+         * 单个根值, 如完整的请求体
+         */
+        VALUE,
+        /**
+         * 顶层数组的元素
+         */
+        ARRAY,
+        /**
+         * 以空白分隔的根值序列, 如JSON Lines(NDJSON)
+         */
+        SEQUENCE
+    }
+
+    /**
+     * 值的回调
+     *
+     * @param <T> 值类型
+     */
+    public interface Listener<T> {
+        /**
+         * 一个值解码完成
+         */
+        void onValue(T value);
+
+        /**
+         * 需求量补充后已推入的数据全部解析完成, 可以继续推入数据
+         */
+        default void onReadyForInput() {
+        }
+    }
+}
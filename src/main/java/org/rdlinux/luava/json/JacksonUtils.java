@@ -1,16 +1,43 @@
 package org.rdlinux.luava.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.rdlinux.luava.json.jackson.factory.BinaryFormat;
+import org.rdlinux.luava.json.jackson.factory.CachingObjectMapper;
 import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+import org.rdlinux.luava.json.metrics.JsonInstrumentation;
+import org.rdlinux.luava.json.metrics.JsonOperation;
 
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 public class JacksonUtils {
     /**
@@ -33,6 +60,37 @@ public class JacksonUtils {
         }
     }
 
+    /**
+     * 解析目标类型, 工厂创建的objectMapper使用其类型缓存
+     */
+    static JavaType resolveType(ObjectMapper objectMapper, Type type) {
+        if (objectMapper instanceof CachingObjectMapper) {
+            return ((CachingObjectMapper) objectMapper).resolveType(type);
+        }
+        return objectMapper.constructType(type);
+    }
+
+    static JavaType resolveType(ObjectMapper objectMapper, TypeReference<?> type) {
+        if (objectMapper instanceof CachingObjectMapper) {
+            return ((CachingObjectMapper) objectMapper).resolveType(type);
+        }
+        return objectMapper.constructType(type);
+    }
+
+    static ObjectReader reader(ObjectMapper objectMapper, JavaType type) {
+        if (objectMapper instanceof CachingObjectMapper) {
+            return ((CachingObjectMapper) objectMapper).cachedReader(type);
+        }
+        return objectMapper.readerFor(type);
+    }
+
+    private static ObjectWriter streamWriter(ObjectMapper objectMapper) {
+        if (objectMapper instanceof CachingObjectMapper) {
+            return ((CachingObjectMapper) objectMapper).cachedStreamWriter();
+        }
+        return objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
     private static Object inputStreamToString(Object obj) throws IOException {
         if (obj instanceof InputStream) {
             return StreamUtils.copyToString((InputStream) obj, StandardCharsets.UTF_8);
@@ -47,12 +105,7 @@ public class JacksonUtils {
      * @param obj 输入数据
      */
     public static String toJsonString(Object obj) {
-        try {
-            obj = inputStreamToString(obj);
-            return ObjectMapperFactory.getDefaultObjectMapper().writeValueAsString(obj);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return toJsonString(obj, ObjectMapperFactory.getDefaultObjectMapper());
     }
 
     /**
@@ -62,12 +115,7 @@ public class JacksonUtils {
      * @param datePattern 时间输出格式
      */
     public static String toJsonString(Object obj, String datePattern) {
-        try {
-            obj = inputStreamToString(obj);
-            return ObjectMapperFactory.getDefaultObjectMapper(datePattern).writeValueAsString(obj);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return toJsonString(obj, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
     }
 
     /**
@@ -76,12 +124,7 @@ public class JacksonUtils {
      * @param obj 输入数据
      */
     public static String toSnakeCaseJsonString(Object obj) {
-        try {
-            obj = inputStreamToString(obj);
-            return ObjectMapperFactory.getDefaultSnakeCaseObjectMapper().writeValueAsString(obj);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return toJsonString(obj, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
     }
 
     /**
@@ -91,273 +134,2421 @@ public class JacksonUtils {
      * @param datePattern 时间输出格式
      */
     public static String toSnakeCaseJsonString(Object obj, String datePattern) {
+        return toJsonString(obj, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    private static Class<?> typeOf(Object obj) {
+        return obj == null ? null : obj.getClass();
+    }
+
+    private static String toJsonString(Object obj, ObjectMapper objectMapper) {
+        if (!JsonInstrumentation.isEnabled()) {
+            return writeValueAsString(obj, objectMapper);
+        }
+        long start = System.nanoTime();
+        String json;
+        try {
+            json = writeValueAsString(obj, objectMapper);
+        } catch (RuntimeException e) {
+            JsonInstrumentation.record(JsonOperation.SERIALIZE, objectMapper, typeOf(obj), start, -1, e);
+            throw e;
+        }
+        JsonInstrumentation.record(JsonOperation.SERIALIZE, objectMapper, typeOf(obj), start, json.length(), null);
+        return json;
+    }
+
+    private static String writeValueAsString(Object obj, ObjectMapper objectMapper) {
         try {
             obj = inputStreamToString(obj);
-            return ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern).writeValueAsString(obj);
+            return objectMapper.writeValueAsString(obj);
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
         }
     }
 
-    private static String conversionBefore(Object data, ObjectMapper objectMapper) throws IOException {
-        data = inputStreamToString(data);
-        String stringValue;
-        if (data instanceof String) {
-            stringValue = (String) data;
-        } else {
-            stringValue = objectMapper.writeValueAsString(data);
+    private static byte[] toJsonBytes(Object obj, ObjectMapper objectMapper) {
+        if (!JsonInstrumentation.isEnabled()) {
+            return writeValueAsBytes(obj, objectMapper);
         }
-        return stringValue;
+        long start = System.nanoTime();
+        byte[] json;
+        try {
+            json = writeValueAsBytes(obj, objectMapper);
+        } catch (RuntimeException e) {
+            JsonInstrumentation.record(JsonOperation.SERIALIZE, objectMapper, typeOf(obj), start, -1, e);
+            throw e;
+        }
+        JsonInstrumentation.record(JsonOperation.SERIALIZE, objectMapper, typeOf(obj), start, json.length, null);
+        return json;
     }
 
-    /**
-     * 把一个类型的数据转换为另一个类型的数据
-     *
-     * @param data 输入数据
-     * @param type 转换的目标类型
-     */
-    public static <T> T conversion(Object data, Class<T> type) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+    private static byte[] writeValueAsBytes(Object obj, ObjectMapper objectMapper) {
         try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
+            obj = inputStreamToString(obj);
+            return objectMapper.writeValueAsBytes(obj);
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
         }
     }
 
-    /**
-     * 把一个类型的数据转换为另一个类型的数据
-     *
-     * @param data        输入数据
-     * @param type        转换的目标类型
-     *                    用于处理泛型
-     * @param datePattern 时间输出格式
-     */
-    public static <T> T conversion(Object data, Class<T> type, String datePattern) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+    private static void writeTo(Object obj, OutputStream out, ObjectMapper objectMapper) {
+        if (!JsonInstrumentation.isEnabled()) {
+            writeValue(obj, out, objectMapper);
+            return;
+        }
+        long start = System.nanoTime();
+        CountingOutputStream countingOut = new CountingOutputStream(out);
+        try {
+            writeValue(obj, countingOut, objectMapper);
+        } catch (RuntimeException e) {
+            JsonInstrumentation.record(JsonOperation.SERIALIZE, objectMapper, typeOf(obj), start, countingOut.count, e);
+            throw e;
+        }
+        JsonInstrumentation.record(JsonOperation.SERIALIZE, objectMapper, typeOf(obj), start, countingOut.count, null);
+    }
+
+    private static void writeValue(Object obj, OutputStream out, ObjectMapper objectMapper) {
         try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
+            obj = inputStreamToString(obj);
+            streamWriter(objectMapper).writeValue(out, obj);
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
         }
     }
 
+    private static int writeTo(Object obj, ByteBuffer buffer, ObjectMapper objectMapper) {
+        int start = buffer.position();
+        writeTo(obj, new ByteBufferBackedOutputStream(buffer), objectMapper);
+        return buffer.position() - start;
+    }
+
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 把数据转换为UTF-8编码的json字节, 不生成中间字符串
      *
-     * @param data 输入数据
-     * @param type 转换的目标类型
+     * @param obj 输入数据
      */
-    public static <T> T snakeCaseConversion(Object data, Class<T> type) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static byte[] toJsonBytes(Object obj) {
+        return toJsonBytes(obj, ObjectMapperFactory.getDefaultObjectMapper());
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 把数据转换为UTF-8编码的json字节, 不生成中间字符串
      *
-     * @param data        输入数据
-     * @param type        转换的目标类型
-     *                    用于处理泛型
+     * @param obj         输入数据
      * @param datePattern 时间输出格式
      */
-    public static <T> T snakeCaseConversion(Object data, Class<T> type, String datePattern) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static byte[] toJsonBytes(Object obj, String datePattern) {
+        return toJsonBytes(obj, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据
+     * 把数据转换为UTF-8编码的蛇形命名json字节, 不生成中间字符串
      *
-     * @param data 输入数据
-     * @param type 转换的目标类型,用于处理泛型
+     * @param obj 输入数据
      */
-    public static <T> T conversion(Object data, JavaType type) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static byte[] toSnakeCaseJsonBytes(Object obj) {
+        return toJsonBytes(obj, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据
+     * 把数据转换为UTF-8编码的蛇形命名json字节, 不生成中间字符串
      *
-     * @param data        输入数据
-     * @param type        转换的目标类型,用于处理泛型
+     * @param obj         输入数据
      * @param datePattern 时间输出格式
      */
-    public static <T> T conversion(Object data, JavaType type, String datePattern) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static byte[] toSnakeCaseJsonBytes(Object obj, String datePattern) {
+        return toJsonBytes(obj, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 按数据头识别二进制格式, 无法识别时按json文本处理
      *
-     * @param data 输入数据
-     * @param type 转换的目标类型, 用于处理泛型
+     * @param datePattern 时间格式, 为null时使用默认格式
      */
-    public static <T> T snakeCaseConversion(Object data, JavaType type) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
+    private static ObjectMapper detectObjectMapper(byte[] data, boolean snakeCase, String datePattern) {
+        BinaryFormat format = data == null ? null : BinaryFormat.detect(data, 0, data.length);
+        if (format == null) {
+            if (snakeCase) {
+                return datePattern == null ? ObjectMapperFactory.getDefaultSnakeCaseObjectMapper()
+                        : ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+            }
+            return datePattern == null ? ObjectMapperFactory.getDefaultObjectMapper()
+                    : ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        }
+        if (snakeCase) {
+            return datePattern == null ? ObjectMapperFactory.getBinarySnakeCaseObjectMapper(format)
+                    : ObjectMapperFactory.getBinarySnakeCaseObjectMapper(format, datePattern);
         }
+        return datePattern == null ? ObjectMapperFactory.getBinaryObjectMapper(format)
+                : ObjectMapperFactory.getBinaryObjectMapper(format, datePattern);
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 把数据转换为二进制格式, 时间、Boolean等编解码规则与json一致
      *
-     * @param data        输入数据
-     * @param type        转换的目标类型,用于处理泛型
+     * @param obj    输入数据
+     * @param format 二进制格式, 需引入对应的jackson-dataformat依赖
+     */
+    public static byte[] toBinary(Object obj, BinaryFormat format) {
+        return toJsonBytes(obj, ObjectMapperFactory.getBinaryObjectMapper(format));
+    }
+
+    /**
+     * 把数据转换为二进制格式, 时间、Boolean等编解码规则与json一致
+     *
+     * @param obj         输入数据
+     * @param format      二进制格式, 需引入对应的jackson-dataformat依赖
      * @param datePattern 时间输出格式
      */
-    public static <T> T snakeCaseConversion(Object data, JavaType type, String datePattern) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static byte[] toBinary(Object obj, BinaryFormat format, String datePattern) {
+        return toJsonBytes(obj, ObjectMapperFactory.getBinaryObjectMapper(format, datePattern));
     }
 
+    /**
+     * 把数据转换为蛇形命名的二进制格式, 时间、Boolean等编解码规则与json一致
+     *
+     * @param obj    输入数据
+     * @param format 二进制格式, 需引入对应的jackson-dataformat依赖
+     */
+    public static byte[] snakeCaseToBinary(Object obj, BinaryFormat format) {
+        return toJsonBytes(obj, ObjectMapperFactory.getBinarySnakeCaseObjectMapper(format));
+    }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据
+     * 把数据转换为蛇形命名的二进制格式, 时间、Boolean等编解码规则与json一致
      *
-     * @param data 输入数据
-     * @param type 转换的目标类型, 用于处理泛型, eg: new
-     *             TypeReference&lt;List&lt;Integer&gt;&gt;() { },
-     *             将返回List&lt;Integer&gt
+     * @param obj         输入数据
+     * @param format      二进制格式, 需引入对应的jackson-dataformat依赖
+     * @param datePattern 时间输出格式
      */
-    public static <T> T conversion(Object data, TypeReference<T> type) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static byte[] snakeCaseToBinary(Object obj, BinaryFormat format, String datePattern) {
+        return toJsonBytes(obj, ObjectMapperFactory.getBinarySnakeCaseObjectMapper(format, datePattern));
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据
+     * 把数据以UTF-8编码的json写入输出流, 写入完成后刷新但不关闭输出流
      *
-     * @param data        输入数据
-     * @param type        转换的目标类型, 用于处理泛型, eg: new
-     *                    TypeReference&lt;List&lt;Integer&gt;&gt;() { },
-     *                    将返回List&lt;Integer&gt
+     * @param obj 输入数据
+     * @param out 输出流
+     */
+    public static void writeTo(Object obj, OutputStream out) {
+        writeTo(obj, out, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 把数据以UTF-8编码的json写入输出流, 写入完成后刷新但不关闭输出流
+     *
+     * @param obj         输入数据
+     * @param out         输出流
      * @param datePattern 时间输出格式
      */
-    public static <T> T conversion(Object data, TypeReference<T> type, String datePattern) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static void writeTo(Object obj, OutputStream out, String datePattern) {
+        writeTo(obj, out, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据
+     * 把数据以UTF-8编码的蛇形命名json写入输出流, 写入完成后刷新但不关闭输出流
      *
-     * @param data 输入数据
-     * @param type 转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param obj 输入数据
+     * @param out 输出流
      */
-    public static <T> T conversion(Object data, Type type) {
-        return conversion(data, getJavaType(type));
+    public static void snakeCaseWriteTo(Object obj, OutputStream out) {
+        writeTo(obj, out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据
+     * 把数据以UTF-8编码的蛇形命名json写入输出流, 写入完成后刷新但不关闭输出流
      *
-     * @param data        输入数据
-     * @param type        转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param obj         输入数据
+     * @param out         输出流
      * @param datePattern 时间输出格式
      */
-    public static <T> T conversion(Object data, Type type, String datePattern) {
-        return conversion(data, getJavaType(type), datePattern);
+    public static void snakeCaseWriteTo(Object obj, OutputStream out, String datePattern) {
+        writeTo(obj, out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 把数据以UTF-8编码的json写入缓冲区, 从缓冲区当前位置开始写入, 支持堆外缓冲区
      *
-     * @param data 输入数据
-     * @param type 转换的目标类型, 用于处理泛型, eg: new
-     *             TypeReference&lt;List&lt;Integer&gt;&gt;() { },
-     *             将返回List&lt;Integer&gt
+     * @param obj    输入数据
+     * @param buffer 目标缓冲区, 剩余空间不足时抛出{@link java.nio.BufferOverflowException}
+     * @return 写入的字节数
      */
-    public static <T> T snakeCaseConversion(Object data, TypeReference<T> type) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static int writeTo(Object obj, ByteBuffer buffer) {
+        return writeTo(obj, buffer, ObjectMapperFactory.getDefaultObjectMapper());
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 把数据以UTF-8编码的json写入缓冲区, 从缓冲区当前位置开始写入, 支持堆外缓冲区
      *
-     * @param data        输入数据
-     * @param type        转换的目标类型, 用于处理泛型, eg: new
-     *                    TypeReference&lt;List&lt;Integer&gt;&gt;() { },
-     *                    将返回List&lt;Integer&gt
+     * @param obj         输入数据
+     * @param buffer      目标缓冲区, 剩余空间不足时抛出{@link java.nio.BufferOverflowException}
      * @param datePattern 时间输出格式
+     * @return 写入的字节数
      */
-    public static <T> T snakeCaseConversion(Object data, TypeReference<T> type, String datePattern) {
-        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
-        try {
-            String stringValue = conversionBefore(data, objectMapper);
-            return objectMapper.readValue(stringValue, type);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static int writeTo(Object obj, ByteBuffer buffer, String datePattern) {
+        return writeTo(obj, buffer, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 把数据以UTF-8编码的蛇形命名json写入缓冲区, 从缓冲区当前位置开始写入, 支持堆外缓冲区
      *
-     * @param data 输入数据
-     * @param type 转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param obj    输入数据
+     * @param buffer 目标缓冲区, 剩余空间不足时抛出{@link java.nio.BufferOverflowException}
+     * @return 写入的字节数
      */
-    public static <T> T snakeCaseConversion(Object data, Type type) {
-        return snakeCaseConversion(data, getJavaType(type));
+    public static int snakeCaseWriteTo(Object obj, ByteBuffer buffer) {
+        return writeTo(obj, buffer, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
     }
 
     /**
-     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     * 把数据以UTF-8编码的蛇形命名json写入缓冲区, 从缓冲区当前位置开始写入, 支持堆外缓冲区
      *
-     * @param data        输入数据
-     * @param type        转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param obj         输入数据
+     * @param buffer      目标缓冲区, 剩余空间不足时抛出{@link java.nio.BufferOverflowException}
      * @param datePattern 时间输出格式
+     * @return 写入的字节数
      */
-    public static <T> T snakeCaseConversion(Object data, Type type, String datePattern) {
-        return snakeCaseConversion(data, getJavaType(type), datePattern);
+    public static int snakeCaseWriteTo(Object obj, ByteBuffer buffer, String datePattern) {
+        return writeTo(obj, buffer, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 为字符串、字节或字符输入创建解析器, 输入流按字节增量读取, 不会先复制为字符串, 也不会关闭调用方的流
+     *
+     * @param objectMapper 使用的objectMapper
+     * @param data         输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}
+     * @return 不支持的输入类型返回null
+     */
+    private static JsonParser createParser(ObjectMapper objectMapper, Object data) throws IOException {
+        JsonFactory factory = objectMapper.getFactory();
+        JsonParser parser;
+        if (data instanceof String) {
+            parser = factory.createParser((String) data);
+        } else if (data instanceof byte[]) {
+            parser = factory.createParser((byte[]) data);
+        } else if (data instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) data;
+            if (buffer.hasArray()) {
+                parser = factory.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                        buffer.remaining());
+            } else {
+                parser = factory.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+            }
+        } else if (data instanceof InputStream) {
+            parser = factory.createParser((InputStream) data);
+        } else if (data instanceof Reader) {
+            parser = factory.createParser((Reader) data);
+        } else {
+            return null;
+        }
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return parser;
+    }
+
+    /**
+     * 转换数据, 字符串及字节输入直接解析, 其它对象通过内存中的token缓冲直接绑定到目标类型, 不再生成中间json字符串
+     *
+     * @param data         输入数据
+     * @param objectMapper 使用的objectMapper
+     * @param type         转换的目标类型
+     */
+    static <T> T doConversion(Object data, ObjectMapper objectMapper, JavaType type) {
+        return doConversion(data, objectMapper, type, null);
+    }
+
+    /**
+     * 转换数据
+     *
+     * @param data         输入数据
+     * @param objectMapper 使用的objectMapper
+     * @param type         转换的目标类型
+     * @param properties   只绑定的属性, 为null时绑定全部属性
+     */
+    private static <T> T doConversion(Object data, ObjectMapper objectMapper, JavaType type, Set<String> properties) {
+        if (!JsonInstrumentation.isEnabled()) {
+            return readValue(data, objectMapper, type, properties);
+        }
+        long start = System.nanoTime();
+        JsonOperation operation = JsonOperation.DESERIALIZE;
+        long size = -1;
+        CountingInputStream countingIn = null;
+        if (data instanceof String) {
+            size = ((String) data).length();
+        } else if (data instanceof byte[]) {
+            size = ((byte[]) data).length;
+        } else if (data instanceof ByteBuffer) {
+            size = ((ByteBuffer) data).remaining();
+        } else if (data instanceof InputStream) {
+            countingIn = new CountingInputStream((InputStream) data);
+            data = countingIn;
+        } else if (!(data instanceof Reader)) {
+            operation = JsonOperation.CONVERT;
+        }
+        T value;
+        try {
+            value = readValue(data, objectMapper, type, properties);
+        } catch (RuntimeException e) {
+            JsonInstrumentation.record(operation, objectMapper, type.getRawClass(), start,
+                    countingIn == null ? size : countingIn.count, e);
+            throw e;
+        }
+        JsonInstrumentation.record(operation, objectMapper, type.getRawClass(), start,
+                countingIn == null ? size : countingIn.count, null);
+        return value;
+    }
+
+    private static <T> T readValue(Object data, ObjectMapper objectMapper, JavaType type, Set<String> properties) {
+        try (JsonParser parser = createParser(objectMapper, data)) {
+            if (parser == null) {
+                if (properties == null) {
+                    return objectMapper.convertValue(data, type);
+                }
+                TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+                objectMapper.writeValue(tokens, data);
+                try (JsonParser tokenParser = tokens.asParser()) {
+                    return projectingMapper(objectMapper).readProjected(tokenParser, type, properties);
+                }
+            }
+            if (properties == null) {
+                return reader(objectMapper, type).readValue(parser);
+            }
+            return projectingMapper(objectMapper).readProjected(parser, type, properties);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static CachingObjectMapper projectingMapper(ObjectMapper objectMapper) {
+        if (!(objectMapper instanceof CachingObjectMapper)) {
+            throw new IllegalArgumentException("projection requires a " + CachingObjectMapper.class.getSimpleName());
+        }
+        return (CachingObjectMapper) objectMapper;
+    }
+
+    /**
+     * 打开json值序列的游标, 从文件读取时游标持有并负责关闭文件
+     *
+     * @param source       输入数据
+     * @param objectMapper 使用的objectMapper
+     * @param type         值类型
+     * @param factory      游标的构造方法
+     */
+    private static <T, C extends JsonCursor<T>> C openCursor(Object source, ObjectMapper objectMapper, JavaType type,
+                                                             CursorFactory<T, C> factory) {
+        InputStream file = null;
+        try {
+            if (source instanceof Path) {
+                file = Files.newInputStream((Path) source);
+                source = file;
+            }
+            JsonParser parser = createParser(objectMapper, source);
+            if (parser == null) {
+                throw new IllegalArgumentException("unsupported json source: " + source.getClass().getName());
+            }
+            return factory.create(parser, reader(objectMapper, type), file);
+        } catch (IOException e) {
+            closeQuietly(file);
+            throw new IllegalArgumentException(e);
+        } catch (RuntimeException e) {
+            closeQuietly(file);
+            throw e;
+        }
+    }
+
+    private static <T> JsonArrayCursor<T> doReadArray(Object source, ObjectMapper objectMapper, JavaType type) {
+        return openCursor(source, objectMapper, type, JsonArrayCursor<T>::new);
+    }
+
+    private static <T> JsonLinesReader<T> doReadLines(Object source, ObjectMapper objectMapper, JavaType type) {
+        return openCursor(source, objectMapper, type, JsonLinesReader<T>::new);
+    }
+
+    private static long doWriteLines(Iterator<?> values, OutputStream out, ObjectMapper objectMapper) {
+        try (JsonLinesWriter writer = new JsonLinesWriter(out, streamWriter(objectMapper),
+                JsonLinesWriter.DEFAULT_BATCH_SIZE)) {
+            return writer.writeAll(values).getCount();
+        }
+    }
+
+    private static long doWriteArray(Iterator<?> values, OutputStream out, ObjectMapper objectMapper) {
+        try (JsonArrayWriter writer = new JsonArrayWriter(out, streamWriter(objectMapper),
+                JsonArrayWriter.DEFAULT_BATCH_SIZE)) {
+            return writer.writeAll(values).getCount();
+        }
+    }
+
+    /**
+     * 打开输入数据的解析器, 字符串及字节输入直接解析, 其它对象按objectMapper的规则写入内存中的token缓冲
+     */
+    private static JsonParser openParser(Object data, ObjectMapper objectMapper) throws IOException {
+        JsonParser parser = createParser(objectMapper, data);
+        if (parser != null) {
+            return parser;
+        }
+        TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(tokens, data);
+        return tokens.asParser();
+    }
+
+    /**
+     * 把数据绑定到已有对象
+     *
+     * @param data         输入数据, 为null时不修改目标
+     * @param target       目标对象
+     * @param objectMapper 使用的objectMapper
+     */
+    private static <T> T doUpdate(Object data, T target, ObjectMapper objectMapper) {
+        if (target == null) {
+            throw new IllegalArgumentException("target can not be null");
+        }
+        if (data == null) {
+            return target;
+        }
+        JavaType type = resolveType(objectMapper, target.getClass());
+        try (JsonParser parser = openParser(data, objectMapper)) {
+            return reader(objectMapper, type).withValueToUpdate(target).readValue(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 按RFC 7386合并补丁
+     *
+     * @param patch        补丁, 为null时不修改目标
+     * @param target       目标对象
+     * @param objectMapper 使用的objectMapper
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T doMergePatch(Object patch, T target, ObjectMapper objectMapper) {
+        if (target == null) {
+            throw new IllegalArgumentException("target can not be null");
+        }
+        if (patch == null) {
+            return target;
+        }
+        JavaType type = resolveType(objectMapper, target.getClass());
+        try (JsonParser parser = openParser(patch, objectMapper)) {
+            return (T) JsonMergePatch.apply(objectMapper, parser, target, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 深拷贝, 对象写入内存中的token缓冲后按目标类型读回, 不生成中间json字符串;
+     * 数字等标量以原始值缓冲, 包含规则及时间格式与序列化一致
+     */
+    private static <T> T doDeepCopy(Object obj, ObjectMapper objectMapper, JavaType type) {
+        if (obj == null) {
+            return null;
+        }
+        if (!JsonInstrumentation.isEnabled()) {
+            return copyValue(obj, objectMapper, type);
+        }
+        long start = System.nanoTime();
+        T copy;
+        try {
+            copy = copyValue(obj, objectMapper, type);
+        } catch (RuntimeException e) {
+            JsonInstrumentation.record(JsonOperation.CONVERT, objectMapper, type.getRawClass(), start, -1, e);
+            throw e;
+        }
+        JsonInstrumentation.record(JsonOperation.CONVERT, objectMapper, type.getRawClass(), start, -1, null);
+        return copy;
+    }
+
+    private static <T> T copyValue(Object obj, ObjectMapper objectMapper, JavaType type) {
+        TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+        try {
+            streamWriter(objectMapper).writeValue(tokens, obj);
+            try (JsonParser parser = tokens.asParser()) {
+                return reader(objectMapper, type).readValue(parser);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 建立文档视图, 文档按UTF-8字节索引, 字符串及流先转换为字节
+     *
+     * @param source       输入数据
+     * @param objectMapper 使用的objectMapper
+     */
+    private static JsonDocument doDocument(Object source, ObjectMapper objectMapper) {
+        if (source == null) {
+            return null;
+        }
+        byte[] data;
+        int offset = 0;
+        int length;
+        try {
+            if (source instanceof byte[]) {
+                data = (byte[]) source;
+                length = data.length;
+            } else if (source instanceof String) {
+                data = ((String) source).getBytes(StandardCharsets.UTF_8);
+                length = data.length;
+            } else if (source instanceof ByteBuffer) {
+                ByteBuffer buffer = (ByteBuffer) source;
+                length = buffer.remaining();
+                if (buffer.hasArray()) {
+                    data = buffer.array();
+                    offset = buffer.arrayOffset() + buffer.position();
+                } else {
+                    data = new byte[length];
+                    buffer.duplicate().get(data);
+                }
+            } else if (source instanceof InputStream) {
+                data = StreamUtils.copyToByteArray((InputStream) source);
+                length = data.length;
+            } else if (source instanceof Path) {
+                data = Files.readAllBytes((Path) source);
+                length = data.length;
+            } else {
+                throw new IllegalArgumentException("unsupported json source: " + source.getClass().getName());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return JsonDocument.parse(objectMapper, data, offset, length);
+    }
+
+    /**
+     * 按路径提取值, 只绑定匹配的值, 其余部分在token层面跳过
+     *
+     * @param source       输入数据
+     * @param path         路径
+     * @param objectMapper 使用的objectMapper
+     * @param type         值类型
+     * @param limit        最多提取的数量
+     */
+    private static <T> List<T> doExtract(Object source, JsonPath path, ObjectMapper objectMapper, JavaType type,
+                                         int limit) {
+        InputStream file = null;
+        try {
+            if (source instanceof Path) {
+                file = Files.newInputStream((Path) source);
+                source = file;
+            }
+            try (JsonParser parser = createParser(objectMapper, source)) {
+                if (parser == null) {
+                    throw new IllegalArgumentException("unsupported json source: " + source.getClass().getName());
+                }
+                List<T> values = new ArrayList<>(limit == 1 ? 1 : 10);
+                path.extract(parser, reader(objectMapper, type), limit, values);
+                return values;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        } finally {
+            closeQuietly(file);
+        }
+    }
+
+    private static <T> T doExtractFirst(Object source, JsonPath path, ObjectMapper objectMapper, JavaType type) {
+        List<T> values = doExtract(source, path, objectMapper, type, 1);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型
+     */
+    public static <T> T conversion(Object data, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型
+     *                    用于处理泛型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T conversion(Object data, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型
+     */
+    public static <T> T snakeCaseConversion(Object data, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型
+     *                    用于处理泛型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseConversion(Object data, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型,用于处理泛型
+     */
+    public static <T> T conversion(Object data, JavaType type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doConversion(data, objectMapper, type);
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型,用于处理泛型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T conversion(Object data, JavaType type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doConversion(data, objectMapper, type);
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型, 用于处理泛型
+     */
+    public static <T> T snakeCaseConversion(Object data, JavaType type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doConversion(data, objectMapper, type);
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型,用于处理泛型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseConversion(Object data, JavaType type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doConversion(data, objectMapper, type);
+    }
+
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型, 用于处理泛型, eg: new
+     *             TypeReference&lt;List&lt;Integer&gt;&gt;() { },
+     *             将返回List&lt;Integer&gt
+     */
+    public static <T> T conversion(Object data, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 用于处理泛型, eg: new
+     *                    TypeReference&lt;List&lt;Integer&gt;&gt;() { },
+     *                    将返回List&lt;Integer&gt
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T conversion(Object data, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     */
+    public static <T> T conversion(Object data, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T conversion(Object data, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型, 用于处理泛型, eg: new
+     *             TypeReference&lt;List&lt;Integer&gt;&gt;() { },
+     *             将返回List&lt;Integer&gt
+     */
+    public static <T> T snakeCaseConversion(Object data, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 用于处理泛型, eg: new
+     *                    TypeReference&lt;List&lt;Integer&gt;&gt;() { },
+     *                    将返回List&lt;Integer&gt
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseConversion(Object data, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data 输入数据
+     * @param type 转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     */
+    public static <T> T snakeCaseConversion(Object data, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把一个类型的数据转换为另一个类型的数据, 使用下划线风格
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseConversion(Object data, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型
+     *
+     * @param data Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type 转换的目标类型
+     */
+    public static <T> T fromBinary(byte[] data, Class<T> type) {
+        ObjectMapper objectMapper = detectObjectMapper(data, false, null);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型
+     *
+     * @param data        Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type        转换的目标类型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T fromBinary(byte[] data, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = detectObjectMapper(data, false, datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型
+     *
+     * @param data Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type 转换的目标类型, 用于处理泛型
+     */
+    public static <T> T fromBinary(byte[] data, TypeReference<T> type) {
+        ObjectMapper objectMapper = detectObjectMapper(data, false, null);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型
+     *
+     * @param data        Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type        转换的目标类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T fromBinary(byte[] data, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = detectObjectMapper(data, false, datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型
+     *
+     * @param data Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type 转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     */
+    public static <T> T fromBinary(byte[] data, Type type) {
+        ObjectMapper objectMapper = detectObjectMapper(data, false, null);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型
+     *
+     * @param data        Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type        转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T fromBinary(byte[] data, Type type, String datePattern) {
+        ObjectMapper objectMapper = detectObjectMapper(data, false, datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型, 使用下划线风格
+     *
+     * @param data Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type 转换的目标类型
+     */
+    public static <T> T snakeCaseFromBinary(byte[] data, Class<T> type) {
+        ObjectMapper objectMapper = detectObjectMapper(data, true, null);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型, 使用下划线风格
+     *
+     * @param data        Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type        转换的目标类型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseFromBinary(byte[] data, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = detectObjectMapper(data, true, datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型, 使用下划线风格
+     *
+     * @param data Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type 转换的目标类型, 用于处理泛型
+     */
+    public static <T> T snakeCaseFromBinary(byte[] data, TypeReference<T> type) {
+        ObjectMapper objectMapper = detectObjectMapper(data, true, null);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型, 使用下划线风格
+     *
+     * @param data        Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type        转换的目标类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseFromBinary(byte[] data, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = detectObjectMapper(data, true, datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型, 使用下划线风格
+     *
+     * @param data Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type 转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     */
+    public static <T> T snakeCaseFromBinary(byte[] data, Type type) {
+        ObjectMapper objectMapper = detectObjectMapper(data, true, null);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把二进制格式的数据转换为目标类型, 使用下划线风格
+     *
+     * @param data        Smile或CBOR数据, 按数据头识别格式, 无法识别时按json文本解析
+     * @param type        转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseFromBinary(byte[] data, Type type, String datePattern) {
+        ObjectMapper objectMapper = detectObjectMapper(data, true, datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data       输入数据
+     * @param type       转换的目标类型, 须为bean类型
+     * @param properties 只绑定的属性, java属性名或json属性名均可
+     */
+    public static <T> T conversionProjected(Object data, Class<T> type, Set<String> properties) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 须为bean类型
+     * @param properties  只绑定的属性, java属性名或json属性名均可
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T conversionProjected(Object data, Class<T> type, Set<String> properties, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data       输入数据
+     * @param type       转换的目标类型, 须为bean类型
+     * @param projection 投影接口, 只绑定接口中getter对应的属性
+     */
+    public static <T> T conversionProjected(Object data, Class<T> type, Class<?> projection) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        Set<String> properties = projectingMapper(objectMapper).projectionProperties(projection);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 须为bean类型
+     * @param projection  投影接口, 只绑定接口中getter对应的属性
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T conversionProjected(Object data, Class<T> type, Class<?> projection, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        Set<String> properties = projectingMapper(objectMapper).projectionProperties(projection);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 使用下划线风格, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data       输入数据
+     * @param type       转换的目标类型, 须为bean类型
+     * @param properties 只绑定的属性, java属性名或json属性名均可
+     */
+    public static <T> T snakeCaseConversionProjected(Object data, Class<T> type, Set<String> properties) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 使用下划线风格, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 须为bean类型
+     * @param properties  只绑定的属性, java属性名或json属性名均可
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseConversionProjected(Object data, Class<T> type, Set<String> properties,
+                                                     String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 使用下划线风格, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data       输入数据
+     * @param type       转换的目标类型, 须为bean类型
+     * @param projection 投影接口, 只绑定接口中getter对应的属性
+     */
+    public static <T> T snakeCaseConversionProjected(Object data, Class<T> type, Class<?> projection) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        Set<String> properties = projectingMapper(objectMapper).projectionProperties(projection);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据转换为目标类型, 只绑定投影的属性, 使用下划线风格, 其余属性在token层面跳过, 不会被反序列化
+     *
+     * @param data        输入数据
+     * @param type        转换的目标类型, 须为bean类型
+     * @param projection  投影接口, 只绑定接口中getter对应的属性
+     * @param datePattern 时间输出格式
+     */
+    public static <T> T snakeCaseConversionProjected(Object data, Class<T> type, Class<?> projection,
+                                                     String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        Set<String> properties = projectingMapper(objectMapper).projectionProperties(projection);
+        return doConversion(data, objectMapper, resolveType(objectMapper, type), properties);
+    }
+
+    /**
+     * 把数据绑定到已有对象, 只设置数据中出现的属性, 其它属性保持不变; 嵌套对象按jackson的更新规则整体替换, 需要逐层合并时使用mergePatch
+     *
+     * @param data   输入数据, 为null时不修改目标
+     * @param target 目标对象, 不能为null
+     * @return 目标对象
+     */
+    public static <T> T update(Object data, T target) {
+        return doUpdate(data, target, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 把数据绑定到已有对象, 只设置数据中出现的属性, 其它属性保持不变; 嵌套对象按jackson的更新规则整体替换, 需要逐层合并时使用mergePatch
+     *
+     * @param data        输入数据, 为null时不修改目标
+     * @param target      目标对象, 不能为null
+     * @param datePattern 时间输出格式
+     * @return 目标对象
+     */
+    public static <T> T update(Object data, T target, String datePattern) {
+        return doUpdate(data, target, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+    }
+
+    /**
+     * 把数据绑定到已有对象, 只设置数据中出现的属性, 其它属性保持不变; 嵌套对象按jackson的更新规则整体替换, 需要逐层合并时使用mergePatch, 使用下划线风格
+     *
+     * @param data   输入数据, 为null时不修改目标
+     * @param target 目标对象, 不能为null
+     * @return 目标对象
+     */
+    public static <T> T snakeCaseUpdate(Object data, T target) {
+        return doUpdate(data, target, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
+    }
+
+    /**
+     * 把数据绑定到已有对象, 只设置数据中出现的属性, 其它属性保持不变; 嵌套对象按jackson的更新规则整体替换, 需要逐层合并时使用mergePatch, 使用下划线风格
+     *
+     * @param data        输入数据, 为null时不修改目标
+     * @param target      目标对象, 不能为null
+     * @param datePattern 时间输出格式
+     * @return 目标对象
+     */
+    public static <T> T snakeCaseUpdate(Object data, T target, String datePattern) {
+        return doUpdate(data, target, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 按RFC 7386把补丁合并到已有对象, 嵌套的对象及Map逐层合并, null删除Map的键或把属性置为null, 数组整体替换; 只访问补丁中出现的路径
+     *
+     * @param patch  补丁, 为null时不修改目标
+     * @param target 目标对象, 不能为null
+     * @return 合并后的值, 补丁不是json对象时为补丁转换得到的新值
+     */
+    public static <T> T mergePatch(Object patch, T target) {
+        return doMergePatch(patch, target, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 按RFC 7386把补丁合并到已有对象, 嵌套的对象及Map逐层合并, null删除Map的键或把属性置为null, 数组整体替换; 只访问补丁中出现的路径
+     *
+     * @param patch       补丁, 为null时不修改目标
+     * @param target      目标对象, 不能为null
+     * @param datePattern 时间输出格式
+     * @return 合并后的值, 补丁不是json对象时为补丁转换得到的新值
+     */
+    public static <T> T mergePatch(Object patch, T target, String datePattern) {
+        return doMergePatch(patch, target, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+    }
+
+    /**
+     * 按RFC 7386把补丁合并到已有对象, 嵌套的对象及Map逐层合并, null删除Map的键或把属性置为null, 数组整体替换; 只访问补丁中出现的路径, 使用下划线风格
+     *
+     * @param patch  补丁, 为null时不修改目标
+     * @param target 目标对象, 不能为null
+     * @return 合并后的值, 补丁不是json对象时为补丁转换得到的新值
+     */
+    public static <T> T snakeCaseMergePatch(Object patch, T target) {
+        return doMergePatch(patch, target, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
+    }
+
+    /**
+     * 按RFC 7386把补丁合并到已有对象, 嵌套的对象及Map逐层合并, null删除Map的键或把属性置为null, 数组整体替换; 只访问补丁中出现的路径, 使用下划线风格
+     *
+     * @param patch       补丁, 为null时不修改目标
+     * @param target      目标对象, 不能为null
+     * @param datePattern 时间输出格式
+     * @return 合并后的值, 补丁不是json对象时为补丁转换得到的新值
+     */
+    public static <T> T snakeCaseMergePatch(Object patch, T target, String datePattern) {
+        return doMergePatch(patch, target, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 深拷贝对象, 按对象的运行时类型拷贝, 拷贝结果与转换为json后再读回一致但不生成中间json字符串
+     *
+     * @param obj 被拷贝的对象
+     * @return 拷贝结果, obj为null时返回null
+     */
+    public static <T> T deepCopy(T obj) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return obj == null ? null : doDeepCopy(obj, objectMapper, resolveType(objectMapper, obj.getClass()));
+    }
+
+    /**
+     * 深拷贝对象, 按对象的运行时类型拷贝, 拷贝结果与转换为json后再读回一致但不生成中间json字符串
+     *
+     * @param obj         被拷贝的对象
+     * @param datePattern 时间输出格式
+     * @return 拷贝结果, obj为null时返回null
+     */
+    public static <T> T deepCopy(T obj, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return obj == null ? null : doDeepCopy(obj, objectMapper, resolveType(objectMapper, obj.getClass()));
+    }
+
+    /**
+     * 深拷贝对象
+     *
+     * @param obj  被拷贝的对象
+     * @param type 拷贝结果的类型, 用于处理泛型, eg: new
+     *             TypeReference&lt;List&lt;Integer&gt;&gt;() { }
+     * @return 拷贝结果, obj为null时返回null
+     */
+    public static <T> T deepCopy(Object obj, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doDeepCopy(obj, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 深拷贝对象
+     *
+     * @param obj         被拷贝的对象
+     * @param type        拷贝结果的类型, 用于处理泛型, eg: new
+     *                    TypeReference&lt;List&lt;Integer&gt;&gt;() { }
+     * @param datePattern 时间输出格式
+     * @return 拷贝结果, obj为null时返回null
+     */
+    public static <T> T deepCopy(Object obj, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doDeepCopy(obj, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 深拷贝对象
+     *
+     * @param obj  被拷贝的对象
+     * @param type 拷贝结果的类型, 用于处理泛型
+     * @return 拷贝结果, obj为null时返回null
+     */
+    public static <T> T deepCopy(Object obj, JavaType type) {
+        return doDeepCopy(obj, ObjectMapperFactory.getDefaultObjectMapper(), type);
+    }
+
+    /**
+     * 深拷贝对象
+     *
+     * @param obj         被拷贝的对象
+     * @param type        拷贝结果的类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 拷贝结果, obj为null时返回null
+     */
+    public static <T> T deepCopy(Object obj, JavaType type, String datePattern) {
+        return doDeepCopy(obj, ObjectMapperFactory.getDefaultObjectMapper(datePattern), type);
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T extract(Object source, JsonPath path, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T extract(Object source, JsonPath path, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T extract(Object source, JsonPath path, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T extract(Object source, JsonPath path, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T extract(Object source, JsonPath path, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T extract(Object source, JsonPath path, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> extractAll(Object source, JsonPath path, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> extractAll(Object source, JsonPath path, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> extractAll(Object source, JsonPath path, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> extractAll(Object source, JsonPath path, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> extractAll(Object source, JsonPath path, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> extractAll(Object source, JsonPath path, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 使用下划线风格, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T snakeCaseExtract(Object source, JsonPath path, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 使用下划线风格, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T snakeCaseExtract(Object source, JsonPath path, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 使用下划线风格, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T snakeCaseExtract(Object source, JsonPath path, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 使用下划线风格, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T snakeCaseExtract(Object source, JsonPath path, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 使用下划线风格, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T snakeCaseExtract(Object source, JsonPath path, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取第一个匹配的值, 使用下划线风格, 只绑定匹配的值, 找到后立即停止读取
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 没有匹配时返回null
+     */
+    public static <T> T snakeCaseExtract(Object source, JsonPath path, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doExtractFirst(source, path, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 使用下划线风格, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> snakeCaseExtractAll(Object source, JsonPath path, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 使用下划线风格, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> snakeCaseExtractAll(Object source, JsonPath path, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 使用下划线风格, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> snakeCaseExtractAll(Object source, JsonPath path, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 使用下划线风格, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> snakeCaseExtractAll(Object source, JsonPath path, TypeReference<T> type,
+                                                  String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 使用下划线风格, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path   编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type   值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> snakeCaseExtractAll(Object source, JsonPath path, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按路径提取全部匹配的值, 使用下划线风格, 只绑定匹配的值, 不匹配的子树在token层面跳过
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Reader}, {@link Path}
+     * @param path        编译后的路径, 如JsonPath.compile("$.items[*].sku")
+     * @param type        值类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 匹配的值, 按在报文中出现的顺序
+     */
+    public static <T> List<T> snakeCaseExtractAll(Object source, JsonPath path, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doExtract(source, path, objectMapper, resolveType(objectMapper, type), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 扫描报文建立延迟解码的文档视图, 只在访问时解码值
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Path},
+     *               byte[]及数组实现的{@link ByteBuffer}不复制, 文档使用期间不能修改
+     * @return 输入为null时返回null
+     */
+    public static JsonDocument document(Object source) {
+        return doDocument(source, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 扫描报文建立延迟解码的文档视图, 只在访问时解码值
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Path},
+     *                    byte[]及数组实现的{@link ByteBuffer}不复制, 文档使用期间不能修改
+     * @param datePattern 时间输出格式
+     * @return 输入为null时返回null
+     */
+    public static JsonDocument document(Object source, String datePattern) {
+        return doDocument(source, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+    }
+
+    /**
+     * 扫描报文建立延迟解码的文档视图, 只在访问时解码值, 转换时使用下划线风格
+     *
+     * @param source 输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Path},
+     *               byte[]及数组实现的{@link ByteBuffer}不复制, 文档使用期间不能修改
+     * @return 输入为null时返回null
+     */
+    public static JsonDocument snakeCaseDocument(Object source) {
+        return doDocument(source, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
+    }
+
+    /**
+     * 扫描报文建立延迟解码的文档视图, 只在访问时解码值, 转换时使用下划线风格
+     *
+     * @param source      输入数据, 支持{@link String}, byte[], {@link ByteBuffer}, {@link InputStream}, {@link Path},
+     *                    byte[]及数组实现的{@link ByteBuffer}不复制, 文档使用期间不能修改
+     * @param datePattern 时间输出格式
+     * @return 输入为null时返回null
+     */
+    public static JsonDocument snakeCaseDocument(Object source, String datePattern) {
+        return doDocument(source, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   数组元素类型
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> readArray(Object source, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        数组元素类型
+     * @param datePattern 时间输出格式
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> readArray(Object source, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   数组元素类型, 用于处理泛型
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> readArray(Object source, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        数组元素类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> readArray(Object source, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   数组元素类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> readArray(Object source, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        数组元素类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> readArray(Object source, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   数组元素类型
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> snakeCaseReadArray(Object source, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        数组元素类型
+     * @param datePattern 时间输出格式
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> snakeCaseReadArray(Object source, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   数组元素类型, 用于处理泛型
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> snakeCaseReadArray(Object source, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        数组元素类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> snakeCaseReadArray(Object source, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   数组元素类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> snakeCaseReadArray(Object source, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐个读取顶层json数组的元素, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        数组元素类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 元素游标, 提前结束遍历时需关闭
+     */
+    public static <T> JsonArrayCursor<T> snakeCaseReadArray(Object source, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doReadArray(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   记录类型
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> readLines(Object source, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        记录类型
+     * @param datePattern 时间输出格式
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> readLines(Object source, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   记录类型, 用于处理泛型
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> readLines(Object source, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        记录类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> readLines(Object source, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   记录类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> readLines(Object source, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        记录类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> readLines(Object source, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   记录类型
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> snakeCaseReadLines(Object source, Class<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        记录类型
+     * @param datePattern 时间输出格式
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> snakeCaseReadLines(Object source, Class<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   记录类型, 用于处理泛型
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> snakeCaseReadLines(Object source, TypeReference<T> type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        记录类型, 用于处理泛型
+     * @param datePattern 时间输出格式
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> snakeCaseReadLines(Object source, TypeReference<T> type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source 输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type   记录类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> snakeCaseReadLines(Object source, Type type) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 逐条读取JSON Lines(NDJSON)格式的记录, 使用下划线风格, 输入不会被整体读入内存
+     *
+     * @param source      输入数据, 支持{@link InputStream}, {@link Path}, {@link Reader}, byte[], {@link ByteBuffer}, {@link String}
+     * @param type        记录类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     * @param datePattern 时间输出格式
+     * @return 记录读取器, 提前结束读取时需关闭
+     */
+    public static <T> JsonLinesReader<T> snakeCaseReadLines(Object source, Type type, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return doReadLines(source, objectMapper, resolveType(objectMapper, type));
+    }
+
+    /**
+     * 创建JSON Lines(NDJSON)写入器, 关闭写入器时不关闭输出流
+     *
+     * @param out       输出流
+     * @param batchSize 每写入多少条记录刷新一次输出流
+     */
+    public static JsonLinesWriter linesWriter(OutputStream out, int batchSize) {
+        return new JsonLinesWriter(out, streamWriter(ObjectMapperFactory.getDefaultObjectMapper()), batchSize);
+    }
+
+    /**
+     * 创建JSON Lines(NDJSON)写入器, 关闭写入器时不关闭输出流
+     *
+     * @param out            输出流
+     * @param batchSize      每写入多少条记录刷新一次输出流
+     * @param datePattern 时间输出格式
+     */
+    public static JsonLinesWriter linesWriter(OutputStream out, int batchSize, String datePattern) {
+        return new JsonLinesWriter(out, streamWriter(ObjectMapperFactory.getDefaultObjectMapper(datePattern)), batchSize);
+    }
+
+    /**
+     * 创建JSON Lines(NDJSON)写入器, 使用下划线风格, 关闭写入器时不关闭输出流
+     *
+     * @param out       输出流
+     * @param batchSize 每写入多少条记录刷新一次输出流
+     */
+    public static JsonLinesWriter snakeCaseLinesWriter(OutputStream out, int batchSize) {
+        return new JsonLinesWriter(out, streamWriter(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper()), batchSize);
+    }
+
+    /**
+     * 创建JSON Lines(NDJSON)写入器, 使用下划线风格, 关闭写入器时不关闭输出流
+     *
+     * @param out            输出流
+     * @param batchSize      每写入多少条记录刷新一次输出流
+     * @param datePattern 时间输出格式
+     */
+    public static JsonLinesWriter snakeCaseLinesWriter(OutputStream out, int batchSize, String datePattern) {
+        return new JsonLinesWriter(out, streamWriter(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern)), batchSize);
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 记录迭代器
+     * @param out    输出流
+     * @return 写入的记录数
+     */
+    public static long writeLines(Iterator<?> values, OutputStream out) {
+        return doWriteLines(values, out, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      记录迭代器
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的记录数
+     */
+    public static long writeLines(Iterator<?> values, OutputStream out, String datePattern) {
+        return doWriteLines(values, out, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 记录流, 不会被关闭
+     * @param out    输出流
+     * @return 写入的记录数
+     */
+    public static long writeLines(Stream<?> values, OutputStream out) {
+        return doWriteLines(values.iterator(), out, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      记录流, 不会被关闭
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的记录数
+     */
+    public static long writeLines(Stream<?> values, OutputStream out, String datePattern) {
+        return doWriteLines(values.iterator(), out, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 使用下划线风格, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 记录迭代器
+     * @param out    输出流
+     * @return 写入的记录数
+     */
+    public static long snakeCaseWriteLines(Iterator<?> values, OutputStream out) {
+        return doWriteLines(values, out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 使用下划线风格, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      记录迭代器
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的记录数
+     */
+    public static long snakeCaseWriteLines(Iterator<?> values, OutputStream out, String datePattern) {
+        return doWriteLines(values, out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 使用下划线风格, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 记录流, 不会被关闭
+     * @param out    输出流
+     * @return 写入的记录数
+     */
+    public static long snakeCaseWriteLines(Stream<?> values, OutputStream out) {
+        return doWriteLines(values.iterator(), out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
+    }
+
+    /**
+     * 把记录以JSON Lines(NDJSON)格式写入输出流, 使用下划线风格, 按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      记录流, 不会被关闭
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的记录数
+     */
+    public static long snakeCaseWriteLines(Stream<?> values, OutputStream out, String datePattern) {
+        return doWriteLines(values.iterator(), out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 创建json数组写入器, 关闭写入器时不关闭输出流
+     *
+     * @param out       输出流
+     * @param batchSize 每写入多少个元素刷新一次
+     */
+    public static JsonArrayWriter arrayWriter(OutputStream out, int batchSize) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultObjectMapper()), batchSize);
+    }
+
+    /**
+     * 创建json数组写入器, 关闭写入器时不关闭输出流
+     *
+     * @param out         输出流
+     * @param batchSize   每写入多少个元素刷新一次
+     * @param datePattern 时间输出格式
+     */
+    public static JsonArrayWriter arrayWriter(OutputStream out, int batchSize, String datePattern) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultObjectMapper(datePattern)), batchSize);
+    }
+
+    /**
+     * 创建json数组写入器, 关闭写入器时不关闭字符输出
+     *
+     * @param out       字符输出
+     * @param batchSize 每写入多少个元素刷新一次
+     */
+    public static JsonArrayWriter arrayWriter(Writer out, int batchSize) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultObjectMapper()), batchSize);
+    }
+
+    /**
+     * 创建json数组写入器, 关闭写入器时不关闭字符输出
+     *
+     * @param out         字符输出
+     * @param batchSize   每写入多少个元素刷新一次
+     * @param datePattern 时间输出格式
+     */
+    public static JsonArrayWriter arrayWriter(Writer out, int batchSize, String datePattern) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultObjectMapper(datePattern)), batchSize);
+    }
+
+    /**
+     * 创建json数组写入器, 使用下划线风格, 关闭写入器时不关闭输出流
+     *
+     * @param out       输出流
+     * @param batchSize 每写入多少个元素刷新一次
+     */
+    public static JsonArrayWriter snakeCaseArrayWriter(OutputStream out, int batchSize) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper()), batchSize);
+    }
+
+    /**
+     * 创建json数组写入器, 使用下划线风格, 关闭写入器时不关闭输出流
+     *
+     * @param out         输出流
+     * @param batchSize   每写入多少个元素刷新一次
+     * @param datePattern 时间输出格式
+     */
+    public static JsonArrayWriter snakeCaseArrayWriter(OutputStream out, int batchSize, String datePattern) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern)), batchSize);
+    }
+
+    /**
+     * 创建json数组写入器, 使用下划线风格, 关闭写入器时不关闭字符输出
+     *
+     * @param out       字符输出
+     * @param batchSize 每写入多少个元素刷新一次
+     */
+    public static JsonArrayWriter snakeCaseArrayWriter(Writer out, int batchSize) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper()), batchSize);
+    }
+
+    /**
+     * 创建json数组写入器, 使用下划线风格, 关闭写入器时不关闭字符输出
+     *
+     * @param out         字符输出
+     * @param batchSize   每写入多少个元素刷新一次
+     * @param datePattern 时间输出格式
+     */
+    public static JsonArrayWriter snakeCaseArrayWriter(Writer out, int batchSize, String datePattern) {
+        return new JsonArrayWriter(out, streamWriter(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern)), batchSize);
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 元素迭代器
+     * @param out    输出流
+     * @return 写入的元素数
+     */
+    public static long writeArray(Iterator<?> values, OutputStream out) {
+        return doWriteArray(values, out, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      元素迭代器
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的元素数
+     */
+    public static long writeArray(Iterator<?> values, OutputStream out, String datePattern) {
+        return doWriteArray(values, out, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 元素流, 不会被关闭
+     * @param out    输出流
+     * @return 写入的元素数
+     */
+    public static long writeArray(Stream<?> values, OutputStream out) {
+        return doWriteArray(values.iterator(), out, ObjectMapperFactory.getDefaultObjectMapper());
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      元素流, 不会被关闭
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的元素数
+     */
+    public static long writeArray(Stream<?> values, OutputStream out, String datePattern) {
+        return doWriteArray(values.iterator(), out, ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 使用下划线风格, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 元素迭代器
+     * @param out    输出流
+     * @return 写入的元素数
+     */
+    public static long snakeCaseWriteArray(Iterator<?> values, OutputStream out) {
+        return doWriteArray(values, out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 使用下划线风格, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      元素迭代器
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的元素数
+     */
+    public static long snakeCaseWriteArray(Iterator<?> values, OutputStream out, String datePattern) {
+        return doWriteArray(values, out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 使用下划线风格, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values 元素流, 不会被关闭
+     * @param out    输出流
+     * @return 写入的元素数
+     */
+    public static long snakeCaseWriteArray(Stream<?> values, OutputStream out) {
+        return doWriteArray(values.iterator(), out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper());
+    }
+
+    /**
+     * 把元素以json数组写入输出流, 使用下划线风格, 逐个序列化并按批刷新, 写入完成后不关闭输出流
+     *
+     * @param values      元素流, 不会被关闭
+     * @param out         输出流
+     * @param datePattern 时间输出格式
+     * @return 写入的元素数
+     */
+    public static long snakeCaseWriteArray(Stream<?> values, OutputStream out, String datePattern) {
+        return doWriteArray(values.iterator(), out, ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+    }
+
+    /**
+     * 创建在公共ForkJoinPool上并行解析大文件的读取器
+     */
+    public static ParallelJsonReader parallelReader() {
+        return new ParallelJsonReader(ObjectMapperFactory.getDefaultObjectMapper(), ForkJoinPool.commonPool(),
+                ParallelJsonReader.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 创建在公共ForkJoinPool上并行解析大文件的读取器
+     *
+     * @param datePattern 时间输出格式
+     */
+    public static ParallelJsonReader parallelReader(String datePattern) {
+        return new ParallelJsonReader(ObjectMapperFactory.getDefaultObjectMapper(datePattern), ForkJoinPool.commonPool(),
+                ParallelJsonReader.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 创建在公共ForkJoinPool上并行解析大文件的读取器, 使用下划线风格
+     */
+    public static ParallelJsonReader snakeCaseParallelReader() {
+        return new ParallelJsonReader(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(), ForkJoinPool.commonPool(),
+                ParallelJsonReader.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 创建在公共ForkJoinPool上并行解析大文件的读取器, 使用下划线风格
+     *
+     * @param datePattern 时间输出格式
+     */
+    public static ParallelJsonReader snakeCaseParallelReader(String datePattern) {
+        return new ParallelJsonReader(ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern), ForkJoinPool.commonPool(),
+                ParallelJsonReader.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 不限制需求量
+     *
+     * @param type     值类型
+     * @param mode     解码模式
+     * @param listener 值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     */
+    public static <T> AsyncJsonDecoder<T> asyncDecoder(Class<T> type, AsyncJsonDecoder.Mode mode,
+                                                       AsyncJsonDecoder.Listener<? super T> listener) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 不限制需求量
+     *
+     * @param type          值类型
+     * @param mode          解码模式
+     * @param listener      值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     * @param datePattern 时间输出格式
+     */
+    public static <T> AsyncJsonDecoder<T> asyncDecoder(Class<T> type, AsyncJsonDecoder.Mode mode,
+                                                       AsyncJsonDecoder.Listener<? super T> listener, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 不限制需求量
+     *
+     * @param type     值类型, 用于处理泛型
+     * @param mode     解码模式
+     * @param listener 值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     */
+    public static <T> AsyncJsonDecoder<T> asyncDecoder(TypeReference<T> type, AsyncJsonDecoder.Mode mode,
+                                                       AsyncJsonDecoder.Listener<? super T> listener) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper();
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 不限制需求量
+     *
+     * @param type          值类型, 用于处理泛型
+     * @param mode          解码模式
+     * @param listener      值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     * @param datePattern 时间输出格式
+     */
+    public static <T> AsyncJsonDecoder<T> asyncDecoder(TypeReference<T> type, AsyncJsonDecoder.Mode mode,
+                                                       AsyncJsonDecoder.Listener<? super T> listener, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultObjectMapper(datePattern);
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 使用下划线风格, 不限制需求量
+     *
+     * @param type     值类型
+     * @param mode     解码模式
+     * @param listener 值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     */
+    public static <T> AsyncJsonDecoder<T> snakeCaseAsyncDecoder(Class<T> type, AsyncJsonDecoder.Mode mode,
+                                                                AsyncJsonDecoder.Listener<? super T> listener) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 使用下划线风格, 不限制需求量
+     *
+     * @param type          值类型
+     * @param mode          解码模式
+     * @param listener      值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     * @param datePattern 时间输出格式
+     */
+    public static <T> AsyncJsonDecoder<T> snakeCaseAsyncDecoder(Class<T> type, AsyncJsonDecoder.Mode mode,
+                                                                AsyncJsonDecoder.Listener<? super T> listener, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 使用下划线风格, 不限制需求量
+     *
+     * @param type     值类型, 用于处理泛型
+     * @param mode     解码模式
+     * @param listener 值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     */
+    public static <T> AsyncJsonDecoder<T> snakeCaseAsyncDecoder(TypeReference<T> type, AsyncJsonDecoder.Mode mode,
+                                                                AsyncJsonDecoder.Listener<? super T> listener) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper();
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * 创建非阻塞的推式解码器, 使用下划线风格, 不限制需求量
+     *
+     * @param type          值类型, 用于处理泛型
+     * @param mode          解码模式
+     * @param listener      值的回调, {@link AsyncJsonDecoder.Mode#VALUE}模式可为null
+     * @param datePattern 时间输出格式
+     */
+    public static <T> AsyncJsonDecoder<T> snakeCaseAsyncDecoder(TypeReference<T> type, AsyncJsonDecoder.Mode mode,
+                                                                AsyncJsonDecoder.Listener<? super T> listener, String datePattern) {
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        return new AsyncJsonDecoder<>(objectMapper, resolveType(objectMapper, type), mode, listener, Long.MAX_VALUE);
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = this.in.read();
+            if (b != -1) {
+                this.count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = this.in.read(b, off, len);
+            if (n > 0) {
+                this.count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = this.in.skip(n);
+            this.count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * 游标的构造方法
+     */
+    private interface CursorFactory<T, C extends JsonCursor<T>> {
+        C create(JsonParser parser, ObjectReader reader, Closeable source);
     }
 }
@@ -0,0 +1,43 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 顶层json数组的游标, 每次只解析并绑定一个元素
+ *
+ * @param <T> 元素类型
+ */
+public class JsonArrayCursor<T> extends JsonCursor<T> {
+    /**
+     * @param parser 解析器, 尚未读取任何token
+     * @param reader 元素类型的reader
+     * @param source 游标持有的输入源, 关闭游标时一并关闭, 为null表示输入源由调用方管理
+     */
+    JsonArrayCursor(JsonParser parser, ObjectReader reader, Closeable source) {
+        super(parser, reader, source);
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                this.finish();
+            } else if (token != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("json is not an array, first token: " + token);
+            }
+        } catch (IOException e) {
+            this.close();
+            throw new IllegalArgumentException(e);
+        } catch (RuntimeException e) {
+            this.close();
+            throw e;
+        }
+    }
+
+    @Override
+    boolean isEnd(JsonToken token) {
+        return token == null || token == JsonToken.END_ARRAY;
+    }
+}
@@ -0,0 +1,227 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * json数组写入器, 逐个写入元素, 经生成器缓冲后按批刷新到输出目标, 内存占用与元素总数无关.
+ * 可通过{@link #withEnvelope}把数组作为外层对象的一个属性输出, 如分页结果的记录列表.
+ * 关闭时输出数组及外层对象的结束符并刷新, 但不关闭输出目标; 写入失败后关闭时不输出结束符, 接收方可据此识别报文不完整
+ */
+public class JsonArrayWriter implements Closeable, Flushable {
+    /**
+     * 默认每写入多少个元素刷新一次
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private final int batchSize;
+    private Object envelope;
+    private String fieldName;
+    private boolean started;
+    private boolean failed;
+    private boolean closed;
+    private int unflushedCount;
+    private long count;
+
+    /**
+     * @param out       输出流
+     * @param writer    不关闭输出目标的writer
+     * @param batchSize 每写入多少个元素刷新一次
+     */
+    JsonArrayWriter(OutputStream out, ObjectWriter writer, int batchSize) {
+        this(writer, batchSize, out, null);
+    }
+
+    /**
+     * @param out       字符输出
+     * @param writer    不关闭输出目标的writer
+     * @param batchSize 每写入多少个元素刷新一次
+     */
+    JsonArrayWriter(Writer out, ObjectWriter writer, int batchSize) {
+        this(writer, batchSize, null, out);
+    }
+
+    private JsonArrayWriter(ObjectWriter writer, int batchSize, OutputStream out, Writer charOut) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.writer = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = batchSize;
+        try {
+            this.generator = out != null ? this.writer.createGenerator(out) : this.writer.createGenerator(charOut);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        // 失败时不自动补全结束符
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    }
+
+    /**
+     * 把数组作为外层对象的属性输出, 须在写入第一个元素之前调用.
+     * 外层对象按正常规则序列化, 数组属性输出在其它属性之后, 外层对象中的同名属性被忽略
+     *
+     * @param envelope  外层对象, 须序列化为json对象
+     * @param fieldName 数组的属性名, 按原样输出, 不做命名风格转换
+     */
+    public JsonArrayWriter withEnvelope(Object envelope, String fieldName) {
+        if (this.started) {
+            throw new IllegalStateException("envelope must be set before writing elements");
+        }
+        if (envelope == null || fieldName == null) {
+            throw new IllegalArgumentException("envelope and fieldName can not be null");
+        }
+        this.envelope = envelope;
+        this.fieldName = fieldName;
+        return this;
+    }
+
+    /**
+     * 写入一个元素
+     */
+    public JsonArrayWriter write(Object value) {
+        this.ensureOpen();
+        try {
+            this.start();
+            this.writer.writeValue(this.generator, value);
+        } catch (IOException | RuntimeException e) {
+            this.failed = true;
+            throw e instanceof IllegalArgumentException ? (IllegalArgumentException) e
+                    : new IllegalArgumentException(e);
+        }
+        this.count++;
+        if (++this.unflushedCount >= this.batchSize) {
+            this.flush();
+        }
+        return this;
+    }
+
+    /**
+     * 写入迭代器中的所有元素
+     */
+    public JsonArrayWriter writeAll(Iterator<?> values) {
+        while (values.hasNext()) {
+            this.write(values.next());
+        }
+        return this;
+    }
+
+    /**
+     * 写入流中的所有元素, 不关闭流
+     */
+    public JsonArrayWriter writeAll(Stream<?> values) {
+        return this.writeAll(values.iterator());
+    }
+
+    /**
+     * 逐页获取并写入元素, 每页写完后刷新, 上一页写出后才获取下一页
+     *
+     * @param pages 每次调用返回下一页, 返回null或空集合时结束
+     */
+    public JsonArrayWriter writePages(Supplier<? extends Collection<?>> pages) {
+        Collection<?> page;
+        while ((page = pages.get()) != null && !page.isEmpty()) {
+            for (Object value : page) {
+                this.write(value);
+            }
+            this.flush();
+        }
+        return this;
+    }
+
+    /**
+     * 已写入的元素数
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public void flush() {
+        this.unflushedCount = 0;
+        try {
+            this.generator.flush();
+        } catch (IOException e) {
+            this.failed = true;
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 输出结束符并刷新剩余数据, 不关闭输出目标
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            if (!this.failed) {
+                this.start();
+                this.generator.writeEndArray();
+                if (this.envelope != null) {
+                    this.generator.writeEndObject();
+                }
+            }
+            this.generator.close();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("writer has been closed");
+        }
+    }
+
+    private void start() throws IOException {
+        if (this.started) {
+            return;
+        }
+        this.started = true;
+        if (this.envelope != null) {
+            this.writeEnvelopeFields();
+            this.generator.writeFieldName(this.fieldName);
+        }
+        this.generator.writeStartArray();
+    }
+
+    /**
+     * 输出外层对象的开始符及其属性, 不输出结束符
+     */
+    private void writeEnvelopeFields() throws IOException {
+        TokenBuffer tokens = new TokenBuffer(null, false);
+        this.writer.writeValue(tokens, this.envelope);
+        try (JsonParser parser = tokens.asParser()) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("envelope is not serialized as json object: "
+                        + this.envelope.getClass().getName());
+            }
+            this.generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (this.fieldName.equals(parser.currentName())) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                } else {
+                    this.generator.copyCurrentStructure(parser);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * json值序列的游标, 每次只解析并绑定一个值, 内存占用与单个值的大小相当.
+ * 读到序列结束时自动关闭, 提前结束遍历时需调用{@link #close()}
+ *
+ * @param <T> 值类型
+ */
+public abstract class JsonCursor<T> implements Iterator<T>, Closeable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final Closeable source;
+    /**
+     * 解析器是否已经指向下一个值的起始token
+     */
+    private boolean pending;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * @param parser 解析器
+     * @param reader 值类型的reader
+     * @param source 游标持有的输入源, 关闭游标时一并关闭, 为null表示输入源由调用方管理
+     */
+    JsonCursor(JsonParser parser, ObjectReader reader, Closeable source) {
+        this.parser = parser;
+        this.reader = reader;
+        this.source = source;
+    }
+
+    /**
+     * 判断读到的token是否表示序列结束
+     */
+    abstract boolean isEnd(JsonToken token);
+
+    void finish() {
+        this.finished = true;
+        this.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.pending) {
+            return true;
+        }
+        if (this.finished) {
+            return false;
+        }
+        try {
+            JsonToken token = this.parser.nextToken();
+            if (this.isEnd(token)) {
+                this.finish();
+                return false;
+            }
+            this.pending = true;
+            return true;
+        } catch (IOException e) {
+            this.close();
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.pending = false;
+        try {
+            return this.reader.readValue(this.parser);
+        } catch (IOException e) {
+            this.close();
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 读取下一批值
+     *
+     * @param batchSize 批大小
+     * @return 剩余值不足时返回的数量小于批大小, 没有剩余值时返回空列表
+     */
+    public List<T> nextBatch(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        List<T> batch = new ArrayList<>(Math.min(batchSize, 1024));
+        while (batch.size() < batchSize && this.hasNext()) {
+            batch.add(this.next());
+        }
+        return batch;
+    }
+
+    /**
+     * 按批处理剩余的值, 处理完成后关闭游标
+     *
+     * @param batchSize 批大小
+     * @param consumer  批处理逻辑, 批列表不会被复用
+     */
+    public void forEachBatch(int batchSize, Consumer<? super List<T>> consumer) {
+        try {
+            List<T> batch = this.nextBatch(batchSize);
+            while (!batch.isEmpty()) {
+                consumer.accept(batch);
+                batch = this.nextBatch(batchSize);
+            }
+        } finally {
+            this.close();
+        }
+    }
+
+    /**
+     * 以顺序流的方式遍历剩余的值, 关闭流时关闭游标
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 关闭解析器及游标持有的输入源, 调用方传入的输入流不会被关闭
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.finished = true;
+        this.pending = false;
+        try {
+            try {
+                this.parser.close();
+            } finally {
+                if (this.source != null) {
+                    this.source.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 延迟解码的json文档视图. 创建时扫描一次报文, 只记录每个值的字节偏移、类型及子树范围, 不创建Map、List及字符串值;
+ * 访问某个值时才解码, 解码结果及子节点视图会被缓存. 任意子树可按创建时objectMapper的配置转换为目标类型.
+ * 适合读取报文中少量属性的场景, 需要使用大部分内容时直接转换为目标类型更快. 可在多线程间共享
+ */
+public final class JsonDocument {
+    private static final Object UNDECODED = new Object();
+    private static final ValueType[] TYPES = ValueType.values();
+    private final Index index;
+    private final int node;
+    /**
+     * 子节点序号, 首次按下标或属性名访问时建立
+     */
+    private volatile int[] children;
+    private volatile Object value = UNDECODED;
+
+    private JsonDocument(Index index, int node) {
+        this.index = index;
+        this.node = node;
+    }
+
+    /**
+     * 扫描报文建立索引, 报文根值之后的内容被忽略
+     *
+     * @param objectMapper 解码及转换使用的objectMapper, 须为json格式
+     * @param data         UTF-8编码的json
+     * @param offset       起始位置
+     * @param length       长度
+     */
+    static JsonDocument parse(ObjectMapper objectMapper, byte[] data, int offset, int length) {
+        Index index = new Index(objectMapper, data, offset + length, Math.max(16, length / 12));
+        try (JsonParser parser = objectMapper.getFactory().createParser(data, offset, length)) {
+            int[] stack = new int[16];
+            int depth = 0;
+            String name = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    name = parser.currentName();
+                    continue;
+                }
+                if (token.isStructEnd()) {
+                    index.ends[stack[--depth]] = index.count;
+                } else {
+                    int node = index.add(typeOf(token), offset + (int) parser.currentTokenLocation().getByteOffset(),
+                            name);
+                    name = null;
+                    if (token.isStructStart()) {
+                        if (depth == stack.length) {
+                            stack = Arrays.copyOf(stack, depth << 1);
+                        }
+                        stack[depth++] = node;
+                    }
+                }
+                if (depth == 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        if (index.count == 0) {
+            throw new IllegalArgumentException("json document is empty");
+        }
+        return new JsonDocument(index, 0);
+    }
+
+    private static ValueType typeOf(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return ValueType.OBJECT;
+            case START_ARRAY:
+                return ValueType.ARRAY;
+            case VALUE_STRING:
+                return ValueType.STRING;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return ValueType.NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return ValueType.BOOLEAN;
+            case VALUE_NULL:
+                return ValueType.NULL;
+            default:
+                throw new IllegalArgumentException("unexpected json token: " + token);
+        }
+    }
+
+    public ValueType getType() {
+        return TYPES[this.index.types[this.node]];
+    }
+
+    /**
+     * 对象的属性数量或数组的元素数量, 其它类型为0
+     */
+    public int size() {
+        return this.children().length;
+    }
+
+    /**
+     * 获取对象的属性, 属性名重复时取最后一个
+     *
+     * @return 不是对象或属性不存在时返回null
+     */
+    public JsonDocument get(String name) {
+        if (this.index.types[this.node] != ValueType.OBJECT.ordinal()) {
+            return null;
+        }
+        int[] children = this.children();
+        for (int i = children.length - 1; i >= 0; i--) {
+            if (name.equals(this.index.names[children[i]])) {
+                return this.index.view(children[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取数组的元素
+     *
+     * @return 不是数组或下标越界时返回null
+     */
+    public JsonDocument get(int index) {
+        if (this.index.types[this.node] != ValueType.ARRAY.ordinal()) {
+            return null;
+        }
+        int[] children = this.children();
+        return index < 0 || index >= children.length ? null : this.index.view(children[index]);
+    }
+
+    /**
+     * 对象是否包含属性
+     */
+    public boolean has(String name) {
+        return this.get(name) != null;
+    }
+
+    /**
+     * 对象的属性名, 按报文中的顺序, 不是对象时返回空列表
+     */
+    public List<String> getFieldNames() {
+        if (this.index.types[this.node] != ValueType.OBJECT.ordinal()) {
+            return Collections.emptyList();
+        }
+        int[] children = this.children();
+        List<String> names = new ArrayList<>(children.length);
+        for (int child : children) {
+            names.add(this.index.names[child]);
+        }
+        return names;
+    }
+
+    /**
+     * 解码后的值, 对象为Map, 数组为List, 首次调用时解码并缓存
+     */
+    public Object getValue() {
+        Object value = this.value;
+        if (value == UNDECODED) {
+            value = this.to(Object.class);
+            this.value = value;
+        }
+        return value;
+    }
+
+    /**
+     * 转换为目标类型, 每次调用重新解码, 不缓存
+     *
+     * @param type 转换的目标类型
+     */
+    public <T> T to(Class<T> type) {
+        return this.to((Type) type);
+    }
+
+    /**
+     * 转换为目标类型, 每次调用重新解码, 不缓存
+     *
+     * @param type 转换的目标类型, 用于处理泛型
+     */
+    public <T> T to(TypeReference<T> type) {
+        ObjectMapper objectMapper = this.index.objectMapper;
+        return JacksonUtils.doConversion(this.source(), objectMapper, JacksonUtils.resolveType(objectMapper, type));
+    }
+
+    /**
+     * 转换为目标类型, 每次调用重新解码, 不缓存
+     *
+     * @param type 转换的目标类型, 用于处理泛型, 可使用{@link Class#getGenericSuperclass()}获取
+     */
+    public <T> T to(Type type) {
+        ObjectMapper objectMapper = this.index.objectMapper;
+        return JacksonUtils.doConversion(this.source(), objectMapper, JacksonUtils.resolveType(objectMapper, type));
+    }
+
+    /**
+     * 从本节点开始的报文, 解码时只读取本节点的值. 根级数字之后必须是空白, 因此数字截取到其最后一个字符
+     */
+    private ByteBuffer source() {
+        Index index = this.index;
+        int offset = index.offsets[this.node];
+        int end = index.limit;
+        if (index.types[this.node] == ValueType.NUMBER.ordinal()) {
+            end = offset + 1;
+            while (end < index.limit && isNumberChar(index.data[end])) {
+                end++;
+            }
+        }
+        return ByteBuffer.wrap(index.data, offset, end - offset);
+    }
+
+    private static boolean isNumberChar(byte b) {
+        return b >= '0' && b <= '9' || b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-';
+    }
+
+    private int[] children() {
+        int[] children = this.children;
+        if (children == null) {
+            Index index = this.index;
+            int size = 0;
+            for (int child = this.node + 1; child < index.ends[this.node]; child = index.ends[child]) {
+                size++;
+            }
+            children = new int[size];
+            for (int i = 0, child = this.node + 1; i < size; i++, child = index.ends[child]) {
+                children[i] = child;
+            }
+            this.children = children;
+        }
+        return children;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonDocument{type=" + this.getType() + ", offset=" + this.index.offsets[this.node] + "}";
+    }
+
+    /**
+     * 值的类型
+     */
+    public enum ValueType {
+        OBJECT,
+        ARRAY,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL
+    }
+
+    /**
+     * 结构索引, 按值在报文中出现的顺序编号, 各数组以编号为下标
+     */
+    private static class Index {
+        private final ObjectMapper objectMapper;
+        private final byte[] data;
+        /**
+         * 报文结束位置
+         */
+        private final int limit;
+        private byte[] types;
+        /**
+         * 值的起始字节位置
+         */
+        private int[] offsets;
+        /**
+         * 值的子树之后的第一个编号, 即下一个兄弟节点
+         */
+        private int[] ends;
+        /**
+         * 对象属性的属性名, 由解析器规范化, 同名属性共享同一个字符串
+         */
+        private String[] names;
+        private int count;
+        private volatile JsonDocument[] views;
+
+        private Index(ObjectMapper objectMapper, byte[] data, int limit, int capacity) {
+            this.objectMapper = objectMapper;
+            this.data = data;
+            this.limit = limit;
+            this.types = new byte[capacity];
+            this.offsets = new int[capacity];
+            this.ends = new int[capacity];
+            this.names = new String[capacity];
+        }
+
+        private int add(ValueType type, int offset, String name) {
+            int node = this.count;
+            if (node == this.types.length) {
+                int capacity = node + (node >> 1);
+                this.types = Arrays.copyOf(this.types, capacity);
+                this.offsets = Arrays.copyOf(this.offsets, capacity);
+                this.ends = Arrays.copyOf(this.ends, capacity);
+                this.names = Arrays.copyOf(this.names, capacity);
+            }
+            this.types[node] = (byte) type.ordinal();
+            this.offsets[node] = offset;
+            this.ends[node] = node + 1;
+            this.names[node] = name;
+            this.count++;
+            return node;
+        }
+
+        private JsonDocument view(int node) {
+            JsonDocument[] views = this.views;
+            if (views == null) {
+                views = new JsonDocument[this.count];
+                this.views = views;
+            }
+            JsonDocument view = views[node];
+            if (view == null) {
+                view = new JsonDocument(this, node);
+                views[node] = view;
+            }
+            return view;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+
+/**
+ * JSON Lines(NDJSON)读取器, 直接从字节流逐条解析, 不为每行生成字符串, 空行被忽略
+ *
+ * @param <T> 记录类型
+ */
+public class JsonLinesReader<T> extends JsonCursor<T> {
+    /**
+     * @param parser 解析器, 尚未读取任何token
+     * @param reader 记录类型的reader
+     * @param source 读取器持有的输入源, 关闭读取器时一并关闭, 为null表示输入源由调用方管理
+     */
+    JsonLinesReader(JsonParser parser, ObjectReader reader, Closeable source) {
+        super(parser, reader, source);
+    }
+
+    @Override
+    boolean isEnd(JsonToken token) {
+        return token == null;
+    }
+}
@@ -0,0 +1,114 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * JSON Lines(NDJSON)写入器, 每条记录写为一行, 经生成器缓冲后按批刷新到输出流.
+ * 关闭时刷新剩余数据, 但不关闭输出流
+ */
+public class JsonLinesWriter implements Closeable, Flushable {
+    /**
+     * 默认每写入多少条记录刷新一次
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final SerializableString EMPTY_SEPARATOR = new SerializedString("");
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private final int batchSize;
+    private int unflushedCount;
+    private long count;
+
+    /**
+     * @param out       输出流
+     * @param writer    不关闭输出目标的writer
+     * @param batchSize 每写入多少条记录刷新一次
+     */
+    JsonLinesWriter(OutputStream out, ObjectWriter writer, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        // 换行由写入器输出, 不使用jackson默认的空格分隔根值
+        this.writer = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator(EMPTY_SEPARATOR);
+        this.batchSize = batchSize;
+        try {
+            this.generator = this.writer.createGenerator(out);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 写入一条记录
+     */
+    public JsonLinesWriter write(Object value) {
+        try {
+            this.writer.writeValue(this.generator, value);
+            this.generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        this.count++;
+        if (++this.unflushedCount >= this.batchSize) {
+            this.flush();
+        }
+        return this;
+    }
+
+    /**
+     * 写入迭代器中的所有记录
+     */
+    public JsonLinesWriter writeAll(Iterator<?> values) {
+        while (values.hasNext()) {
+            this.write(values.next());
+        }
+        return this;
+    }
+
+    /**
+     * 写入流中的所有记录, 不关闭流
+     */
+    public JsonLinesWriter writeAll(Stream<?> values) {
+        return this.writeAll(values.iterator());
+    }
+
+    /**
+     * 已写入的记录数
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public void flush() {
+        this.unflushedCount = 0;
+        try {
+            this.generator.flush();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 刷新剩余数据, 不关闭输出流
+     */
+    @Override
+    public void close() {
+        try {
+            this.generator.close();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
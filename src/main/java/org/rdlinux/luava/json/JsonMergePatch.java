@@ -0,0 +1,166 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 按RFC 7386(json merge patch)把补丁合并到已有对象: 补丁中的对象与目标中的Map及bean逐层合并,
+ * null删除Map中的键或把bean属性置为null, 数组及其它值整体替换. 只遍历补丁中出现的路径, 未出现的属性不读取也不修改;
+ * bean中需要替换的属性收集后通过jackson的更新读取一次写入, 与正常反序列化使用相同的类型、命名及时间规则
+ */
+final class JsonMergePatch {
+    private final ObjectMapper objectMapper;
+    private final SerializerProvider provider;
+
+    private JsonMergePatch(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.provider = objectMapper.getSerializerProviderInstance();
+    }
+
+    /**
+     * 把补丁合并到目标
+     *
+     * @param objectMapper 使用的objectMapper
+     * @param parser       补丁解析器, 尚未读取任何token
+     * @param target       目标对象
+     * @param type         目标类型
+     * @return 合并后的值, 补丁是对象且目标可合并时为目标本身, 否则为补丁转换得到的新值
+     */
+    static Object apply(ObjectMapper objectMapper, JsonParser parser, Object target, JavaType type) throws IOException {
+        if (parser.nextToken() == null) {
+            throw new IllegalArgumentException("merge patch is empty");
+        }
+        return new JsonMergePatch(objectMapper).merge(parser, target, type);
+    }
+
+    /**
+     * @param parser 位于补丁值的第一个token, 返回时位于补丁值的最后一个token
+     */
+    private Object merge(JsonParser parser, Object target, JavaType type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            if (target == null && (type.isMapLikeType() || type.isJavaLangObject() || this.isBean(type))) {
+                // 补丁中的null不应出现在新建的Map或bean中, 因此合并到空的Map或bean
+                target = JacksonUtils.reader(this.objectMapper, type).readValue("{}");
+            }
+            if (target instanceof Map) {
+                return this.mergeMap(parser, castMap(target), type);
+            }
+            if (target != null) {
+                JsonSerializer<Object> serializer = this.provider.findValueSerializer(target.getClass());
+                if (serializer instanceof BeanSerializerBase) {
+                    return this.mergeBean(parser, target, type, (BeanSerializerBase) serializer);
+                }
+            }
+        }
+        return JacksonUtils.reader(this.objectMapper, type).readValue(parser);
+    }
+
+    private boolean isBean(JavaType type) throws IOException {
+        return type.isConcrete() && !type.isContainerType()
+                && this.provider.findValueSerializer(type.getRawClass()) instanceof BeanSerializerBase;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> castMap(Object map) {
+        return (Map<Object, Object>) map;
+    }
+
+    private Object mergeMap(JsonParser parser, Map<Object, Object> map, JavaType type) throws IOException {
+        JavaType keyType = type.isMapLikeType() ? type.getKeyType() : null;
+        JavaType contentType = type.isMapLikeType() ? type.getContentType() : type;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            Object key = keyType == null || keyType.getRawClass() == String.class || keyType.isJavaLangObject()
+                    ? name : this.objectMapper.convertValue(name, keyType);
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                map.remove(key);
+                continue;
+            }
+            Object current = parser.currentToken() == JsonToken.START_OBJECT ? map.get(key) : null;
+            JavaType valueType = current != null && contentType.isJavaLangObject()
+                    ? JacksonUtils.resolveType(this.objectMapper, current.getClass()) : contentType;
+            Object value = this.merge(parser, current, valueType);
+            if (value != current || current == null) {
+                map.put(key, value);
+            }
+        }
+        return map;
+    }
+
+    private Object mergeBean(JsonParser parser, Object bean, JavaType type, BeanSerializerBase serializer)
+            throws IOException {
+        TokenBuffer replaced = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            BeanPropertyWriter property = token == JsonToken.START_OBJECT ? findProperty(serializer, name) : null;
+            if (property != null) {
+                // 当前值为null时同样经过合并, 去掉补丁对象中的null
+                Object current = get(property, bean);
+                Object value = this.merge(parser, current, property.getType());
+                if (value != current || current == null) {
+                    replaced = startObject(replaced, parser);
+                    replaced.writeFieldName(name);
+                    replaced.writeObject(value);
+                }
+                continue;
+            }
+            replaced = startObject(replaced, parser);
+            replaced.writeFieldName(name);
+            replaced.copyCurrentStructure(parser);
+        }
+        if (replaced != null) {
+            replaced.writeEndObject();
+            try (JsonParser replacedParser = replaced.asParser()) {
+                JacksonUtils.reader(this.objectMapper, type).withValueToUpdate(bean).readValue(replacedParser);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * 第一个需要替换的属性出现时才创建缓冲
+     */
+    private static TokenBuffer startObject(TokenBuffer replaced, JsonParser parser) throws IOException {
+        if (replaced == null) {
+            replaced = new TokenBuffer(parser);
+            replaced.writeStartObject();
+        }
+        return replaced;
+    }
+
+    private static BeanPropertyWriter findProperty(BeanSerializerBase serializer, String name) {
+        Iterator<PropertyWriter> properties = serializer.properties();
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            if (property instanceof BeanPropertyWriter && property.getName().equals(name)) {
+                return (BeanPropertyWriter) property;
+            }
+        }
+        return null;
+    }
+
+    private static Object get(BeanPropertyWriter property, Object bean) {
+        try {
+            return property.get(bean);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
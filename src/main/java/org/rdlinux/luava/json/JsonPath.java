@@ -0,0 +1,233 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 编译后的json路径, 用于从报文中流式提取部分值, 不绑定整个报文. 不可变, 可在多线程间共享.
+ * 支持的语法: 根节点$, 属性.name或['name'], 数组下标[0], 通配符.*或[*], 如$.header.traceId, $.items[*].sku.
+ * 提取时不匹配的子树通过{@link JsonParser#skipChildren()}跳过, 路径中没有通配符时匹配后立即停止读取,
+ * 有通配符时在取到所需数量的值后停止读取
+ */
+public final class JsonPath {
+    private final String expression;
+    private final Segment[] segments;
+
+    private JsonPath(String expression, Segment[] segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * 编译路径表达式
+     *
+     * @param expression 路径表达式, 以$开头
+     */
+    public static JsonPath compile(String expression) {
+        if (expression == null || expression.isEmpty() || expression.charAt(0) != '$') {
+            throw new IllegalArgumentException("json path must start with '$': " + expression);
+        }
+        List<Segment> segments = new ArrayList<>();
+        int length = expression.length();
+        int i = 1;
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < length && expression.charAt(i) != '.' && expression.charAt(i) != '[') {
+                    i++;
+                }
+                if (start == i) {
+                    throw invalid(expression, start, "property name expected");
+                }
+                String name = expression.substring(start, i);
+                segments.add("*".equals(name) ? Segment.WILDCARD : new Segment(name, -1));
+            } else if (c == '[') {
+                i++;
+                if (i < length && (expression.charAt(i) == '\'' || expression.charAt(i) == '"')) {
+                    char quote = expression.charAt(i++);
+                    StringBuilder name = new StringBuilder();
+                    while (i < length && expression.charAt(i) != quote) {
+                        if (expression.charAt(i) == '\\' && i + 1 < length) {
+                            i++;
+                        }
+                        name.append(expression.charAt(i++));
+                    }
+                    if (i >= length) {
+                        throw invalid(expression, i, "unterminated quoted name");
+                    }
+                    i++;
+                    segments.add(new Segment(name.toString(), -1));
+                } else if (i < length && expression.charAt(i) == '*') {
+                    i++;
+                    segments.add(Segment.WILDCARD);
+                } else {
+                    int start = i;
+                    while (i < length && expression.charAt(i) >= '0' && expression.charAt(i) <= '9') {
+                        i++;
+                    }
+                    if (start == i || i - start > 9) {
+                        throw invalid(expression, start, "array index expected");
+                    }
+                    segments.add(new Segment(null, Integer.parseInt(expression.substring(start, i))));
+                }
+                if (i >= length || expression.charAt(i) != ']') {
+                    throw invalid(expression, i, "']' expected");
+                }
+                i++;
+            } else {
+                throw invalid(expression, i, "'.' or '[' expected");
+            }
+        }
+        return new JsonPath(expression, segments.toArray(new Segment[0]));
+    }
+
+    private static IllegalArgumentException invalid(String expression, int index, String message) {
+        return new IllegalArgumentException("invalid json path '" + expression + "' at " + index + ": " + message);
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    /**
+     * 是否最多匹配一个值, 即不包含通配符
+     */
+    public boolean isDefinite() {
+        for (Segment segment : this.segments) {
+            if (segment == Segment.WILDCARD) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 从解析器当前位置读取根值并提取匹配的值, 解析器尚未读取任何token时先读取第一个token
+     *
+     * @param parser 解析器
+     * @param reader 匹配值的reader
+     * @param limit  最多提取的数量, 达到后立即停止
+     * @param values 提取的值
+     */
+    <T> void extract(JsonParser parser, ObjectReader reader, int limit, List<T> values) throws IOException {
+        if (!parser.hasCurrentToken() && parser.nextToken() == null) {
+            return;
+        }
+        this.match(parser, reader, 0, limit, values);
+    }
+
+    /**
+     * 匹配解析器当前所在的值, 返回时解析器位于该值的最后一个token或已停止读取
+     *
+     * @return 是否停止读取, 已达到数量上限或报文中不会再有匹配的值
+     */
+    private <T> boolean match(JsonParser parser, ObjectReader reader, int depth, int limit, List<T> values)
+            throws IOException {
+        if (depth == this.segments.length) {
+            values.add(reader.readValue(parser));
+            return values.size() >= limit;
+        }
+        Segment segment = this.segments[depth];
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && segment.index < 0) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (segment == Segment.WILDCARD) {
+                    if (this.match(parser, reader, depth + 1, limit, values)) {
+                        return true;
+                    }
+                } else if (segment.name.equals(name)) {
+                    // 属性名唯一, 匹配后跳过对象的剩余属性
+                    if (this.match(parser, reader, depth + 1, limit, values) || this.isDone(segment)) {
+                        return true;
+                    }
+                    skipRemaining(parser);
+                    return false;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return false;
+        }
+        if (token == JsonToken.START_ARRAY && segment.name == null) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (segment == Segment.WILDCARD || segment.index == index) {
+                    if (this.match(parser, reader, depth + 1, limit, values)) {
+                        return true;
+                    }
+                    if (segment.index == index) {
+                        if (this.isDone(segment)) {
+                            return true;
+                        }
+                        skipRemaining(parser);
+                        return false;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+                index++;
+            }
+            return false;
+        }
+        parser.skipChildren();
+        return false;
+    }
+
+    /**
+     * 跳过当前对象或数组的剩余部分, 返回时解析器位于其结束token
+     */
+    private static void skipRemaining(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && !token.isStructEnd()) {
+            if (token == JsonToken.FIELD_NAME) {
+                parser.nextToken();
+            }
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * 确定的属性或下标匹配后, 若其之前没有通配符则整个报文中不会再有匹配的值
+     */
+    private boolean isDone(Segment segment) {
+        for (Segment s : this.segments) {
+            if (s == segment) {
+                return true;
+            }
+            if (s == Segment.WILDCARD) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+
+    private static class Segment {
+        private static final Segment WILDCARD = new Segment(null, -1);
+        /**
+         * 属性名, 下标及通配符为null
+         */
+        private final String name;
+        /**
+         * 数组下标, 属性及通配符为-1
+         */
+        private final int index;
+
+        private Segment(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+    }
+}
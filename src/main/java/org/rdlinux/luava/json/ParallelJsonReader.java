@@ -0,0 +1,356 @@
+package org.rdlinux.luava.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * 并行解析大文件, 文件通过{@link FileChannel#map}映射到内存, 按顶层数组元素或行的边界切分为块,
+ * 在{@link ForkJoinPool}上并发解析各块. 数组的边界由调用线程顺序扫描, 扫描出一块即提交解析, 扫描与解析重叠进行
+ */
+public class ParallelJsonReader {
+    /**
+     * 默认块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    /**
+     * 扫描数组边界时每次映射的大小
+     */
+    private static final int SCAN_WINDOW = 64 * 1024 * 1024;
+    /**
+     * 扫描数组边界时每次复制到堆内的大小
+     */
+    private static final int SCAN_BUFFER = 64 * 1024;
+    /**
+     * 查找行边界时每次映射的大小
+     */
+    private static final int LINE_WINDOW = 64 * 1024;
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * @param objectMapper 使用的objectMapper
+     * @param pool         解析使用的线程池
+     * @param chunkSize    块大小(字节), 单个元素或行大于块大小时独占一块
+     */
+    public ParallelJsonReader(ObjectMapper objectMapper, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.objectMapper = objectMapper;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 并行解析顶层json数组, 按文件中的顺序返回元素
+     *
+     * @param file 文件
+     * @param type 元素类型
+     */
+    public <T> List<T> readArray(Path file, Class<T> type) {
+        return this.readOrdered(file, JacksonUtils.resolveType(this.objectMapper, type), false);
+    }
+
+    /**
+     * 并行解析顶层json数组, 按文件中的顺序返回元素
+     *
+     * @param file 文件
+     * @param type 元素类型, 用于处理泛型
+     */
+    public <T> List<T> readArray(Path file, TypeReference<T> type) {
+        return this.readOrdered(file, JacksonUtils.resolveType(this.objectMapper, type), false);
+    }
+
+    /**
+     * 并行解析顶层json数组, 元素解析后立即交给consumer, 不保证顺序
+     *
+     * @param file     文件
+     * @param type     元素类型
+     * @param consumer 元素处理逻辑, 会被多个线程并发调用
+     */
+    public <T> void readArray(Path file, Class<T> type, Consumer<? super T> consumer) {
+        this.readUnordered(file, JacksonUtils.resolveType(this.objectMapper, type), false, consumer);
+    }
+
+    /**
+     * 并行解析顶层json数组, 元素解析后立即交给consumer, 不保证顺序
+     *
+     * @param file     文件
+     * @param type     元素类型, 用于处理泛型
+     * @param consumer 元素处理逻辑, 会被多个线程并发调用
+     */
+    public <T> void readArray(Path file, TypeReference<T> type, Consumer<? super T> consumer) {
+        this.readUnordered(file, JacksonUtils.resolveType(this.objectMapper, type), false, consumer);
+    }
+
+    /**
+     * 并行解析JSON Lines(NDJSON)文件, 按文件中的顺序返回记录
+     *
+     * @param file 文件
+     * @param type 记录类型
+     */
+    public <T> List<T> readLines(Path file, Class<T> type) {
+        return this.readOrdered(file, JacksonUtils.resolveType(this.objectMapper, type), true);
+    }
+
+    /**
+     * 并行解析JSON Lines(NDJSON)文件, 按文件中的顺序返回记录
+     *
+     * @param file 文件
+     * @param type 记录类型, 用于处理泛型
+     */
+    public <T> List<T> readLines(Path file, TypeReference<T> type) {
+        return this.readOrdered(file, JacksonUtils.resolveType(this.objectMapper, type), true);
+    }
+
+    /**
+     * 并行解析JSON Lines(NDJSON)文件, 记录解析后立即交给consumer, 不保证顺序
+     *
+     * @param file     文件
+     * @param type     记录类型
+     * @param consumer 记录处理逻辑, 会被多个线程并发调用
+     */
+    public <T> void readLines(Path file, Class<T> type, Consumer<? super T> consumer) {
+        this.readUnordered(file, JacksonUtils.resolveType(this.objectMapper, type), true, consumer);
+    }
+
+    /**
+     * 并行解析JSON Lines(NDJSON)文件, 记录解析后立即交给consumer, 不保证顺序
+     *
+     * @param file     文件
+     * @param type     记录类型, 用于处理泛型
+     * @param consumer 记录处理逻辑, 会被多个线程并发调用
+     */
+    public <T> void readLines(Path file, TypeReference<T> type, Consumer<? super T> consumer) {
+        this.readUnordered(file, JacksonUtils.resolveType(this.objectMapper, type), true, consumer);
+    }
+
+    private <T> List<T> readOrdered(Path file, JavaType type, boolean lines) {
+        List<ForkJoinTask<List<T>>> tasks = new ArrayList<>();
+        this.split(file, lines, (channel, start, end) -> tasks.add(this.pool.submit(() -> {
+            List<T> values = new ArrayList<>();
+            this.<T>decode(channel, start, end, type, lines, values::add);
+            return values;
+        })), tasks);
+        if (tasks.size() == 1) {
+            return tasks.get(0).join();
+        }
+        List<T> values = new ArrayList<>();
+        for (ForkJoinTask<List<T>> task : tasks) {
+            values.addAll(task.join());
+        }
+        return values;
+    }
+
+    private <T> void readUnordered(Path file, JavaType type, boolean lines, Consumer<? super T> consumer) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        this.split(file, lines, (channel, start, end) -> tasks.add(this.pool.submit(
+                () -> this.decode(channel, start, end, type, lines, consumer))), tasks);
+    }
+
+    /**
+     * 切分文件并提交各块的解析任务, 等待所有任务完成后关闭文件; 任一块失败时取消其余任务并抛出异常
+     */
+    private void split(Path file, boolean lines, ChunkHandler handler, List<? extends ForkJoinTask<?>> tasks) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            try {
+                if (lines) {
+                    this.splitLines(channel, handler);
+                } else {
+                    this.splitArray(channel, handler);
+                }
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            } catch (RuntimeException e) {
+                for (ForkJoinTask<?> task : tasks) {
+                    task.cancel(false);
+                }
+                for (ForkJoinTask<?> task : tasks) {
+                    task.quietlyJoin();
+                }
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 按块大小切分, 每块的结束位置后移到下一行的开始
+     */
+    private void splitLines(FileChannel channel, ChunkHandler handler) throws IOException {
+        long size = channel.size();
+        long start = 0;
+        while (start < size) {
+            long end = nextLineStart(channel, Math.min(size, start + this.chunkSize), size);
+            handler.handle(channel, start, end);
+            start = end;
+        }
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        long position = from;
+        while (position < size) {
+            int length = (int) Math.min(LINE_WINDOW, size - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += length;
+        }
+        return size;
+    }
+
+    /**
+     * 顺序扫描顶层数组, 在深度为1的逗号处切分, 跳过字符串内的括号及逗号.
+     * 映射的内容按块复制到堆内数组后扫描, 避免逐字节访问堆外内存的开销
+     */
+    private void splitArray(FileChannel channel, ChunkHandler handler) throws IOException {
+        long size = channel.size();
+        byte[] bytes = new byte[SCAN_BUFFER];
+        int depth = 0;
+        boolean inString = false;
+        boolean escape = false;
+        boolean started = false;
+        long chunkStart = -1;
+        boolean chunkEmpty = true;
+        long position = 0;
+        while (position < size) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(SCAN_WINDOW, size - position));
+            while (buffer.hasRemaining()) {
+                long base = position + buffer.position();
+                int length = Math.min(bytes.length, buffer.remaining());
+                buffer.get(bytes, 0, length);
+                int i = 0;
+                if (escape) {
+                    escape = false;
+                    i = 1;
+                }
+                for (; i < length; i++) {
+                    byte b = bytes[i];
+                    if (inString) {
+                        if (b == '"') {
+                            inString = false;
+                        } else if (b == '\\') {
+                            if (++i == length) {
+                                escape = true;
+                            }
+                        }
+                        continue;
+                    }
+                    if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                        continue;
+                    }
+                    long offset = base + i;
+                    if (!started) {
+                        if (b == '[') {
+                            started = true;
+                            depth = 1;
+                            chunkStart = offset + 1;
+                        } else if (offset >= 3 || !isBom(b)) {
+                            throw new IllegalArgumentException("json is not an array, first character: " + (char) b);
+                        }
+                        continue;
+                    }
+                    if (depth == 0) {
+                        throw new IllegalArgumentException("unexpected content after json array at offset " + offset);
+                    }
+                    switch (b) {
+                        case '"':
+                            inString = true;
+                            break;
+                        case '[':
+                        case '{':
+                            depth++;
+                            break;
+                        case ']':
+                        case '}':
+                            if (--depth == 0) {
+                                if (!chunkEmpty) {
+                                    handler.handle(channel, chunkStart, offset);
+                                }
+                                continue;
+                            }
+                            break;
+                        case ',':
+                            if (depth == 1 && offset - chunkStart >= this.chunkSize) {
+                                handler.handle(channel, chunkStart, offset);
+                                chunkStart = offset + 1;
+                                chunkEmpty = true;
+                                continue;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    chunkEmpty = false;
+                }
+            }
+            position += buffer.limit();
+        }
+        if (started && depth != 0) {
+            throw new IllegalArgumentException("unexpected end of json array");
+        }
+    }
+
+    private static boolean isBom(byte b) {
+        return b == (byte) 0xEF || b == (byte) 0xBB || b == (byte) 0xBF;
+    }
+
+    /**
+     * 解析一块, 数组的块是以逗号分隔的若干元素, 补上方括号后按数组解析
+     */
+    private <T> void decode(FileChannel channel, long start, long end, JavaType type, boolean lines,
+                            Consumer<? super T> consumer) {
+        JsonParser parser;
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            InputStream in = new ByteBufferBackedInputStream(buffer);
+            if (!lines) {
+                in = new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                        new ByteArrayInputStream(ARRAY_START), in, new ByteArrayInputStream(ARRAY_END))));
+            }
+            parser = this.objectMapper.getFactory().createParser(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        ObjectReader reader = JacksonUtils.reader(this.objectMapper, type);
+        try (JsonCursor<T> cursor = lines ? new JsonLinesReader<>(parser, reader, null)
+                : new JsonArrayCursor<>(parser, reader, null)) {
+            while (cursor.hasNext()) {
+                consumer.accept(cursor.next());
+            }
+        }
+    }
+
+    private interface ChunkHandler {
+        void handle(FileChannel channel, long start, long end);
+    }
+}
@@ -1,9 +1,13 @@
 package org.rdlinux.luava.json;
 
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import org.rdlinux.luava.json.jackson.buffer.BufferPool;
+
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 
 public abstract class StreamUtils {
 
@@ -15,7 +19,8 @@ public abstract class StreamUtils {
 
     /**
      * Copy the contents of the given InputStream into a String.
-     * Leaves the stream open when done.
+     * Leaves the stream open when done. Buffers are taken from {@link BufferPool#getDefault()},
+     * so a call allocates no intermediate buffers once the pool is warm.
      *
      * @param in the InputStream to copy from (may be {@code null} or empty)
      * @return the String that has been copied to (possibly empty)
@@ -25,13 +30,68 @@ public abstract class StreamUtils {
         if (in == null) {
             return "";
         }
-        StringBuilder out = new StringBuilder();
-        InputStreamReader reader = new InputStreamReader(in, charset);
-        char[] buffer = new char[BUFFER_SIZE];
-        int bytesRead = -1;
-        while ((bytesRead = reader.read(buffer)) != -1) {
-            out.append(buffer, 0, bytesRead);
+        BufferPool bufferPool = BufferPool.getDefault();
+        byte[] buffer = bufferPool.allocByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, BUFFER_SIZE);
+        try {
+            int length = 0;
+            int bytesRead;
+            while (length < buffer.length && (bytesRead = in.read(buffer, length, buffer.length - length)) != -1) {
+                length += bytesRead;
+            }
+            if (length < buffer.length) {
+                return new String(buffer, 0, length, charset);
+            }
+            // 超出一个缓冲区时先收集全部字节再解码, 避免多字节字符被缓冲区边界截断
+            ByteArrayBuilder out = new ByteArrayBuilder(bufferPool.getBufferRecycler());
+            try {
+                out.write(buffer, 0, length);
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, bytesRead);
+                }
+                return new String(out.toByteArray(), charset);
+            } finally {
+                out.release();
+            }
+        } finally {
+            bufferPool.releaseByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, buffer);
+        }
+    }
+
+    /**
+     * Copy the contents of the given InputStream into a new byte array.
+     * Leaves the stream open when done. Buffers are taken from {@link BufferPool#getDefault()}.
+     *
+     * @param in the InputStream to copy from (may be {@code null} or empty)
+     * @return the new byte array that has been copied to (possibly empty)
+     * @throws IOException in case of I/O errors
+     */
+    public static byte[] copyToByteArray(InputStream in) throws IOException {
+        if (in == null) {
+            return new byte[0];
+        }
+        BufferPool bufferPool = BufferPool.getDefault();
+        byte[] buffer = bufferPool.allocByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, BUFFER_SIZE);
+        try {
+            int length = 0;
+            int bytesRead;
+            while (length < buffer.length && (bytesRead = in.read(buffer, length, buffer.length - length)) != -1) {
+                length += bytesRead;
+            }
+            if (length < buffer.length) {
+                return Arrays.copyOf(buffer, length);
+            }
+            ByteArrayBuilder out = new ByteArrayBuilder(bufferPool.getBufferRecycler());
+            try {
+                out.write(buffer, 0, length);
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, bytesRead);
+                }
+                return out.toByteArray();
+            } finally {
+                out.release();
+            }
+        } finally {
+            bufferPool.releaseByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, buffer);
         }
-        return out.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,290 @@
+package org.rdlinux.luava.json.jackson.buffer;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓冲区池, 替代jackson基于ThreadLocal的{@link BufferRecycler}, 按jackson的缓冲区槽位(ix)复用byte[]及char[].
+ * jackson默认的回收器与线程绑定, 在虚拟线程等每个请求一个短命线程的场景下无法复用; 本类提供无锁共享、按核分段及线程本地三种策略,
+ * 并限制单个缓冲区的最大长度, 记录命中、未命中、归还及丢弃次数
+ */
+public abstract class BufferPool {
+    /**
+     * 默认可复用的缓冲区最大长度(元素个数), 超过该长度的缓冲区归还时直接丢弃
+     */
+    public static final int DEFAULT_MAX_BUFFER_SIZE = 1 << 15;
+    static final int BYTE_SLOTS = 4;
+    static final int CHAR_SLOTS = 4;
+    static final int SLOTS = BYTE_SLOTS + CHAR_SLOTS;
+    private static volatile BufferPool defaultPool = striped();
+    private final int maxBufferSize;
+    private final PooledBufferRecycler recycler = new PooledBufferRecycler(this);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder releaseCount = new LongAdder();
+    private final LongAdder dropCount = new LongAdder();
+
+    BufferPool(int maxBufferSize) {
+        if (maxBufferSize <= 0) {
+            throw new IllegalArgumentException("maxBufferSize must be positive: " + maxBufferSize);
+        }
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * 获取默认缓冲区池, 未指定缓冲区池的{@link org.rdlinux.luava.json.jackson.factory.PooledJsonFactory}及
+     * {@link org.rdlinux.luava.json.StreamUtils}使用该池, 初始为{@link #striped()}
+     */
+    public static BufferPool getDefault() {
+        return defaultPool;
+    }
+
+    /**
+     * 设置默认缓冲区池, 已创建的objectMapper立即生效
+     */
+    public static void setDefault(BufferPool bufferPool) {
+        if (bufferPool == null) {
+            throw new IllegalArgumentException("bufferPool can not be null");
+        }
+        defaultPool = bufferPool;
+    }
+
+    /**
+     * 无锁共享池, 每个槽位一个无锁栈, 与线程无关
+     */
+    public static BufferPool lockFree() {
+        return lockFree(Runtime.getRuntime().availableProcessors() * 4, DEFAULT_MAX_BUFFER_SIZE);
+    }
+
+    /**
+     * 无锁共享池, 每个槽位一个无锁栈, 与线程无关
+     *
+     * @param maxPerSlot    每个槽位最多保留的缓冲区数量
+     * @param maxBufferSize 可复用的缓冲区最大长度
+     */
+    public static BufferPool lockFree(int maxPerSlot, int maxBufferSize) {
+        return new LockFreeBufferPool(maxPerSlot, maxBufferSize);
+    }
+
+    /**
+     * 分段池, 段数为CPU核数的两倍, 线程按id散列到段, 每段每个槽位保留一个缓冲区
+     */
+    public static BufferPool striped() {
+        return striped(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_MAX_BUFFER_SIZE);
+    }
+
+    /**
+     * 分段池, 线程按id散列到段, 每段每个槽位保留一个缓冲区, 段被占用时直接分配不等待
+     *
+     * @param stripes       段数, 向上取整为2的幂
+     * @param maxBufferSize 可复用的缓冲区最大长度
+     */
+    public static BufferPool striped(int stripes, int maxBufferSize) {
+        return new StripedBufferPool(stripes, maxBufferSize);
+    }
+
+    /**
+     * 线程本地池, 与jackson默认行为相同, 只适合长期存活的线程
+     */
+    public static BufferPool threadLocal() {
+        return threadLocal(DEFAULT_MAX_BUFFER_SIZE);
+    }
+
+    /**
+     * 线程本地池, 与jackson默认行为相同, 只适合长期存活的线程
+     *
+     * @param maxBufferSize 可复用的缓冲区最大长度
+     */
+    public static BufferPool threadLocal(int maxBufferSize) {
+        return new ThreadLocalBufferPool(maxBufferSize);
+    }
+
+    /**
+     * 获取从本池分配及归还缓冲区的{@link BufferRecycler}, 不持有状态, 可被任意线程同时使用
+     */
+    public BufferRecycler getBufferRecycler() {
+        return this.recycler;
+    }
+
+    public int getMaxBufferSize() {
+        return this.maxBufferSize;
+    }
+
+    /**
+     * 分配byte缓冲区
+     *
+     * @param ix      jackson的byte缓冲区槽位, 如{@link BufferRecycler#BYTE_READ_IO_BUFFER}
+     * @param minSize 最小长度
+     */
+    public byte[] allocByteBuffer(int ix, int minSize) {
+        if (ix >= 0 && ix < BYTE_SLOTS) {
+            byte[] buffer = (byte[]) this.poll(ix);
+            if (buffer != null && buffer.length >= minSize) {
+                this.hitCount.increment();
+                return buffer;
+            }
+            this.missCount.increment();
+            return new byte[Math.max(minSize, this.recycler.defaultByteBufferLength(ix))];
+        }
+        this.missCount.increment();
+        return new byte[minSize];
+    }
+
+    /**
+     * 归还byte缓冲区, 归还后调用方不能再使用该缓冲区
+     */
+    public void releaseByteBuffer(int ix, byte[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+        this.release(ix, ix, BYTE_SLOTS, buffer, buffer.length);
+    }
+
+    /**
+     * 分配char缓冲区
+     *
+     * @param ix      jackson的char缓冲区槽位, 如{@link BufferRecycler#CHAR_TEXT_BUFFER}
+     * @param minSize 最小长度
+     */
+    public char[] allocCharBuffer(int ix, int minSize) {
+        if (ix >= 0 && ix < CHAR_SLOTS) {
+            char[] buffer = (char[]) this.poll(BYTE_SLOTS + ix);
+            if (buffer != null && buffer.length >= minSize) {
+                this.hitCount.increment();
+                return buffer;
+            }
+            this.missCount.increment();
+            return new char[Math.max(minSize, this.recycler.defaultCharBufferLength(ix))];
+        }
+        this.missCount.increment();
+        return new char[minSize];
+    }
+
+    /**
+     * 归还char缓冲区, 归还后调用方不能再使用该缓冲区
+     */
+    public void releaseCharBuffer(int ix, char[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+        this.release(ix, BYTE_SLOTS + ix, CHAR_SLOTS, buffer, buffer.length);
+    }
+
+    private void release(int ix, int slot, int slots, Object buffer, int length) {
+        if (ix >= 0 && ix < slots && length <= this.maxBufferSize && this.offer(slot, buffer)) {
+            this.releaseCount.increment();
+        } else {
+            this.dropCount.increment();
+        }
+    }
+
+    /**
+     * 获取统计信息快照
+     */
+    public Stats getStats() {
+        return new Stats(this.hitCount.sum(), this.missCount.sum(), this.releaseCount.sum(), this.dropCount.sum());
+    }
+
+    /**
+     * 取出槽位中的一个缓冲区
+     *
+     * @return 没有可用的缓冲区时返回null
+     */
+    abstract Object poll(int slot);
+
+    /**
+     * 放入缓冲区
+     *
+     * @return 槽位已满时返回false
+     */
+    abstract boolean offer(int slot, Object buffer);
+
+    /**
+     * 缓冲区池统计信息
+     */
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long releaseCount;
+        private final long dropCount;
+
+        public Stats(long hitCount, long missCount, long releaseCount, long dropCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.releaseCount = releaseCount;
+            this.dropCount = dropCount;
+        }
+
+        /**
+         * 复用已有缓冲区的次数
+         */
+        public long getHitCount() {
+            return this.hitCount;
+        }
+
+        /**
+         * 新分配缓冲区的次数
+         */
+        public long getMissCount() {
+            return this.missCount;
+        }
+
+        /**
+         * 缓冲区归还后被保留的次数
+         */
+        public long getReleaseCount() {
+            return this.releaseCount;
+        }
+
+        /**
+         * 缓冲区因超长或池已满被丢弃的次数
+         */
+        public long getDropCount() {
+            return this.dropCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hitCount=" + this.hitCount + ", missCount=" + this.missCount + ", releaseCount="
+                    + this.releaseCount + ", dropCount=" + this.dropCount + "}";
+        }
+    }
+
+    private static class PooledBufferRecycler extends BufferRecycler {
+        private final BufferPool bufferPool;
+
+        private PooledBufferRecycler(BufferPool bufferPool) {
+            super(0, 0);
+            this.bufferPool = bufferPool;
+        }
+
+        @Override
+        public byte[] allocByteBuffer(int ix, int minSize) {
+            return this.bufferPool.allocByteBuffer(ix, minSize);
+        }
+
+        @Override
+        public void releaseByteBuffer(int ix, byte[] buffer) {
+            this.bufferPool.releaseByteBuffer(ix, buffer);
+        }
+
+        @Override
+        public char[] allocCharBuffer(int ix, int minSize) {
+            return this.bufferPool.allocCharBuffer(ix, minSize);
+        }
+
+        @Override
+        public void releaseCharBuffer(int ix, char[] buffer) {
+            this.bufferPool.releaseCharBuffer(ix, buffer);
+        }
+
+        private int defaultByteBufferLength(int ix) {
+            return this.byteBufferLength(ix);
+        }
+
+        private int defaultCharBufferLength(int ix) {
+            return this.charBufferLength(ix);
+        }
+    }
+}
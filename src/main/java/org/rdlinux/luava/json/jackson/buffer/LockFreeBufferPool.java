@@ -0,0 +1,59 @@
+package org.rdlinux.luava.json.jackson.buffer;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 无锁共享缓冲区池, 每个槽位一个Treiber栈, 数量上限按槽位计数
+ */
+final class LockFreeBufferPool extends BufferPool {
+    private final AtomicReferenceArray<Node> heads = new AtomicReferenceArray<>(SLOTS);
+    private final AtomicIntegerArray sizes = new AtomicIntegerArray(SLOTS);
+    private final int maxPerSlot;
+
+    LockFreeBufferPool(int maxPerSlot, int maxBufferSize) {
+        super(maxBufferSize);
+        if (maxPerSlot <= 0) {
+            throw new IllegalArgumentException("maxPerSlot must be positive: " + maxPerSlot);
+        }
+        this.maxPerSlot = maxPerSlot;
+    }
+
+    @Override
+    Object poll(int slot) {
+        while (true) {
+            Node head = this.heads.get(slot);
+            if (head == null) {
+                return null;
+            }
+            if (this.heads.compareAndSet(slot, head, head.next)) {
+                this.sizes.decrementAndGet(slot);
+                return head.buffer;
+            }
+        }
+    }
+
+    @Override
+    boolean offer(int slot, Object buffer) {
+        if (this.sizes.incrementAndGet(slot) > this.maxPerSlot) {
+            this.sizes.decrementAndGet(slot);
+            return false;
+        }
+        Node node = new Node(buffer);
+        while (true) {
+            node.next = this.heads.get(slot);
+            if (this.heads.compareAndSet(slot, node.next, node)) {
+                return true;
+            }
+        }
+    }
+
+    private static class Node {
+        private final Object buffer;
+        private Node next;
+
+        private Node(Object buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
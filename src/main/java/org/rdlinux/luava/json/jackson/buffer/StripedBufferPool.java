@@ -0,0 +1,46 @@
+package org.rdlinux.luava.json.jackson.buffer;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 分段缓冲区池, 线程按id散列到段, 每段每个槽位保留一个缓冲区; 段被其它线程占用时直接分配, 不自旋也不加锁
+ */
+final class StripedBufferPool extends BufferPool {
+    private final AtomicReferenceArray<Object> buffers;
+    private final int mask;
+
+    StripedBufferPool(int stripes, int maxBufferSize) {
+        super(maxBufferSize);
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.buffers = new AtomicReferenceArray<>(size * SLOTS);
+    }
+
+    private int index(int slot) {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & this.mask) * SLOTS + slot;
+    }
+
+    @Override
+    Object poll(int slot) {
+        int index = this.index(slot);
+        Object buffer = this.buffers.get(index);
+        if (buffer != null && this.buffers.compareAndSet(index, buffer, null)) {
+            return buffer;
+        }
+        return null;
+    }
+
+    @Override
+    boolean offer(int slot, Object buffer) {
+        int index = this.index(slot);
+        return this.buffers.get(index) == null && this.buffers.compareAndSet(index, null, buffer);
+    }
+}
@@ -0,0 +1,42 @@
+package org.rdlinux.luava.json.jackson.buffer;
+
+import java.lang.ref.SoftReference;
+
+/**
+ * 线程本地缓冲区池, 每个线程每个槽位保留一个缓冲区, 与jackson默认的回收方式相同, 以软引用持有以便内存紧张时回收
+ */
+final class ThreadLocalBufferPool extends BufferPool {
+    private final ThreadLocal<SoftReference<Object[]>> buffers = new ThreadLocal<>();
+
+    ThreadLocalBufferPool(int maxBufferSize) {
+        super(maxBufferSize);
+    }
+
+    private Object[] buffers() {
+        SoftReference<Object[]> reference = this.buffers.get();
+        Object[] buffers = reference == null ? null : reference.get();
+        if (buffers == null) {
+            buffers = new Object[SLOTS];
+            this.buffers.set(new SoftReference<>(buffers));
+        }
+        return buffers;
+    }
+
+    @Override
+    Object poll(int slot) {
+        Object[] buffers = this.buffers();
+        Object buffer = buffers[slot];
+        buffers[slot] = null;
+        return buffer;
+    }
+
+    @Override
+    boolean offer(int slot, Object buffer) {
+        Object[] buffers = this.buffers();
+        if (buffers[slot] != null) {
+            return false;
+        }
+        buffers[slot] = buffer;
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.math.BigDecimal;
+
+/**
+ * 宽松转换模块, 注册boolean, int, long, double及其包装类型和BigDecimal的反序列化器
+ */
+public class CoercionModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public CoercionModule() {
+        super(CoercionModule.class.getSimpleName());
+        this.addDeserializer(Boolean.class, JsonBooleanDeserializer.getInstance());
+        this.addDeserializer(Boolean.TYPE, JsonBooleanDeserializer.getPrimitiveInstance());
+        this.addDeserializer(Integer.class, JsonIntegerDeserializer.getInstance());
+        this.addDeserializer(Integer.TYPE, JsonIntegerDeserializer.getPrimitiveInstance());
+        this.addDeserializer(Long.class, JsonLongDeserializer.getInstance());
+        this.addDeserializer(Long.TYPE, JsonLongDeserializer.getPrimitiveInstance());
+        this.addDeserializer(Double.class, JsonDoubleDeserializer.getInstance());
+        this.addDeserializer(Double.TYPE, JsonDoubleDeserializer.getPrimitiveInstance());
+        this.addDeserializer(BigDecimal.class, JsonBigDecimalDeserializer.getInstance());
+    }
+}
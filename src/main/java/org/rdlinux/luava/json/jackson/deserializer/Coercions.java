@@ -0,0 +1,231 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 宽松转换使用的文本识别, 直接读取解析器的文本缓冲区, 常见输入不创建字符串
+ */
+final class Coercions {
+    private static final String[] TRUE_WORDS = {"true", "yes", "是", "1"};
+    private static final String[] FALSE_WORDS = {"false", "no", "否", "0"};
+    /**
+     * 不超过该位数的整数直接累加, 不会溢出long
+     */
+    static final int SAFE_LONG_DIGITS = 18;
+    private static final char[] INVALID = new char[0];
+
+    private Coercions() {
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 与英文单词按忽略大小写比较, 其它字符按原样比较
+     *
+     * @param word 小写形式
+     */
+    private static boolean matches(char[] chars, int offset, int length, String word) {
+        if (length != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = chars[offset + i];
+            char expected = word.charAt(i);
+            if (c != expected && !(expected >= 'a' && expected <= 'z' && c == expected - ('a' - 'A'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 识别true/yes/是/1及false/no/否/0, 英文忽略大小写
+     *
+     * @return 无法识别时返回null
+     */
+    static Boolean toBoolean(char[] chars, int offset, int length) {
+        for (String word : TRUE_WORDS) {
+            if (matches(chars, offset, length, word)) {
+                return Boolean.TRUE;
+            }
+        }
+        for (String word : FALSE_WORDS) {
+            if (matches(chars, offset, length, word)) {
+                return Boolean.FALSE;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 跳过开头的空白
+     *
+     * @return 第一个非空白字符的位置
+     */
+    static int trimStart(char[] chars, int start, int end) {
+        while (start < end && chars[start] <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * 去掉结尾的空白
+     *
+     * @return 最后一个非空白字符之后的位置
+     */
+    static int trimEnd(char[] chars, int start, int end) {
+        while (end > start && chars[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 千分位逗号是否合法: 首组1至3位数字, 之后每组恰好3位, 如1,234,567; 0,5及12,34等逗号作小数点的写法不合法
+     *
+     * @param end 整数部分的结束位置
+     */
+    private static boolean isValidGrouping(char[] chars, int start, int end) {
+        int i = start;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            i++;
+        }
+        boolean leading = true;
+        int groupLength = 0;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (isDigit(c)) {
+                groupLength++;
+            } else if (c == ',' && (leading ? groupLength >= 1 && groupLength <= 3 : groupLength == 3)) {
+                leading = false;
+                groupLength = 0;
+            } else {
+                return false;
+            }
+        }
+        return leading || groupLength == 3;
+    }
+
+    /**
+     * 校验可带符号及千分位逗号的整数, 如-1,234
+     *
+     * @return 数字个数, 不是整数时返回-1
+     */
+    static int integerDigits(char[] chars, int start, int end) {
+        int i = start;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            i++;
+        }
+        int digits = 0;
+        boolean grouped = false;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (isDigit(c)) {
+                digits++;
+            } else if (c == ',') {
+                grouped = true;
+            } else {
+                return -1;
+            }
+        }
+        return digits == 0 || grouped && !isValidGrouping(chars, start, end) ? -1 : digits;
+    }
+
+    /**
+     * 解析{@link #integerDigits}校验过且不超过{@link #SAFE_LONG_DIGITS}位的整数
+     */
+    static long toLong(char[] chars, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (isDigit(c)) {
+                value = value * 10 + (c - '0');
+            }
+        }
+        return chars[start] == '-' ? -value : value;
+    }
+
+    /**
+     * 去掉千分位逗号, 小数点及指数之后不允许逗号
+     *
+     * @return 没有逗号时返回null, 逗号位置无效时返回{@link #INVALID}
+     */
+    private static char[] stripGrouping(char[] chars, int start, int end) {
+        int separators = 0;
+        int integerEnd = end;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c == '.' || c == 'e' || c == 'E') {
+                if (integerEnd == end) {
+                    integerEnd = i;
+                }
+            } else if (c == ',') {
+                if (integerEnd != end) {
+                    return INVALID;
+                }
+                separators++;
+            }
+        }
+        if (separators == 0) {
+            return null;
+        }
+        if (!isValidGrouping(chars, start, integerEnd)) {
+            return INVALID;
+        }
+        char[] digits = new char[end - start - separators];
+        for (int i = start, j = 0; i < end; i++) {
+            if (chars[i] != ',') {
+                digits[j++] = chars[i];
+            }
+        }
+        return digits;
+    }
+
+    /**
+     * 解析可带千分位逗号的小数, 如1,234.5
+     *
+     * @return 格式无效时返回null
+     */
+    static BigDecimal toBigDecimal(char[] chars, int start, int end) {
+        char[] digits = stripGrouping(chars, start, end);
+        if (digits == INVALID) {
+            return null;
+        }
+        try {
+            return digits == null ? new BigDecimal(chars, start, end - start) : new BigDecimal(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 解析可带千分位逗号的数字并截断小数部分
+     *
+     * @return 格式无效时返回null
+     */
+    static BigInteger toBigInteger(char[] chars, int start, int end) {
+        BigDecimal decimal = toBigDecimal(chars, start, end);
+        return decimal == null ? null : decimal.toBigInteger();
+    }
+
+    /**
+     * 解析可带千分位逗号的小数, 支持NaN及Infinity
+     *
+     * @return 格式无效时返回null
+     */
+    static Double toDouble(char[] chars, int start, int end) {
+        char[] digits = stripGrouping(chars, start, end);
+        if (digits == INVALID) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(digits == null ? new String(chars, start, end - start) : new String(digits));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 解析带偏移的yyyy-MM-dd'T'HH:mm:ss.SSSXXX, 日期与时间也可用空格连接, 直接计算纪元秒不创建中间对象;
+ * 其它文本按ISO格式解析. 数值按纪元秒处理, 小数部分为纳秒
+ */
+public class InstantDeserializer extends JavaTimeDeserializer<Instant> {
+    private static final InstantDeserializer instance = new InstantDeserializer(null);
+
+    private InstantDeserializer(DateTimeFormatter formatter) {
+        super(Instant.class, formatter);
+    }
+
+    public static InstantDeserializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected Instant parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        if (length < 17 || chars[offset + 10] != ' ' && chars[offset + 10] != 'T') {
+            return null;
+        }
+        int timeEnd = scanTime(chars, offset + 11, end);
+        if (timeEnd < 0 || timeEnd == end) {
+            return null;
+        }
+        int date = readDate(chars, offset);
+        long nanoOfDay = readNanoOfDay(chars, offset + 11, timeEnd);
+        int offsetSeconds = readOffset(chars, timeEnd, end);
+        if (date < 0 || nanoOfDay < 0 || offsetSeconds == INVALID_OFFSET) {
+            return null;
+        }
+        long epochSecond = toEpochDay(date / 10000, date / 100 % 100, date % 100) * 86400L
+                + nanoOfDay / 1000000000L - offsetSeconds;
+        return Instant.ofEpochSecond(epochSecond, nanoOfDay % 1000000000L);
+    }
+
+    @Override
+    protected Instant parse(String text) {
+        return Instant.from(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text));
+    }
+
+    @Override
+    protected Instant parse(String text, DateTimeFormatter formatter) {
+        return Instant.from(formatter.parse(text));
+    }
+
+    @Override
+    protected Instant fromEpochSecond(long epochSecond, int nanoAdjustment) {
+        return Instant.ofEpochSecond(epochSecond, nanoAdjustment);
+    }
+
+    /**
+     * 属性声明的格式未指定时区时按UTC解析
+     */
+    @Override
+    protected JavaTimeDeserializer<Instant> withFormatter(DateTimeFormatter formatter) {
+        return new InstantDeserializer(formatter.getZone() == null ? formatter.withZone(ZoneOffset.UTC) : formatter);
+    }
+}
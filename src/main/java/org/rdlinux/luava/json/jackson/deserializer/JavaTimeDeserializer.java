@@ -0,0 +1,277 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * java.time类型反序列化器的基类, 直接从解析器的文本缓冲区按固定宽度读取各字段, 不创建临时字符串.
+ * 快速路径支持yyyy-MM-dd, HH:mm[:ss[.S]]及二者以空格或T连接的形式, 小数秒允许1至9位, 时区偏移支持Z, +HH, +HHmm, +HH:mm;
+ * 快速路径不支持的文本交给DateTimeFormatter解析, 无法解析时抛出{@link java.time.format.DateTimeParseException}.
+ * 空字符串返回null, 属性上通过{@link JsonFormat}声明了格式时只使用该格式解析
+ */
+public abstract class JavaTimeDeserializer<T> extends StdDeserializer<T> implements ContextualDeserializer {
+    private static final int[] FRACTION_SCALES = {100000000, 10000000, 1000000, 100000, 10000, 1000, 100, 10, 1};
+    /**
+     * 时区偏移无效时的返回值
+     */
+    protected static final int INVALID_OFFSET = Integer.MIN_VALUE;
+    /**
+     * 属性声明的格式, 为null时使用默认规则
+     */
+    protected final DateTimeFormatter formatter;
+
+    protected JavaTimeDeserializer(Class<T> type, DateTimeFormatter formatter) {
+        super(type);
+        this.formatter = formatter;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 读取两位数字
+     *
+     * @return 不是数字时返回-1
+     */
+    private static int read2(char[] chars, int pos) {
+        char high = chars[pos];
+        char low = chars[pos + 1];
+        if (!isDigit(high) || !isDigit(low)) {
+            return -1;
+        }
+        return (high - '0') * 10 + (low - '0');
+    }
+
+    /**
+     * 读取并校验yyyy-MM-dd, 调用方保证至少有10个字符
+     *
+     * @return year * 10000 + month * 100 + day, 格式或取值无效时返回-1
+     */
+    protected static int readDate(char[] chars, int pos) {
+        int century = read2(chars, pos);
+        int yearOfCentury = read2(chars, pos + 2);
+        int month = read2(chars, pos + 5);
+        int day = read2(chars, pos + 8);
+        if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1
+                || chars[pos + 4] != '-' || chars[pos + 7] != '-') {
+            return -1;
+        }
+        int year = century * 100 + yearOfCentury;
+        int monthLength = month == 2 ? (isLeapYear(year) ? 29 : 28) : month == 4 || month == 6 || month == 9
+                || month == 11 ? 30 : 31;
+        return day > monthLength ? -1 : year * 10000 + month * 100 + day;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 查找HH:mm[:ss[.S]]的结束位置, 只校验结构
+     *
+     * @return 结束位置, 结构不匹配时返回-1
+     */
+    protected static int scanTime(char[] chars, int pos, int end) {
+        if (end - pos < 5 || chars[pos + 2] != ':') {
+            return -1;
+        }
+        int p = pos + 5;
+        if (p == end || chars[p] != ':') {
+            return p;
+        }
+        if (end - p < 3) {
+            return -1;
+        }
+        p += 3;
+        if (p == end || chars[p] != '.') {
+            return p;
+        }
+        int from = ++p;
+        while (p < end && p - from < 9 && isDigit(chars[p])) {
+            p++;
+        }
+        return p == from ? -1 : p;
+    }
+
+    /**
+     * 读取{@link #scanTime}确定的时间
+     *
+     * @return 当天的纳秒数, 取值无效时返回-1
+     */
+    protected static long readNanoOfDay(char[] chars, int pos, int end) {
+        int hour = read2(chars, pos);
+        int minute = read2(chars, pos + 3);
+        int second = 0;
+        int nano = 0;
+        if (end > pos + 5) {
+            second = read2(chars, pos + 6);
+            if (end > pos + 8) {
+                for (int i = pos + 9; i < end; i++) {
+                    nano = nano * 10 + (chars[i] - '0');
+                }
+                nano *= FRACTION_SCALES[end - pos - 10];
+            }
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return (hour * 3600L + minute * 60L + second) * 1000000000L + nano;
+    }
+
+    /**
+     * 读取到结束位置为止的时区偏移
+     *
+     * @return 偏移秒数, 无效时返回{@link #INVALID_OFFSET}
+     */
+    protected static int readOffset(char[] chars, int pos, int end) {
+        int len = end - pos;
+        if (len == 1 && chars[pos] == 'Z') {
+            return 0;
+        }
+        char sign = chars[pos];
+        if (sign != '+' && sign != '-' || len != 3 && len != 5 && len != 6 || len == 6 && chars[pos + 3] != ':') {
+            return INVALID_OFFSET;
+        }
+        int hours = read2(chars, pos + 1);
+        int minutes = len == 3 ? 0 : read2(chars, end - 2);
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || hours == 18 && minutes > 0) {
+            return INVALID_OFFSET;
+        }
+        int seconds = (hours * 60 + minutes) * 60;
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    /**
+     * 公历日期对应的纪元日
+     */
+    protected static long toEpochDay(int year, int month, int day) {
+        // 3月作为一年的开始以便处理闰日
+        int yearOfEra = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(yearOfEra, 400);
+        long yoe = yearOfEra - era * 400;
+        long doy = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /**
+     * 快速路径, 从文本缓冲区解析
+     *
+     * @return 格式不匹配或取值无效时返回null
+     */
+    protected abstract T parse(char[] chars, int offset, int length);
+
+    /**
+     * 快速路径不支持时的解析
+     */
+    protected abstract T parse(String text);
+
+    /**
+     * 按属性声明的格式解析
+     */
+    protected abstract T parse(String text, DateTimeFormatter formatter);
+
+    /**
+     * 创建使用属性声明格式的反序列化器
+     */
+    protected abstract JavaTimeDeserializer<T> withFormatter(DateTimeFormatter formatter);
+
+    /**
+     * 数值的转换, 与jackson-datatype-jsr310一致按纪元秒处理, 小数部分为纳秒. 默认不支持, 按文本解析
+     *
+     * @param nanoAdjustment 纳秒部分, 0至999999999
+     * @return 不支持时返回null
+     */
+    protected T fromEpochSecond(long epochSecond, int nanoAdjustment) {
+        return null;
+    }
+
+    /**
+     * 是否为纪元秒形式的文本, 即可选的负号, 数字及至多一个小数点
+     */
+    private static boolean isEpochSecond(String text) {
+        boolean digit = false;
+        boolean point = false;
+        for (int i = text.charAt(0) == '-' ? 1 : 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                digit = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    private T fromEpochSecond(BigDecimal value) {
+        BigDecimal seconds = value.setScale(0, RoundingMode.FLOOR);
+        int nanos = value.subtract(seconds).movePointRight(9).intValue();
+        return this.fromEpochSecond(seconds.longValueExact(), nanos);
+    }
+
+    @Override
+    public T deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            T value = this.fromEpochSecond(jp.getLongValue(), 0);
+            if (value != null) {
+                return value;
+            }
+        } else if (jp.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+            T value = this.fromEpochSecond(jp.getDecimalValue());
+            if (value != null) {
+                return value;
+            }
+        }
+        if (this.formatter == null && jp.hasToken(JsonToken.VALUE_STRING)) {
+            int length = jp.getTextLength();
+            if (length == 0) {
+                return null;
+            }
+            T value = this.parse(jp.getTextCharacters(), jp.getTextOffset(), length);
+            if (value != null) {
+                return value;
+            }
+        }
+        String source = jp.getText();
+        if (source == null || source.isEmpty()) {
+            return null;
+        }
+        if (this.formatter == null && isEpochSecond(source)) {
+            T value = this.fromEpochSecond(new BigDecimal(source));
+            if (value != null) {
+                return value;
+            }
+        }
+        return this.formatter == null ? this.parse(source) : this.parse(source, this.formatter);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = this.findFormatOverrides(ctxt, property, this.handledType());
+        if (format == null || !format.hasPattern()) {
+            return this;
+        }
+        DateTimeFormatter formatter = format.hasLocale() ? DateTimeFormatter.ofPattern(format.getPattern(), format.getLocale())
+                : DateTimeFormatter.ofPattern(format.getPattern());
+        if (format.hasTimeZone()) {
+            formatter = formatter.withZone(format.getTimeZone().toZoneId());
+        }
+        return this.withFormatter(formatter);
+    }
+}
@@ -0,0 +1,36 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 宽松转换BigDecimal
+ */
+public class JsonBigDecimalDeserializer extends JsonNumberDeserializer<BigDecimal> {
+    private static final JsonBigDecimalDeserializer instance = new JsonBigDecimalDeserializer();
+
+    private JsonBigDecimalDeserializer() {
+        super(BigDecimal.class, null);
+    }
+
+    public static JsonBigDecimalDeserializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected BigDecimal fromNumber(JsonParser jp) throws IOException {
+        return jp.getDecimalValue();
+    }
+
+    @Override
+    protected BigDecimal fromText(char[] chars, int start, int end) {
+        return Coercions.toBigDecimal(chars, start, end);
+    }
+
+    @Override
+    protected BigDecimal fromBoolean(boolean value) {
+        return value ? BigDecimal.ONE : BigDecimal.ZERO;
+    }
+}
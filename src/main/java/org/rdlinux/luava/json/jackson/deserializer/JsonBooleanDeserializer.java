@@ -1,36 +1,87 @@
 package org.rdlinux.luava.json.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonTokenId;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.util.AccessPattern;
 
 import java.io.IOException;
 
 /**
- * 自定义字符串反序列号成boolean
+ * 自定义字符串反序列号成boolean, 按当前token分别处理: true/false直接返回, 整数1/0,
+ * 字符串去掉首尾空白后识别true/yes/是/1及false/no/否/0, 英文忽略大小写, 直接比较解析器的文本缓冲区.
+ * 空字符串及null对Boolean返回null, 对boolean返回false
  */
-public class JsonBooleanDeserializer extends JsonDeserializer<Boolean> {
-    private static final JsonBooleanDeserializer instance = new JsonBooleanDeserializer();
+public class JsonBooleanDeserializer extends StdScalarDeserializer<Boolean> {
+    private static final JsonBooleanDeserializer instance = new JsonBooleanDeserializer(Boolean.class, null);
+    private static final JsonBooleanDeserializer primitiveInstance = new JsonBooleanDeserializer(Boolean.TYPE,
+            Boolean.FALSE);
+    private final Boolean nullValue;
 
-    private JsonBooleanDeserializer() {
+    private JsonBooleanDeserializer(Class<Boolean> type, Boolean nullValue) {
+        super(type);
+        this.nullValue = nullValue;
     }
 
     public static JsonBooleanDeserializer getInstance() {
         return instance;
     }
 
+    public static JsonBooleanDeserializer getPrimitiveInstance() {
+        return primitiveInstance;
+    }
+
+    @Override
+    public Boolean deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        switch (jp.currentTokenId()) {
+            case JsonTokenId.ID_TRUE:
+                return Boolean.TRUE;
+            case JsonTokenId.ID_FALSE:
+                return Boolean.FALSE;
+            case JsonTokenId.ID_NUMBER_INT:
+                if (jp.getNumberType() == JsonParser.NumberType.INT) {
+                    int value = jp.getIntValue();
+                    if (value == 1 || value == 0) {
+                        return value == 1;
+                    }
+                }
+                return (Boolean) ctxt.handleWeirdNumberValue(this.handledType(), jp.getNumberValue(),
+                        "can not cast to boolean");
+            case JsonTokenId.ID_STRING:
+                char[] chars = jp.getTextCharacters();
+                int offset = jp.getTextOffset();
+                int start = Coercions.trimStart(chars, offset, offset + jp.getTextLength());
+                int end = Coercions.trimEnd(chars, start, offset + jp.getTextLength());
+                if (start == end) {
+                    return this.getNullValue(ctxt);
+                }
+                Boolean value = Coercions.toBoolean(chars, start, end - start);
+                if (value != null) {
+                    return value;
+                }
+                return (Boolean) ctxt.handleWeirdStringValue(this.handledType(), jp.getText(),
+                        "can not cast to boolean");
+            default:
+                return (Boolean) ctxt.handleUnexpectedToken(this.handledType(), jp);
+        }
+    }
+
+    @Override
+    public AccessPattern getNullAccessPattern() {
+        return this.nullValue == null ? AccessPattern.ALWAYS_NULL : AccessPattern.DYNAMIC;
+    }
+
+    /**
+     * boolean在开启{@link DeserializationFeature#FAIL_ON_NULL_FOR_PRIMITIVES}时不接受null
+     */
     @Override
-    public Boolean deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        String source = jp.getText();
-        if (source == null) {
-            return null;
-        } else if (source.toLowerCase().equals("yes") || source.toLowerCase().equals("true") || source.toLowerCase().equals("是") || source.equals("1")) {
-            return true;
-        } else if (source.toLowerCase().equals("no") || source.toLowerCase().equals("false") || source.toLowerCase().equals("否") || source.equals("0")) {
-            return false;
-        } else {
-            throw new IllegalArgumentException(source + " cat not case to boolean");
+    public Boolean getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+        if (this.nullValue != null && ctxt.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)) {
+            ctxt.reportInputMismatch(this, "Cannot map `null` into type %s", this.handledType().getName());
         }
+        return this.nullValue;
     }
 }
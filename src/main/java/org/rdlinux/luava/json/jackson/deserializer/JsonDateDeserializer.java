@@ -9,9 +9,46 @@ import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.TimeZone;
 
+/**
+ * 自定义字符串反序列化成Date, 单次扫描识别并解析以下格式, 不使用正则及SimpleDateFormat:
+ * <ul>
+ * <li>毫秒时间戳</li>
+ * <li>yyyy-MM-dd'T'HH:mm:ss.SSS'Z'</li>
+ * <li>yyyy-MM-dd'T'HH:mm:ss.SSS+HHmm, yyyy-MM-dd'T'HH:mm:ss.SSS UTC</li>
+ * <li>yyyy-MM-dd'T'HH:mm:ss.SSS</li>
+ * <li>yyyy-MM-dd HH:mm:ss.SSS</li>
+ * <li>yyyy-MM-dd HH:mm:ss</li>
+ * <li>yyyy-MM-dd</li>
+ * <li>MM/dd/yyyy</li>
+ * <li>MM/dd/yyyy HH:mm:ss</li>
+ * </ul>
+ * 月、日、时、分、秒允许1至2位, 毫秒允许1至3位, 超出范围的值与宽松模式的SimpleDateFormat一样顺延
+ */
 public class JsonDateDeserializer extends JsonDeserializer<Date> {
     private static final JsonDateDeserializer instance = new JsonDateDeserializer();
+    /**
+     * 早于该年份的日期涉及儒略历切换, 交由SimpleDateFormat处理
+     */
+    private static final int GREGORIAN_START_YEAR = 1583;
+    /**
+     * 查找本地时间附近时区偏移变化的探测范围
+     */
+    private static final long TRANSITION_PROBE_MILLIS = 3 * 3600000L;
+    private static final String ISO_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+    private static final String ISO_Z_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+    private static final String ISO_ZONE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+    private static final String DATE_TIME_MILLIS_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+    private static final String US_DATE_PATTERN = "MM/dd/yyyy";
+    private static final String US_DATE_TIME_PATTERN = "MM/dd/yyyy HH:mm:ss";
+    private static final ThreadLocal<SimpleDateFormat[]> fallbackFormats = ThreadLocal.withInitial(() ->
+            new SimpleDateFormat[]{new SimpleDateFormat(ISO_Z_PATTERN), new SimpleDateFormat(ISO_ZONE_PATTERN),
+                    new SimpleDateFormat(ISO_PATTERN), new SimpleDateFormat(DATE_TIME_MILLIS_PATTERN),
+                    new SimpleDateFormat(DATE_TIME_PATTERN), new SimpleDateFormat(DATE_PATTERN),
+                    new SimpleDateFormat(US_DATE_PATTERN), new SimpleDateFormat(US_DATE_TIME_PATTERN)});
 
     private JsonDateDeserializer() {
     }
@@ -20,46 +57,278 @@ public class JsonDateDeserializer extends JsonDeserializer<Date> {
         return instance;
     }
 
-    private SimpleDateFormat getSimpleDateFormat(String dateString) {
-        if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}Z$")) {
-            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}\\+[0-9]{4}$")
-                || dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}\\sUTC$")) {
-            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
-        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}$")) {
-            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}\\s[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}$")) {
-            return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
-        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}\\s[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}$")) {
-            return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}$")) {
-            return new SimpleDateFormat("yyyy-MM-dd");
-        } else if (dateString.matches("^[0-9]{1,2}/[0-9]{1,2}/[0-9]{4}$")) {
-            return new SimpleDateFormat("MM/dd/yyyy");
-        } else if (dateString.matches("^[0-9]{1,2}/[0-9]{1,2}/[0-9]{4}\\s[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}$")) {
-            return new SimpleDateFormat("MM/dd/yyyy HH:mm:ss");
-        } else {
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBlank(String source) {
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String source) {
+        for (int i = 0; i < source.length(); i++) {
+            if (!isDigit(source.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 从指定位置读取连续数字
+     *
+     * @return 数字个数在[min, max]范围内时返回数字结束位置, 否则返回-1
+     */
+    private static int scanDigits(String source, int from, int min, int max) {
+        int end = from;
+        int limit = Math.min(source.length(), from + max);
+        while (end < limit && isDigit(source.charAt(end))) {
+            end++;
+        }
+        if (end - from < min || end < source.length() && end == limit && isDigit(source.charAt(end))) {
+            return -1;
+        }
+        return end;
+    }
+
+    private static int toInt(String source, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (source.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean expect(String source, int index, char c) {
+        return index < source.length() && source.charAt(index) == c;
+    }
+
+    /**
+     * 按公历计算本地时间对应的毫秒数, 各字段超出范围时顺延
+     */
+    private static long localMillis(int year, int month, int day, int hour, int minute, int second, int millis) {
+        long monthIndex = (long) year * 12 + month - 1;
+        long y = Math.floorDiv(monthIndex, 12L);
+        int m = (int) (monthIndex - y * 12) + 1;
+        // 公历日期转纪元日, 3月作为一年的开始以便处理闰日
+        long yearOfEra = m <= 2 ? y - 1 : y;
+        long era = Math.floorDiv(yearOfEra, 400L);
+        long yoe = yearOfEra - era * 400;
+        long doy = (153L * (m > 2 ? m - 3 : m + 9) + 2) / 5;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        long epochDay = era * 146097 + doe - 719468 + day - 1;
+        return epochDay * 86400000L + hour * 3600000L + minute * 60000L + second * 1000L + millis;
+    }
+
+    /**
+     * 把本地时间按默认时区转换为Date, 与宽松模式的日历一致: 夏令时跳过的时间按切换前的偏移计算, 重复的时间取较晚的一次
+     */
+    private static Date toDate(long localMillis) {
+        TimeZone timeZone = TimeZone.getDefault();
+        long approximate = localMillis - timeZone.getOffset(localMillis);
+        int before = timeZone.getOffset(approximate - TRANSITION_PROBE_MILLIS);
+        int after = timeZone.getOffset(approximate + TRANSITION_PROBE_MILLIS);
+        if (after != before && timeZone.getOffset(localMillis - after) == after) {
+            return new Date(localMillis - after);
+        }
+        return new Date(localMillis - before);
+    }
+
+    /**
+     * 与SimpleDateFormat一致, 格式匹配但内容无法解析时抛出异常
+     */
+    private static IllegalArgumentException unparseable(String source, int index) {
+        return new IllegalArgumentException(new ParseException("Unparseable date: \"" + source + "\"", index));
+    }
+
+    private static Date fallback(String source, int formatIndex) {
+        try {
+            SimpleDateFormat format = fallbackFormats.get()[formatIndex];
+            format.setTimeZone(TimeZone.getDefault());
+            return format.parse(source);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 解析yyyy-MM-dd开头的格式
+     */
+    private static Date parseIsoLike(String source) {
+        int len = source.length();
+        int monthEnd = scanDigits(source, 5, 1, 2);
+        if (monthEnd < 0 || !expect(source, monthEnd, '-')) {
+            return null;
+        }
+        int dayEnd = scanDigits(source, monthEnd + 1, 1, 2);
+        if (dayEnd < 0) {
+            return null;
+        }
+        int year = toInt(source, 0, 4);
+        int month = toInt(source, 5, monthEnd);
+        int day = toInt(source, monthEnd + 1, dayEnd);
+        if (dayEnd == len) {
+            return year < GREGORIAN_START_YEAR ? fallback(source, 5)
+                    : toDate(localMillis(year, month, day, 0, 0, 0, 0));
+        }
+        char separator = source.charAt(dayEnd);
+        boolean iso = separator == 'T';
+        if (!iso && !isWhitespace(separator)) {
+            return null;
+        }
+        int hourEnd = scanDigits(source, dayEnd + 1, 1, 2);
+        if (hourEnd < 0 || !expect(source, hourEnd, ':')) {
+            return null;
+        }
+        int minuteEnd = scanDigits(source, hourEnd + 1, 1, 2);
+        if (minuteEnd < 0 || !expect(source, minuteEnd, ':')) {
             return null;
         }
+        int secondEnd = scanDigits(source, minuteEnd + 1, 1, 2);
+        if (secondEnd < 0) {
+            return null;
+        }
+        boolean badSeparator = !iso && separator != ' ';
+        int hour = toInt(source, dayEnd + 1, hourEnd);
+        int minute = toInt(source, hourEnd + 1, minuteEnd);
+        int second = toInt(source, minuteEnd + 1, secondEnd);
+        if (secondEnd == len) {
+            if (iso) {
+                return null;
+            }
+            if (badSeparator) {
+                throw unparseable(source, dayEnd);
+            }
+            return year < GREGORIAN_START_YEAR ? fallback(source, 4)
+                    : toDate(localMillis(year, month, day, hour, minute, second, 0));
+        }
+        if (!expect(source, secondEnd, '.')) {
+            return null;
+        }
+        int millisEnd = scanDigits(source, secondEnd + 1, 1, 3);
+        if (millisEnd < 0) {
+            return null;
+        }
+        int millis = toInt(source, secondEnd + 1, millisEnd);
+        long local = localMillis(year, month, day, hour, minute, second, millis);
+        if (millisEnd == len) {
+            if (badSeparator) {
+                throw unparseable(source, dayEnd);
+            }
+            if (year < GREGORIAN_START_YEAR) {
+                return fallback(source, iso ? 2 : 3);
+            }
+            return toDate(local);
+        }
+        if (!iso) {
+            return null;
+        }
+        char zone = source.charAt(millisEnd);
+        if (zone == 'Z' && millisEnd + 1 == len) {
+            return year < GREGORIAN_START_YEAR ? fallback(source, 0) : toDate(local);
+        }
+        if (zone == '+' && len == millisEnd + 5 && scanDigits(source, millisEnd + 1, 4, 4) == len) {
+            if (year < GREGORIAN_START_YEAR) {
+                return fallback(source, 1);
+            }
+            int offsetHours = toInt(source, millisEnd + 1, millisEnd + 3);
+            int offsetMinutes = toInt(source, millisEnd + 3, len);
+            if (offsetHours > 23 || offsetMinutes > 59) {
+                throw unparseable(source, millisEnd);
+            }
+            return new Date(local - (offsetHours * 60L + offsetMinutes) * 60000L);
+        }
+        if (isWhitespace(zone) && len == millisEnd + 4 && source.startsWith("UTC", millisEnd + 1)) {
+            // SimpleDateFormat在时区前只跳过空格及制表符
+            if (zone != ' ' && zone != '\t') {
+                throw unparseable(source, millisEnd);
+            }
+            return year < GREGORIAN_START_YEAR ? fallback(source, 1) : new Date(local);
+        }
+        return null;
+    }
+
+    /**
+     * 解析MM/dd/yyyy开头的格式
+     */
+    private static Date parseUsLike(String source, int monthEnd) {
+        int len = source.length();
+        int dayEnd = scanDigits(source, monthEnd + 1, 1, 2);
+        if (dayEnd < 0 || !expect(source, dayEnd, '/')) {
+            return null;
+        }
+        int yearEnd = scanDigits(source, dayEnd + 1, 4, 4);
+        if (yearEnd < 0) {
+            return null;
+        }
+        int month = toInt(source, 0, monthEnd);
+        int day = toInt(source, monthEnd + 1, dayEnd);
+        int year = toInt(source, dayEnd + 1, yearEnd);
+        if (yearEnd == len) {
+            return year < GREGORIAN_START_YEAR ? fallback(source, 6)
+                    : toDate(localMillis(year, month, day, 0, 0, 0, 0));
+        }
+        if (!isWhitespace(source.charAt(yearEnd))) {
+            return null;
+        }
+        int hourEnd = scanDigits(source, yearEnd + 1, 1, 2);
+        if (hourEnd < 0 || !expect(source, hourEnd, ':')) {
+            return null;
+        }
+        int minuteEnd = scanDigits(source, hourEnd + 1, 1, 2);
+        if (minuteEnd < 0 || !expect(source, minuteEnd, ':')) {
+            return null;
+        }
+        int secondEnd = scanDigits(source, minuteEnd + 1, 1, 2);
+        if (secondEnd != len) {
+            return null;
+        }
+        if (source.charAt(yearEnd) != ' ') {
+            throw unparseable(source, yearEnd);
+        }
+        if (year < GREGORIAN_START_YEAR) {
+            return fallback(source, 7);
+        }
+        int hour = toInt(source, yearEnd + 1, hourEnd);
+        int minute = toInt(source, hourEnd + 1, minuteEnd);
+        int second = toInt(source, minuteEnd + 1, secondEnd);
+        return toDate(localMillis(year, month, day, hour, minute, second, 0));
+    }
+
+    /**
+     * 识别并解析日期字符串
+     *
+     * @return 不支持的格式返回null
+     */
+    static Date parse(String source) {
+        if (scanDigits(source, 0, 4, 4) == 4 && expect(source, 4, '-')) {
+            return parseIsoLike(source);
+        }
+        int monthEnd = scanDigits(source, 0, 1, 2);
+        if (monthEnd > 0 && expect(source, monthEnd, '/')) {
+            return parseUsLike(source, monthEnd);
+        }
+        return null;
     }
 
     @Override
     public Date deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
         String source = jp.getText();
-        if (source == null || source.trim().isEmpty()) {
+        if (source == null || isBlank(source)) {
             return null;
         }
-        if (source.matches("^[0-9]+$")) {
+        if (isDigits(source)) {
             return new Date(Long.parseLong(source));
         }
-        SimpleDateFormat simpleDateFormat = this.getSimpleDateFormat(source);
-        if (simpleDateFormat == null) {
-            return null;
-        }
-        try {
-            return simpleDateFormat.parse(source);
-        } catch (ParseException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return parse(source);
     }
 }
@@ -0,0 +1,40 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * 宽松转换double及Double, 字符串支持NaN及Infinity
+ */
+public class JsonDoubleDeserializer extends JsonNumberDeserializer<Double> {
+    private static final JsonDoubleDeserializer instance = new JsonDoubleDeserializer(Double.class, null);
+    private static final JsonDoubleDeserializer primitiveInstance = new JsonDoubleDeserializer(Double.TYPE, 0.0);
+
+    private JsonDoubleDeserializer(Class<Double> type, Double nullValue) {
+        super(type, nullValue);
+    }
+
+    public static JsonDoubleDeserializer getInstance() {
+        return instance;
+    }
+
+    public static JsonDoubleDeserializer getPrimitiveInstance() {
+        return primitiveInstance;
+    }
+
+    @Override
+    protected Double fromNumber(JsonParser jp) throws IOException {
+        return jp.getDoubleValue();
+    }
+
+    @Override
+    protected Double fromText(char[] chars, int start, int end) {
+        return Coercions.toDouble(chars, start, end);
+    }
+
+    @Override
+    protected Double fromBoolean(boolean value) {
+        return value ? 1.0 : 0.0;
+    }
+}
@@ -0,0 +1,50 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * 宽松转换int及Integer, 小数截断为整数
+ */
+public class JsonIntegerDeserializer extends JsonNumberDeserializer<Integer> {
+    private static final JsonIntegerDeserializer instance = new JsonIntegerDeserializer(Integer.class, null);
+    private static final JsonIntegerDeserializer primitiveInstance = new JsonIntegerDeserializer(Integer.TYPE, 0);
+    /**
+     * 不超过该位数的整数不会溢出int
+     */
+    private static final int SAFE_DIGITS = 9;
+
+    private JsonIntegerDeserializer(Class<Integer> type, Integer nullValue) {
+        super(type, nullValue);
+    }
+
+    public static JsonIntegerDeserializer getInstance() {
+        return instance;
+    }
+
+    public static JsonIntegerDeserializer getPrimitiveInstance() {
+        return primitiveInstance;
+    }
+
+    @Override
+    protected Integer fromNumber(JsonParser jp) throws IOException {
+        return jp.getIntValue();
+    }
+
+    @Override
+    protected Integer fromText(char[] chars, int start, int end) {
+        int digits = Coercions.integerDigits(chars, start, end);
+        if (digits > 0 && digits <= SAFE_DIGITS) {
+            return (int) Coercions.toLong(chars, start, end);
+        }
+        BigInteger value = Coercions.toBigInteger(chars, start, end);
+        return value != null && value.bitLength() < Integer.SIZE ? value.intValue() : null;
+    }
+
+    @Override
+    protected Integer fromBoolean(boolean value) {
+        return value ? 1 : 0;
+    }
+}
@@ -0,0 +1,46 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * 宽松转换long及Long, 小数截断为整数
+ */
+public class JsonLongDeserializer extends JsonNumberDeserializer<Long> {
+    private static final JsonLongDeserializer instance = new JsonLongDeserializer(Long.class, null);
+    private static final JsonLongDeserializer primitiveInstance = new JsonLongDeserializer(Long.TYPE, 0L);
+
+    private JsonLongDeserializer(Class<Long> type, Long nullValue) {
+        super(type, nullValue);
+    }
+
+    public static JsonLongDeserializer getInstance() {
+        return instance;
+    }
+
+    public static JsonLongDeserializer getPrimitiveInstance() {
+        return primitiveInstance;
+    }
+
+    @Override
+    protected Long fromNumber(JsonParser jp) throws IOException {
+        return jp.getLongValue();
+    }
+
+    @Override
+    protected Long fromText(char[] chars, int start, int end) {
+        int digits = Coercions.integerDigits(chars, start, end);
+        if (digits > 0 && digits <= Coercions.SAFE_LONG_DIGITS) {
+            return Coercions.toLong(chars, start, end);
+        }
+        BigInteger value = Coercions.toBigInteger(chars, start, end);
+        return value != null && value.bitLength() < Long.SIZE ? value.longValue() : null;
+    }
+
+    @Override
+    protected Long fromBoolean(boolean value) {
+        return value ? 1L : 0L;
+    }
+}
@@ -0,0 +1,93 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+
+import java.io.IOException;
+
+/**
+ * 宽松的数字反序列化基类, 按当前token分别处理: 数字直接读取, true/false转换为1/0,
+ * 字符串去掉首尾空白后支持千分位逗号(如1,234)及true/yes/是/1, false/no/否/0, 直接读取解析器的文本缓冲区.
+ * 空字符串及null对包装类型返回null, 对基本类型返回0
+ */
+public abstract class JsonNumberDeserializer<T extends Number> extends StdScalarDeserializer<T> {
+    private final T nullValue;
+
+    /**
+     * @param type      处理的类型, 基本类型使用如{@link Integer#TYPE}
+     * @param nullValue null对应的值, 基本类型为0
+     */
+    protected JsonNumberDeserializer(Class<T> type, T nullValue) {
+        super(type);
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * 读取数字token
+     */
+    protected abstract T fromNumber(JsonParser jp) throws IOException;
+
+    /**
+     * 解析去掉首尾空白后的非空文本
+     *
+     * @return 不是数字或超出范围时返回null
+     */
+    protected abstract T fromText(char[] chars, int start, int end);
+
+    protected abstract T fromBoolean(boolean value);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        switch (jp.currentTokenId()) {
+            case JsonTokenId.ID_NUMBER_INT:
+            case JsonTokenId.ID_NUMBER_FLOAT:
+                return this.fromNumber(jp);
+            case JsonTokenId.ID_TRUE:
+                return this.fromBoolean(true);
+            case JsonTokenId.ID_FALSE:
+                return this.fromBoolean(false);
+            case JsonTokenId.ID_STRING:
+                char[] chars = jp.getTextCharacters();
+                int offset = jp.getTextOffset();
+                int start = Coercions.trimStart(chars, offset, offset + jp.getTextLength());
+                int end = Coercions.trimEnd(chars, start, offset + jp.getTextLength());
+                if (start == end) {
+                    return this.getNullValue(ctxt);
+                }
+                T value = this.fromText(chars, start, end);
+                if (value != null) {
+                    return value;
+                }
+                Boolean bool = Coercions.toBoolean(chars, start, end - start);
+                if (bool != null) {
+                    return this.fromBoolean(bool);
+                }
+                return (T) ctxt.handleWeirdStringValue(this.handledType(), jp.getText(), "not a valid %s value",
+                        this.handledType().getSimpleName());
+            default:
+                return (T) ctxt.handleUnexpectedToken(this.handledType(), jp);
+        }
+    }
+
+    @Override
+    public AccessPattern getNullAccessPattern() {
+        return this.nullValue == null ? AccessPattern.ALWAYS_NULL : AccessPattern.DYNAMIC;
+    }
+
+    /**
+     * 基本类型在开启{@link DeserializationFeature#FAIL_ON_NULL_FOR_PRIMITIVES}时不接受null
+     */
+    @Override
+    public T getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+        if (this.nullValue != null && ctxt.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)) {
+            ctxt.reportInputMismatch(this, "Cannot map `null` into type %s", this.handledType().getName());
+        }
+        return this.nullValue;
+    }
+}
@@ -0,0 +1,43 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 解析yyyy-MM-dd, 其它文本按ISO格式解析
+ */
+public class LocalDateDeserializer extends JavaTimeDeserializer<LocalDate> {
+    private static final LocalDateDeserializer instance = new LocalDateDeserializer(null);
+
+    private LocalDateDeserializer(DateTimeFormatter formatter) {
+        super(LocalDate.class, formatter);
+    }
+
+    public static LocalDateDeserializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected LocalDate parse(char[] chars, int offset, int length) {
+        if (length != 10) {
+            return null;
+        }
+        int date = readDate(chars, offset);
+        return date < 0 ? null : LocalDate.of(date / 10000, date / 100 % 100, date % 100);
+    }
+
+    @Override
+    protected LocalDate parse(String text) {
+        return LocalDate.parse(text);
+    }
+
+    @Override
+    protected LocalDate parse(String text, DateTimeFormatter formatter) {
+        return LocalDate.parse(text, formatter);
+    }
+
+    @Override
+    protected JavaTimeDeserializer<LocalDate> withFormatter(DateTimeFormatter formatter) {
+        return new LocalDateDeserializer(formatter);
+    }
+}
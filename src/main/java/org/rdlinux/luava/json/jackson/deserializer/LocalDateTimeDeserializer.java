@@ -1,18 +1,20 @@
 package org.rdlinux.luava.json.jackson.deserializer;
 
-import com.fasterxml.jackson.core.JacksonException;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
 import org.rdlinux.luava.json.jackson.serializer.LocalDateTimeSerializer;
 
-import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 
-public class LocalDateTimeDeserializer extends JsonDeserializer<LocalDateTime> {
-    private static final LocalDateTimeDeserializer instance = new LocalDateTimeDeserializer();
+/**
+ * 解析yyyy-MM-dd HH:mm:ss.SSS及yyyy-MM-dd'T'HH:mm:ss.SSS, 秒及小数秒可省略
+ */
+public class LocalDateTimeDeserializer extends JavaTimeDeserializer<LocalDateTime> {
+    private static final LocalDateTimeDeserializer instance = new LocalDateTimeDeserializer(null);
 
-    private LocalDateTimeDeserializer() {
+    private LocalDateTimeDeserializer(DateTimeFormatter formatter) {
+        super(LocalDateTime.class, formatter);
     }
 
     public static LocalDateTimeDeserializer getInstance() {
@@ -20,11 +22,33 @@ public class LocalDateTimeDeserializer extends JsonDeserializer<LocalDateTime> {
     }
 
     @Override
-    public LocalDateTime deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JacksonException {
-        String source = jp.getText();
-        if (source == null || source.isEmpty()) {
+    protected LocalDateTime parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        if (length < 16 || chars[offset + 10] != ' ' && chars[offset + 10] != 'T'
+                || scanTime(chars, offset + 11, end) != end) {
             return null;
         }
-        return LocalDateTime.parse(source, LocalDateTimeSerializer.dateTimeFormatter);
+        int date = readDate(chars, offset);
+        long nanoOfDay = readNanoOfDay(chars, offset + 11, end);
+        if (date < 0 || nanoOfDay < 0) {
+            return null;
+        }
+        return LocalDateTime.of(LocalDate.of(date / 10000, date / 100 % 100, date % 100),
+                LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    @Override
+    protected LocalDateTime parse(String text) {
+        return LocalDateTime.parse(text, LocalDateTimeSerializer.dateTimeFormatter);
+    }
+
+    @Override
+    protected LocalDateTime parse(String text, DateTimeFormatter formatter) {
+        return LocalDateTime.parse(text, formatter);
+    }
+
+    @Override
+    protected JavaTimeDeserializer<LocalDateTime> withFormatter(DateTimeFormatter formatter) {
+        return new LocalDateTimeDeserializer(formatter);
     }
 }
@@ -0,0 +1,44 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 解析HH:mm:ss.SSS, 秒及小数秒可省略, 其它文本按ISO格式解析
+ */
+public class LocalTimeDeserializer extends JavaTimeDeserializer<LocalTime> {
+    private static final LocalTimeDeserializer instance = new LocalTimeDeserializer(null);
+
+    private LocalTimeDeserializer(DateTimeFormatter formatter) {
+        super(LocalTime.class, formatter);
+    }
+
+    public static LocalTimeDeserializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected LocalTime parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        if (scanTime(chars, offset, end) != end) {
+            return null;
+        }
+        long nanoOfDay = readNanoOfDay(chars, offset, end);
+        return nanoOfDay < 0 ? null : LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    @Override
+    protected LocalTime parse(String text) {
+        return LocalTime.parse(text);
+    }
+
+    @Override
+    protected LocalTime parse(String text, DateTimeFormatter formatter) {
+        return LocalTime.parse(text, formatter);
+    }
+
+    @Override
+    protected JavaTimeDeserializer<LocalTime> withFormatter(DateTimeFormatter formatter) {
+        return new LocalTimeDeserializer(formatter);
+    }
+}
@@ -0,0 +1,66 @@
+package org.rdlinux.luava.json.jackson.deserializer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 解析yyyy-MM-dd'T'HH:mm:ss.SSSXXX, 保留报文中的偏移; 日期与时间也可用空格连接, 其它文本按ISO格式解析.
+ * 数值按纪元秒处理, 小数部分为纳秒, 偏移为UTC
+ */
+public class OffsetDateTimeDeserializer extends JavaTimeDeserializer<OffsetDateTime> {
+    private static final OffsetDateTimeDeserializer instance = new OffsetDateTimeDeserializer(null);
+
+    private OffsetDateTimeDeserializer(DateTimeFormatter formatter) {
+        super(OffsetDateTime.class, formatter);
+    }
+
+    public static OffsetDateTimeDeserializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected OffsetDateTime parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        if (length < 17 || chars[offset + 10] != ' ' && chars[offset + 10] != 'T') {
+            return null;
+        }
+        int timeEnd = scanTime(chars, offset + 11, end);
+        if (timeEnd < 0 || timeEnd == end) {
+            return null;
+        }
+        int date = readDate(chars, offset);
+        long nanoOfDay = readNanoOfDay(chars, offset + 11, timeEnd);
+        int offsetSeconds = readOffset(chars, timeEnd, end);
+        if (date < 0 || nanoOfDay < 0 || offsetSeconds == INVALID_OFFSET) {
+            return null;
+        }
+        LocalDateTime localDateTime = LocalDateTime.of(LocalDate.of(date / 10000, date / 100 % 100, date % 100),
+                LocalTime.ofNanoOfDay(nanoOfDay));
+        return OffsetDateTime.of(localDateTime, ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    @Override
+    protected OffsetDateTime parse(String text) {
+        return OffsetDateTime.parse(text);
+    }
+
+    @Override
+    protected OffsetDateTime parse(String text, DateTimeFormatter formatter) {
+        return OffsetDateTime.parse(text, formatter);
+    }
+
+    @Override
+    protected OffsetDateTime fromEpochSecond(long epochSecond, int nanoAdjustment) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nanoAdjustment), ZoneOffset.UTC);
+    }
+
+    @Override
+    protected JavaTimeDeserializer<OffsetDateTime> withFormatter(DateTimeFormatter formatter) {
+        return new OffsetDateTimeDeserializer(formatter);
+    }
+}
@@ -0,0 +1,22 @@
+package org.rdlinux.luava.json.jackson.factory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * 二进制格式的jsonFactory, 单独成类以便未引入对应依赖时其它类仍可正常加载
+ */
+class BinaryFactories {
+    static JsonFactory smile() {
+        return new SmileFactory();
+    }
+
+    /**
+     * 输出自描述标签, 读取时可以识别格式
+     */
+    static JsonFactory cbor() {
+        return new CBORFactory().enable(CBORGenerator.Feature.WRITE_TYPE_HEADER);
+    }
+}
@@ -0,0 +1,63 @@
+package org.rdlinux.luava.json.jackson.factory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * 二进制格式, 使用时需引入对应的jackson-dataformat依赖
+ */
+public enum BinaryFormat {
+    /**
+     * Smile, 依赖jackson-dataformat-smile, 输出以":)\n"头开始
+     */
+    SMILE("smile"),
+    /**
+     * CBOR(RFC 8949), 依赖jackson-dataformat-cbor, 输出以自描述标签0xd9d9f7开始
+     */
+    CBOR("cbor");
+
+    private final String key;
+    private final String snakeCaseKey;
+
+    BinaryFormat(String name) {
+        this.key = name + ":";
+        this.snakeCaseKey = name + "SnakeCase:";
+    }
+
+    /**
+     * 识别数据的格式, 识别Smile头及CBOR自描述标签
+     *
+     * @return 无法识别时返回null
+     */
+    public static BinaryFormat detect(byte[] data, int offset, int length) {
+        if (length >= 3) {
+            byte first = data[offset];
+            byte second = data[offset + 1];
+            byte third = data[offset + 2];
+            if (first == ':' && second == ')' && third == '\n') {
+                return SMILE;
+            }
+            if (first == (byte) 0xD9 && second == (byte) 0xD9 && third == (byte) 0xF7) {
+                return CBOR;
+            }
+        }
+        return null;
+    }
+
+    String getKey() {
+        return this.key;
+    }
+
+    String getSnakeCaseKey() {
+        return this.snakeCaseKey;
+    }
+
+    /**
+     * 创建格式对应的jsonFactory, 在此之前不会加载格式的依赖
+     */
+    JsonFactory createFactory() {
+        if (this == SMILE) {
+            return BinaryFactories.smile();
+        }
+        return BinaryFactories.cbor();
+    }
+}
@@ -0,0 +1,486 @@
+package org.rdlinux.luava.json.jackson.factory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.io.IOException;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 缓存已解析的{@link JavaType}、预先构建的{@link ObjectReader}/{@link ObjectWriter}及属性投影反序列化器的objectMapper.
+ * 缓存以{@link ClassValue}按类保存, 不会阻止类加载器被回收; 泛型及容器类型的缓存保存在类型中类加载器最深的类上,
+ * 如List&lt;AppDto&gt;保存在AppDto上而不是List上. reader引用objectMapper, 按objectMapper保存. objectMapper的配置变化后缓存自动重建
+ */
+public class CachingObjectMapper extends ObjectMapper {
+    private static final long serialVersionUID = 1L;
+    private final String key;
+    private transient volatile Caches caches;
+
+    public CachingObjectMapper() {
+        super();
+        this.key = null;
+    }
+
+    public CachingObjectMapper(JsonFactory jsonFactory) {
+        this(jsonFactory, null);
+    }
+
+    /**
+     * @param jsonFactory 使用的jsonFactory
+     * @param key         在{@link ObjectMapperFactory}中的key, 用于统计信息区分objectMapper
+     */
+    public CachingObjectMapper(JsonFactory jsonFactory, String key) {
+        super(jsonFactory);
+        this.key = key;
+    }
+
+    protected CachingObjectMapper(CachingObjectMapper src) {
+        this(src, null, src.key);
+    }
+
+    /**
+     * 复制配置, 与src共享已注册的模块及{@link com.fasterxml.jackson.databind.type.TypeFactory}的类型缓存,
+     * 序列化器及反序列化器缓存独立
+     *
+     * @param src         被复制的objectMapper
+     * @param jsonFactory 使用的jsonFactory, 为null时复制src的jsonFactory
+     * @param key         在{@link ObjectMapperFactory}中的key
+     */
+    protected CachingObjectMapper(CachingObjectMapper src, JsonFactory jsonFactory, String key) {
+        super(src, jsonFactory);
+        this.key = key;
+    }
+
+    @Override
+    public ObjectMapper copy() {
+        this._checkInvalidCopy(CachingObjectMapper.class);
+        return new CachingObjectMapper(this);
+    }
+
+    @Override
+    public ObjectMapper copyWith(JsonFactory factory) {
+        this._checkInvalidCopy(CachingObjectMapper.class);
+        return new CachingObjectMapper(this, factory, this.key);
+    }
+
+    /**
+     * 复制为使用新key的objectMapper, 不重新查找及注册模块
+     *
+     * @param key 在{@link ObjectMapperFactory}中的key
+     */
+    public CachingObjectMapper copy(String key) {
+        this._checkInvalidCopy(CachingObjectMapper.class);
+        return new CachingObjectMapper(this, null, key);
+    }
+
+    /**
+     * 复制为使用新jsonFactory及key的objectMapper, 不重新查找及注册模块, 用于派生其它数据格式的objectMapper
+     *
+     * @param jsonFactory 使用的jsonFactory
+     * @param key         在{@link ObjectMapperFactory}中的key
+     */
+    public CachingObjectMapper copyWith(JsonFactory jsonFactory, String key) {
+        this._checkInvalidCopy(CachingObjectMapper.class);
+        return new CachingObjectMapper(this, jsonFactory, key);
+    }
+
+    /**
+     * 获取在{@link ObjectMapperFactory}中的key, 不是工厂创建时为null
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    private Caches caches() {
+        Caches caches = this.caches;
+        if (caches == null || !caches.isValidFor(this)) {
+            caches = new Caches(this);
+            this.caches = caches;
+        }
+        return caches;
+    }
+
+    /**
+     * 解析类型, 支持{@link Class}, {@link ParameterizedType}, {@link JavaType}及其它可被TypeFactory解析的类型
+     */
+    public JavaType resolveType(Type type) {
+        if (type instanceof JavaType) {
+            return (JavaType) type;
+        }
+        Caches caches = this.caches();
+        if (type instanceof Class) {
+            return caches.classTypes.get((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            Class<?> owner = CacheOwner.of(type);
+            if (owner == null) {
+                return this.getTypeFactory().constructType(type);
+            }
+            ConcurrentMap<Type, JavaType> typeMapJavaType = caches.parameterizedTypes.get(owner);
+            JavaType javaType = typeMapJavaType.get(type);
+            if (javaType == null) {
+                javaType = this.getTypeFactory().constructType(type);
+                typeMapJavaType.putIfAbsent(type, javaType);
+            }
+            return javaType;
+        }
+        return this.getTypeFactory().constructType(type);
+    }
+
+    /**
+     * 解析类型, 直接继承TypeReference的子类其泛型参数由子类决定, 按子类缓存
+     */
+    public JavaType resolveType(TypeReference<?> type) {
+        if (type.getClass().getSuperclass() != TypeReference.class) {
+            return this.getTypeFactory().constructType(type);
+        }
+        return this.caches().typeReferenceTypes.get(type.getClass());
+    }
+
+    /**
+     * 获取目标类型预先构建的reader
+     */
+    public ObjectReader cachedReader(JavaType type) {
+        ConcurrentMap<JavaType, ObjectReader> typeMapReader = this.caches().readers;
+        ObjectReader reader = typeMapReader.get(type);
+        if (reader == null) {
+            reader = this.readerFor(type);
+            typeMapReader.putIfAbsent(type, reader);
+        }
+        return reader;
+    }
+
+    /**
+     * 获取预先构建的writer
+     */
+    public ObjectWriter cachedWriter() {
+        return this.caches().writer;
+    }
+
+    /**
+     * 获取写入完成后不关闭输出目标的writer
+     */
+    public ObjectWriter cachedStreamWriter() {
+        return this.caches().streamWriter;
+    }
+
+    /**
+     * 读取属性投影后的值, 只绑定指定的属性, 其余属性在token层面跳过, 不会被反序列化.
+     * 每个类型及属性集合的反序列化器只构建一次
+     *
+     * @param parser     解析器
+     * @param type       目标类型, 须为bean类型
+     * @param properties 需要绑定的属性, java属性名或json属性名均可
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readProjected(JsonParser parser, JavaType type, Set<String> properties) throws IOException {
+        JsonDeserializer<Object> deserializer = this.projectedDeserializer(type, properties);
+        DefaultDeserializationContext context = this._deserializationContext.createInstance(
+                this.getDeserializationConfig(), parser, this._injectableValues);
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+            if (token == null) {
+                throw MismatchedInputException.from(parser, type, "No content to map due to end-of-input");
+            }
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return (T) deserializer.getNullValue(context);
+        }
+        Object value = context.readRootValue(parser, type, deserializer, null);
+        context.checkUnresolvedObjectId();
+        return (T) value;
+    }
+
+    /**
+     * 获取投影接口的属性, 即接口中getter对应的属性
+     */
+    public Set<String> projectionProperties(Class<?> projection) {
+        return this.caches().projectionProperties.get(projection);
+    }
+
+    private JsonDeserializer<Object> projectedDeserializer(JavaType type, Set<String> properties) {
+        Class<?> owner = CacheOwner.of(type);
+        if (owner == null) {
+            return this.buildProjectedDeserializer(type, properties);
+        }
+        ConcurrentMap<Projection, JsonDeserializer<Object>> projectionMapDeserializer = this.caches().projections
+                .get(owner);
+        Projection projection = new Projection(type, properties);
+        JsonDeserializer<Object> deserializer = projectionMapDeserializer.get(projection);
+        if (deserializer == null) {
+            Set<String> copied = Collections.unmodifiableSet(new HashSet<>(properties));
+            deserializer = this.buildProjectedDeserializer(type, copied);
+            projectionMapDeserializer.putIfAbsent(new Projection(type, copied), deserializer);
+        }
+        return deserializer;
+    }
+
+    private JsonDeserializer<Object> buildProjectedDeserializer(JavaType type, Set<String> properties) {
+        DeserializationConfig config = this.getDeserializationConfig();
+        DefaultDeserializationContext context = this._deserializationContext.createInstance(config, null,
+                this._injectableValues);
+        JsonDeserializer<Object> deserializer;
+        try {
+            deserializer = context.findRootValueDeserializer(type);
+        } catch (JsonMappingException e) {
+            throw new IllegalArgumentException(e);
+        }
+        if (!(deserializer instanceof BeanDeserializerBase)) {
+            throw new IllegalArgumentException("projection requires a bean type: " + type);
+        }
+        // 参数可以是java属性名, 按命名策略转换为json属性名
+        Map<String, String> internalNameMapName = new HashMap<>();
+        for (BeanPropertyDefinition property : config.introspect(type).findProperties()) {
+            internalNameMapName.put(property.getInternalName(), property.getName());
+        }
+        Set<String> names = new HashSet<>();
+        for (String property : properties) {
+            names.add(internalNameMapName.getOrDefault(property, property));
+        }
+        return ((BeanDeserializerBase) deserializer).withByNameInclusion(Collections.emptySet(), names);
+    }
+
+    private static class Projection {
+        private final JavaType type;
+        private final Set<String> properties;
+
+        private Projection(JavaType type, Set<String> properties) {
+            this.type = type;
+            this.properties = properties;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Projection)) {
+                return false;
+            }
+            Projection projection = (Projection) o;
+            return this.type.equals(projection.type) && this.properties.equals(projection.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.type.hashCode() * 31 + this.properties.hashCode();
+        }
+    }
+
+    /**
+     * 查找缓存值的所属类. 缓存值由所属类的ClassValue引用, 因此类型中其它类的类加载器须是所属类的类加载器或其祖先,
+     * 所属类被回收前这些类加载器本来就不会被回收; 类型中的类来自互不相关的类加载器时没有所属类, 不缓存
+     */
+    private static final class CacheOwner {
+        /**
+         * 泛型嵌套超过该深度时不缓存, 同时避免递归类型无限展开
+         */
+        private static final int MAX_DEPTH = 16;
+        private Class<?> owner;
+        private boolean unrelated;
+
+        private CacheOwner(Class<?> rawClass) {
+            this.owner = rawClass;
+        }
+
+        /**
+         * @return 所属类, 没有时返回null
+         */
+        private static Class<?> of(Type type) {
+            CacheOwner cacheOwner = new CacheOwner(null);
+            cacheOwner.add(type, 0);
+            return cacheOwner.unrelated ? null : cacheOwner.owner;
+        }
+
+        /**
+         * @return 所属类, 没有时返回null
+         */
+        private static Class<?> of(JavaType type) {
+            CacheOwner cacheOwner = new CacheOwner(type.getRawClass());
+            cacheOwner.add(type, 0);
+            return cacheOwner.unrelated ? null : cacheOwner.owner;
+        }
+
+        /**
+         * @return ancestor是否为loader本身或其祖先, null表示启动类加载器
+         */
+        private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+            if (ancestor == null) {
+                return true;
+            }
+            for (ClassLoader current = loader; current != null; current = current.getParent()) {
+                if (current == ancestor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(Class<?> cls) {
+            if (this.owner == null) {
+                this.owner = cls;
+                return;
+            }
+            ClassLoader loader = cls.getClassLoader();
+            ClassLoader ownerLoader = this.owner.getClassLoader();
+            if (isAncestor(loader, ownerLoader)) {
+                return;
+            }
+            if (isAncestor(ownerLoader, loader)) {
+                this.owner = cls;
+            } else {
+                this.unrelated = true;
+            }
+        }
+
+        private void add(Type type, int depth) {
+            if (this.unrelated) {
+                return;
+            }
+            if (depth > MAX_DEPTH) {
+                this.unrelated = true;
+            } else if (type instanceof Class) {
+                this.add((Class<?>) type);
+            } else if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                this.add(parameterizedType.getRawType(), depth + 1);
+                if (parameterizedType.getOwnerType() != null) {
+                    this.add(parameterizedType.getOwnerType(), depth + 1);
+                }
+                for (Type argument : parameterizedType.getActualTypeArguments()) {
+                    this.add(argument, depth + 1);
+                }
+            } else if (type instanceof GenericArrayType) {
+                this.add(((GenericArrayType) type).getGenericComponentType(), depth + 1);
+            } else if (type instanceof WildcardType) {
+                for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                    this.add(bound, depth + 1);
+                }
+                for (Type bound : ((WildcardType) type).getLowerBounds()) {
+                    this.add(bound, depth + 1);
+                }
+            } else {
+                // 类型变量等无法确定引用的类, 不缓存
+                this.unrelated = true;
+            }
+        }
+
+        private void add(JavaType type, int depth) {
+            if (this.unrelated) {
+                return;
+            }
+            if (depth > MAX_DEPTH) {
+                this.unrelated = true;
+                return;
+            }
+            this.add(type.getRawClass());
+            for (int i = 0; i < type.containedTypeCount(); i++) {
+                this.add(type.containedType(i), depth + 1);
+            }
+            if (type.getContentType() != null) {
+                this.add(type.getContentType(), depth + 1);
+            }
+            if (type.getKeyType() != null) {
+                this.add(type.getKeyType(), depth + 1);
+            }
+        }
+    }
+
+    private static class Caches {
+        private final Object deserializationConfig;
+        private final Object serializationConfig;
+        private final Object deserializationContext;
+        private final Object serializerFactory;
+        private final ObjectWriter writer;
+        private final ObjectWriter streamWriter;
+        private final ClassValue<JavaType> classTypes;
+        private final ClassValue<JavaType> typeReferenceTypes;
+        private final ClassValue<ConcurrentMap<Type, JavaType>> parameterizedTypes;
+        /**
+         * reader引用objectMapper, 放在ClassValue中会使目标类一直引用已淘汰的objectMapper, 因此按objectMapper保存
+         */
+        private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final ClassValue<ConcurrentMap<Projection, JsonDeserializer<Object>>> projections;
+        private final ClassValue<Set<String>> projectionProperties;
+
+        private Caches(CachingObjectMapper objectMapper) {
+            this.deserializationConfig = objectMapper._deserializationConfig;
+            this.serializationConfig = objectMapper._serializationConfig;
+            this.deserializationContext = objectMapper._deserializationContext;
+            this.serializerFactory = objectMapper._serializerFactory;
+            this.writer = objectMapper.writer();
+            this.streamWriter = this.writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.classTypes = new ClassValue<JavaType>() {
+                @Override
+                protected JavaType computeValue(Class<?> type) {
+                    return objectMapper.getTypeFactory().constructType(type);
+                }
+            };
+            this.typeReferenceTypes = new ClassValue<JavaType>() {
+                @Override
+                protected JavaType computeValue(Class<?> type) {
+                    Type superClass = type.getGenericSuperclass();
+                    return objectMapper.getTypeFactory().constructType(
+                            ((ParameterizedType) superClass).getActualTypeArguments()[0]);
+                }
+            };
+            this.parameterizedTypes = new ClassValue<ConcurrentMap<Type, JavaType>>() {
+                @Override
+                protected ConcurrentMap<Type, JavaType> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+            this.projections = new ClassValue<ConcurrentMap<Projection, JsonDeserializer<Object>>>() {
+                @Override
+                protected ConcurrentMap<Projection, JsonDeserializer<Object>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+            this.projectionProperties = new ClassValue<Set<String>>() {
+                @Override
+                protected Set<String> computeValue(Class<?> type) {
+                    Set<String> properties = new HashSet<>();
+                    for (BeanPropertyDefinition property : objectMapper.getSerializationConfig()
+                            .introspect(objectMapper.constructType(type)).findProperties()) {
+                        if (property.hasGetter()) {
+                            properties.add(property.getInternalName());
+                        }
+                    }
+                    return Collections.unmodifiableSet(properties);
+                }
+            };
+        }
+
+        private boolean isValidFor(CachingObjectMapper objectMapper) {
+            return this.deserializationConfig == objectMapper._deserializationConfig
+                    && this.serializationConfig == objectMapper._serializationConfig
+                    && this.deserializationContext == objectMapper._deserializationContext
+                    && this.serializerFactory == objectMapper._serializerFactory;
+        }
+    }
+}
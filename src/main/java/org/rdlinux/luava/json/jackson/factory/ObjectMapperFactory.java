@@ -1,26 +1,68 @@
 package org.rdlinux.luava.json.jackson.factory;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import org.rdlinux.luava.json.jackson.deserializer.JsonBooleanDeserializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import org.rdlinux.luava.json.jackson.deserializer.CoercionModule;
+import org.rdlinux.luava.json.jackson.deserializer.InstantDeserializer;
 import org.rdlinux.luava.json.jackson.deserializer.JsonDateDeserializer;
+import org.rdlinux.luava.json.jackson.deserializer.LocalDateDeserializer;
 import org.rdlinux.luava.json.jackson.deserializer.LocalDateTimeDeserializer;
+import org.rdlinux.luava.json.jackson.deserializer.LocalTimeDeserializer;
+import org.rdlinux.luava.json.jackson.deserializer.OffsetDateTimeDeserializer;
+import org.rdlinux.luava.json.jackson.serializer.InstantSerializer;
+import org.rdlinux.luava.json.jackson.serializer.JsonCalendarSerializer;
+import org.rdlinux.luava.json.jackson.serializer.JsonDateSerializer;
+import org.rdlinux.luava.json.jackson.serializer.LocalDateSerializer;
 import org.rdlinux.luava.json.jackson.serializer.LocalDateTimeSerializer;
+import org.rdlinux.luava.json.jackson.serializer.LocalTimeSerializer;
+import org.rdlinux.luava.json.jackson.serializer.OffsetDateTimeSerializer;
+import org.rdlinux.luava.json.metrics.JsonInstrumentation;
+import org.rdlinux.luava.json.metrics.JsonOperation;
 
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Calendar;
 import java.util.Date;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 public class ObjectMapperFactory {
-    private static final String defaultDatePattern = "yyyy-MM-dd HH:mm:ss";
+    static final String defaultDatePattern = "yyyy-MM-dd HH:mm:ss";
     private static final String defaultSnakeKey = "defaultSnakeCase:";
     private static final String defaultKey = "default:";
-    private static final ConcurrentMap<String, ObjectMapper> keyMapObjectMapper = new ConcurrentHashMap<>();
+    private static final String templateKey = "template";
+    /**
+     * 默认最多缓存的objectMapper数量, 默认时间格式的objectMapper固定不被淘汰
+     */
+    private static final int defaultMaximumSize = 256;
+    private static final ObjectMapperRegistry registry = new ObjectMapperRegistry(defaultMaximumSize,
+            ObjectMapperRegistry.EvictionPolicy.LRU);
+
+    static {
+        registry.pin(defaultKey + defaultDatePattern);
+        registry.pin(defaultSnakeKey + defaultDatePattern);
+    }
+
+    /**
+     * 创建模板objectMapper, 只在此处查找并注册一次模块, 各objectMapper由模板复制后再设置命名风格及时间格式
+     */
+    private static CachingObjectMapper createTemplate() {
+        long start = System.nanoTime();
+        CachingObjectMapper objectMapper = new CachingObjectMapper(new PooledJsonFactory(), templateKey);
+        initUniversalConfig(objectMapper);
+        JsonInstrumentation.record(JsonOperation.CREATE_MAPPER, templateKey, null, start, -1, null);
+        return objectMapper;
+    }
 
     private static void initUniversalConfig(ObjectMapper objectMapper) {
         objectMapper.findAndRegisterModules();
@@ -28,10 +70,86 @@ public class ObjectMapperFactory {
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         SimpleModule simpleModule = new SimpleModule();
         simpleModule.addDeserializer(Date.class, JsonDateDeserializer.getInstance());
-        simpleModule.addDeserializer(Boolean.class, JsonBooleanDeserializer.getInstance());
         simpleModule.addSerializer(LocalDateTime.class, LocalDateTimeSerializer.getInstance());
         simpleModule.addDeserializer(LocalDateTime.class, LocalDateTimeDeserializer.getInstance());
+        simpleModule.addSerializer(LocalDate.class, LocalDateSerializer.getInstance());
+        simpleModule.addDeserializer(LocalDate.class, LocalDateDeserializer.getInstance());
+        simpleModule.addSerializer(LocalTime.class, LocalTimeSerializer.getInstance());
+        simpleModule.addDeserializer(LocalTime.class, LocalTimeDeserializer.getInstance());
+        simpleModule.addSerializer(Instant.class, InstantSerializer.getInstance());
+        simpleModule.addDeserializer(Instant.class, InstantDeserializer.getInstance());
+        simpleModule.addSerializer(OffsetDateTime.class, OffsetDateTimeSerializer.getInstance());
+        simpleModule.addDeserializer(OffsetDateTime.class, OffsetDateTimeDeserializer.getInstance());
         objectMapper.registerModule(simpleModule);
+        objectMapper.registerModule(new CoercionModule());
+    }
+
+    /**
+     * 设置时间格式, Date及Calendar使用按格式构建一次的线程安全序列化器输出, 不再逐次克隆SimpleDateFormat
+     */
+    private static void initDateFormat(ObjectMapper objectMapper, String datePattern) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(datePattern);
+        objectMapper.setDateFormat(dateFormat);
+        JsonDateSerializer dateSerializer = new JsonDateSerializer(datePattern, dateFormat);
+        JsonCalendarSerializer calendarSerializer = new JsonCalendarSerializer(dateSerializer);
+        objectMapper.setSerializerFactory(objectMapper.getSerializerFactory().withAdditionalSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                // 只处理Date本身, java.sql中的子类保持jackson默认输出
+                if (type.getRawClass() == Date.class) {
+                    return dateSerializer;
+                }
+                if (type.isTypeOrSubTypeOf(Calendar.class)) {
+                    return calendarSerializer;
+                }
+                return null;
+            }
+        }));
+    }
+
+    private static ObjectMapper createDefaultObjectMapper(String key) {
+        long start = System.nanoTime();
+        ObjectMapper objectMapper = TemplateHolder.template.copy(key);
+        initDateFormat(objectMapper, key.substring(defaultKey.length()));
+        JsonInstrumentation.record(JsonOperation.CREATE_MAPPER, key, null, start, -1, null);
+        return objectMapper;
+    }
+
+    private static ObjectMapper createDefaultSnakeCaseObjectMapper(String key) {
+        long start = System.nanoTime();
+        ObjectMapper objectMapper = TemplateHolder.template.copy(key);
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        initDateFormat(objectMapper, key.substring(defaultSnakeKey.length()));
+        JsonInstrumentation.record(JsonOperation.CREATE_MAPPER, key, null, start, -1, null);
+        return objectMapper;
+    }
+
+    /**
+     * 创建二进制格式的objectMapper, key为格式前缀加时间格式, 与文本objectMapper使用相同的编解码器
+     */
+    private static ObjectMapper createBinaryObjectMapper(String key) {
+        long start = System.nanoTime();
+        for (BinaryFormat format : BinaryFormat.values()) {
+            boolean snakeCase = key.startsWith(format.getSnakeCaseKey());
+            if (!snakeCase && !key.startsWith(format.getKey())) {
+                continue;
+            }
+            ObjectMapper objectMapper = TemplateHolder.template.copyWith(format.createFactory(), key);
+            if (snakeCase) {
+                objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+            }
+            initDateFormat(objectMapper, key.substring(key.indexOf(':') + 1));
+            JsonInstrumentation.record(JsonOperation.CREATE_MAPPER, key, null, start, -1, null);
+            return objectMapper;
+        }
+        throw new IllegalArgumentException("unknown binary objectMapper key: " + key);
+    }
+
+    /**
+     * 获取objectMapper注册表, 可用于调整容量上限、淘汰策略、固定key及查看统计信息
+     */
+    public static ObjectMapperRegistry getRegistry() {
+        return registry;
     }
 
     public static ObjectMapper getDefaultObjectMapper() {
@@ -39,20 +157,7 @@ public class ObjectMapperFactory {
     }
 
     public static ObjectMapper getDefaultObjectMapper(String datePattern) {
-        String key = defaultKey + datePattern;
-        ObjectMapper objectMapper = keyMapObjectMapper.get(key);
-        if (objectMapper == null) {
-            synchronized (ObjectMapperFactory.class) {
-                objectMapper = keyMapObjectMapper.get(key);
-                if (objectMapper == null) {
-                    objectMapper = new ObjectMapper();
-                    initUniversalConfig(objectMapper);
-                    objectMapper.setDateFormat(new SimpleDateFormat(datePattern));
-                    keyMapObjectMapper.put(key, objectMapper);
-                }
-            }
-        }
-        return objectMapper;
+        return registry.get(defaultKey + datePattern, ObjectMapperFactory::createDefaultObjectMapper);
     }
 
     public static ObjectMapper getDefaultSnakeCaseObjectMapper() {
@@ -60,20 +165,39 @@ public class ObjectMapperFactory {
     }
 
     public static ObjectMapper getDefaultSnakeCaseObjectMapper(String datePattern) {
-        String key = defaultSnakeKey + datePattern;
-        ObjectMapper objectMapper = keyMapObjectMapper.get(key);
-        if (objectMapper == null) {
-            synchronized (ObjectMapperFactory.class) {
-                objectMapper = keyMapObjectMapper.get(key);
-                if (objectMapper == null) {
-                    objectMapper = new ObjectMapper();
-                    initUniversalConfig(objectMapper);
-                    objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-                    objectMapper.setDateFormat(new SimpleDateFormat(datePattern));
-                    keyMapObjectMapper.put(key, objectMapper);
-                }
-            }
-        }
-        return objectMapper;
+        return registry.get(defaultSnakeKey + datePattern, ObjectMapperFactory::createDefaultSnakeCaseObjectMapper);
+    }
+
+    /**
+     * 获取二进制格式的objectMapper, 需引入对应格式的依赖
+     *
+     * @param format 二进制格式
+     */
+    public static ObjectMapper getBinaryObjectMapper(BinaryFormat format) {
+        return getBinaryObjectMapper(format, defaultDatePattern);
+    }
+
+    public static ObjectMapper getBinaryObjectMapper(BinaryFormat format, String datePattern) {
+        return registry.get(format.getKey() + datePattern, ObjectMapperFactory::createBinaryObjectMapper);
+    }
+
+    /**
+     * 获取蛇形命名的二进制格式objectMapper, 需引入对应格式的依赖
+     *
+     * @param format 二进制格式
+     */
+    public static ObjectMapper getBinarySnakeCaseObjectMapper(BinaryFormat format) {
+        return getBinarySnakeCaseObjectMapper(format, defaultDatePattern);
+    }
+
+    public static ObjectMapper getBinarySnakeCaseObjectMapper(BinaryFormat format, String datePattern) {
+        return registry.get(format.getSnakeCaseKey() + datePattern, ObjectMapperFactory::createBinaryObjectMapper);
+    }
+
+    /**
+     * 首次创建objectMapper时才构建模板
+     */
+    private static class TemplateHolder {
+        private static final CachingObjectMapper template = createTemplate();
     }
 }
@@ -0,0 +1,250 @@
+package org.rdlinux.luava.json.jackson.factory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * objectMapper注册表, 按key延迟创建objectMapper, 只有相同key的创建会互相等待;
+ * 超出容量上限时按LRU或LFU淘汰未固定的objectMapper, 并记录命中、未命中及淘汰次数
+ */
+public class ObjectMapperRegistry {
+    /**
+     * 访问时间的更新间隔, 避免每次命中都写共享变量
+     */
+    private static final long ACCESS_TIME_PRECISION = 1000000L;
+    private final ConcurrentMap<String, Entry> keyMapEntry = new ConcurrentHashMap<>();
+    private final Set<String> pinnedKeys = ConcurrentHashMap.newKeySet();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final Object evictionLock = new Object();
+    private volatile int maximumSize;
+    private volatile EvictionPolicy evictionPolicy;
+
+    /**
+     * @param maximumSize    最大数量, 小于等于0表示不限制
+     * @param evictionPolicy 淘汰策略
+     */
+    public ObjectMapperRegistry(int maximumSize, EvictionPolicy evictionPolicy) {
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * 获取key对应的objectMapper, 不存在时使用builder创建
+     *
+     * @param key     objectMapper的key
+     * @param builder 根据key创建objectMapper, 同一个key同时只会有一个线程调用
+     */
+    public ObjectMapper get(String key, Function<String, ObjectMapper> builder) {
+        Entry entry = this.keyMapEntry.get(key);
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = this.keyMapEntry.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        ObjectMapper objectMapper = entry.objectMapper;
+        if (objectMapper != null) {
+            this.hitCount.increment();
+            entry.recordAccess();
+            return objectMapper;
+        }
+        boolean[] created = new boolean[1];
+        try {
+            objectMapper = entry.initialize(key, builder, created);
+        } catch (RuntimeException | Error e) {
+            // 创建失败的key不保留, 否则无效的key会使注册表无限增长
+            this.keyMapEntry.remove(key, entry);
+            throw e;
+        }
+        if (created[0]) {
+            this.missCount.increment();
+            this.evictIfNecessary();
+        } else {
+            this.hitCount.increment();
+        }
+        return objectMapper;
+    }
+
+    /**
+     * 固定key, 固定的objectMapper不会被淘汰
+     */
+    public void pin(String key) {
+        this.pinnedKeys.add(key);
+    }
+
+    /**
+     * 取消固定key
+     */
+    public void unpin(String key) {
+        this.pinnedKeys.remove(key);
+        this.evictIfNecessary();
+    }
+
+    /**
+     * 移除key对应的objectMapper, 下次获取时重新创建
+     */
+    public void invalidate(String key) {
+        this.keyMapEntry.remove(key);
+    }
+
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * 设置最大数量, 小于等于0表示不限制, 超出部分立即淘汰
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.evictIfNecessary();
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return this.evictionPolicy;
+    }
+
+    public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    public int size() {
+        return this.keyMapEntry.size();
+    }
+
+    /**
+     * 获取统计信息快照
+     */
+    public Stats getStats() {
+        return new Stats(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum(), this.keyMapEntry.size());
+    }
+
+    private void evictIfNecessary() {
+        if (this.maximumSize <= 0 || this.keyMapEntry.size() <= this.maximumSize) {
+            return;
+        }
+        synchronized (this.evictionLock) {
+            while (this.maximumSize > 0 && this.keyMapEntry.size() > this.maximumSize) {
+                Map.Entry<String, Entry> victim = null;
+                for (Map.Entry<String, Entry> candidate : this.keyMapEntry.entrySet()) {
+                    Entry entry = candidate.getValue();
+                    if (entry.objectMapper == null || this.pinnedKeys.contains(candidate.getKey())) {
+                        continue;
+                    }
+                    if (victim == null || this.evictionPolicy.isColder(entry, victim.getValue())) {
+                        victim = candidate;
+                    }
+                }
+                if (victim == null) {
+                    return;
+                }
+                if (this.keyMapEntry.remove(victim.getKey(), victim.getValue())) {
+                    this.evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 淘汰策略
+     */
+    public enum EvictionPolicy {
+        /**
+         * 淘汰最久未使用的
+         */
+        LRU {
+            @Override
+            boolean isColder(Entry entry, Entry other) {
+                return entry.lastAccessTime < other.lastAccessTime;
+            }
+        },
+        /**
+         * 淘汰使用次数最少的, 次数相同时淘汰最久未使用的
+         */
+        LFU {
+            @Override
+            boolean isColder(Entry entry, Entry other) {
+                long frequency = entry.accessCount.sum();
+                long otherFrequency = other.accessCount.sum();
+                if (frequency != otherFrequency) {
+                    return frequency < otherFrequency;
+                }
+                return entry.lastAccessTime < other.lastAccessTime;
+            }
+        };
+
+        abstract boolean isColder(Entry entry, Entry other);
+    }
+
+    static class Entry {
+        private final LongAdder accessCount = new LongAdder();
+        private volatile ObjectMapper objectMapper;
+        private volatile long lastAccessTime = System.nanoTime();
+
+        void recordAccess() {
+            this.accessCount.increment();
+            long now = System.nanoTime();
+            if (now - this.lastAccessTime > ACCESS_TIME_PRECISION) {
+                this.lastAccessTime = now;
+            }
+        }
+
+        synchronized ObjectMapper initialize(String key, Function<String, ObjectMapper> builder, boolean[] created) {
+            ObjectMapper objectMapper = this.objectMapper;
+            if (objectMapper == null) {
+                objectMapper = builder.apply(key);
+                this.objectMapper = objectMapper;
+                created[0] = true;
+            }
+            this.recordAccess();
+            return objectMapper;
+        }
+    }
+
+    /**
+     * 注册表统计信息
+     */
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        public Stats(long hitCount, long missCount, long evictionCount, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return this.hitCount;
+        }
+
+        public long getMissCount() {
+            return this.missCount;
+        }
+
+        public long getEvictionCount() {
+            return this.evictionCount;
+        }
+
+        public int getSize() {
+            return this.size;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hitCount=" + this.hitCount + ", missCount=" + this.missCount + ", evictionCount="
+                    + this.evictionCount + ", size=" + this.size + "}";
+        }
+    }
+}
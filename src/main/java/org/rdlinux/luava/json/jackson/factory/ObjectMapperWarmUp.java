@@ -0,0 +1,448 @@
+package org.rdlinux.luava.json.jackson.factory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 启动预热, 预先创建{@link ObjectMapperFactory}中的objectMapper, 并为声明或扫描到的类型构建reader、反序列化器及序列化器,
+ * 消除首个请求的类型解析、模块加载及bean内省开销. 属性中的bean类型(不含java.*及javax.*)递归预热.
+ * 单个类型预热失败不影响其它类型, 失败信息记录在{@link Result#getFailures()}中
+ */
+public class ObjectMapperWarmUp {
+    private final Set<Type> types = new LinkedHashSet<>();
+    private final List<TypeReference<?>> typeReferences = new ArrayList<>();
+    private final Set<String> packages = new LinkedHashSet<>();
+    private final Set<String> datePatterns = new LinkedHashSet<>();
+    private boolean camelCase = true;
+    private boolean snakeCase;
+    private boolean pin = true;
+    private ForkJoinPool pool;
+    private ClassLoader classLoader;
+
+    /**
+     * 添加预热的类型
+     *
+     * @param types 类型, 支持{@link Class}及{@link java.lang.reflect.ParameterizedType}
+     */
+    public ObjectMapperWarmUp types(Type... types) {
+        Collections.addAll(this.types, types);
+        return this;
+    }
+
+    /**
+     * 添加预热的泛型类型
+     */
+    public ObjectMapperWarmUp types(TypeReference<?>... types) {
+        Collections.addAll(this.typeReferences, types);
+        return this;
+    }
+
+    /**
+     * 添加扫描的包, 包含子包, 预热其中非抽象的顶层类及静态内部类
+     *
+     * @param packageNames 包名, 如com.example.dto
+     */
+    public ObjectMapperWarmUp packages(String... packageNames) {
+        Collections.addAll(this.packages, packageNames);
+        return this;
+    }
+
+    /**
+     * 扫描包使用的类加载器, 默认为当前线程的上下文类加载器
+     */
+    public ObjectMapperWarmUp classLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    /**
+     * 是否预热驼峰命名的objectMapper, 默认为true
+     */
+    public ObjectMapperWarmUp camelCase(boolean camelCase) {
+        this.camelCase = camelCase;
+        return this;
+    }
+
+    /**
+     * 是否预热蛇形命名的objectMapper, 默认为false
+     */
+    public ObjectMapperWarmUp snakeCase(boolean snakeCase) {
+        this.snakeCase = snakeCase;
+        return this;
+    }
+
+    /**
+     * 除默认时间格式外需要预热的时间格式
+     */
+    public ObjectMapperWarmUp datePatterns(String... datePatterns) {
+        Collections.addAll(this.datePatterns, datePatterns);
+        return this;
+    }
+
+    /**
+     * 是否在{@link ObjectMapperFactory#getRegistry()}中固定预热的objectMapper, 避免被淘汰后重新创建, 默认为true
+     */
+    public ObjectMapperWarmUp pin(boolean pin) {
+        this.pin = pin;
+        return this;
+    }
+
+    /**
+     * 在线程池中并行预热, 未设置时在调用线程中执行
+     */
+    public ObjectMapperWarmUp parallel(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * 执行预热, 返回时全部任务已完成
+     */
+    public Result run() {
+        long start = System.nanoTime();
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        // 按命名风格及时间格式区分objectMapper, 失败信息使用该名称, 如snakeCase yyyy/MM/dd
+        Map<String, Supplier<ObjectMapper>> nameMapSupplier = new LinkedHashMap<>();
+        if (this.camelCase) {
+            nameMapSupplier.put("camelCase " + ObjectMapperFactory.defaultDatePattern,
+                    ObjectMapperFactory::getDefaultObjectMapper);
+            for (String datePattern : this.datePatterns) {
+                nameMapSupplier.putIfAbsent("camelCase " + datePattern,
+                        () -> ObjectMapperFactory.getDefaultObjectMapper(datePattern));
+            }
+        }
+        if (this.snakeCase) {
+            nameMapSupplier.put("snakeCase " + ObjectMapperFactory.defaultDatePattern,
+                    ObjectMapperFactory::getDefaultSnakeCaseObjectMapper);
+            for (String datePattern : this.datePatterns) {
+                nameMapSupplier.putIfAbsent("snakeCase " + datePattern,
+                        () -> ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern));
+            }
+        }
+        ObjectMapper[] mappers = new ObjectMapper[nameMapSupplier.size()];
+        List<Runnable> tasks = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<String, Supplier<ObjectMapper>> entry : nameMapSupplier.entrySet()) {
+            int mapperIndex = index++;
+            tasks.add(() -> mappers[mapperIndex] = this.createMapper(entry.getValue(), entry.getKey(), failures));
+        }
+        Set<Class<?>> scanned = new LinkedHashSet<>();
+        for (String packageName : this.packages) {
+            tasks.add(() -> {
+                try {
+                    List<Class<?>> classes = scan(packageName, this.classLoader != null ? this.classLoader
+                            : Thread.currentThread().getContextClassLoader());
+                    synchronized (scanned) {
+                        scanned.addAll(classes);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    failures.put("package " + packageName, e);
+                }
+            });
+        }
+        this.execute(tasks);
+
+        tasks.clear();
+        AtomicInteger typeCount = new AtomicInteger();
+        int mapperCount = 0;
+        for (ObjectMapper mapper : mappers) {
+            if (mapper == null) {
+                continue;
+            }
+            mapperCount++;
+            Set<JavaType> visited = ConcurrentHashMap.newKeySet();
+            Set<Type> types = new LinkedHashSet<>(this.types);
+            types.addAll(scanned);
+            for (Type type : types) {
+                tasks.add(() -> this.warmUp(mapper, () -> resolveType(mapper, type), type.getTypeName(), visited,
+                        typeCount, failures));
+            }
+            for (TypeReference<?> type : this.typeReferences) {
+                tasks.add(() -> this.warmUp(mapper, () -> resolveType(mapper, type), type.getType().getTypeName(),
+                        visited, typeCount, failures));
+            }
+        }
+        this.execute(tasks);
+        return new Result(System.nanoTime() - start, mapperCount, typeCount.get(), new LinkedHashMap<>(failures));
+    }
+
+    private ObjectMapper createMapper(Supplier<ObjectMapper> supplier, String name, Map<String, Throwable> failures) {
+        try {
+            ObjectMapper mapper = supplier.get();
+            if (this.pin && mapper instanceof CachingObjectMapper && ((CachingObjectMapper) mapper).getKey() != null) {
+                ObjectMapperFactory.getRegistry().pin(((CachingObjectMapper) mapper).getKey());
+            }
+            return mapper;
+        } catch (RuntimeException e) {
+            failures.put(name, e);
+            return null;
+        }
+    }
+
+    private void execute(List<Runnable> tasks) {
+        if (this.pool == null) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(tasks.get(i), this.pool);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private void warmUp(ObjectMapper mapper, Supplier<JavaType> type, String typeName, Set<JavaType> visited,
+                        AtomicInteger typeCount, Map<String, Throwable> failures) {
+        try {
+            this.warmUp(mapper, type.get(), visited, typeCount);
+        } catch (RuntimeException e) {
+            failures.put(keyOf(mapper) + " " + typeName, e);
+        }
+    }
+
+    /**
+     * 构建类型的reader及序列化器, 并递归预热属性、元素中的bean类型
+     */
+    private void warmUp(ObjectMapper mapper, JavaType type, Set<JavaType> visited, AtomicInteger typeCount) {
+        if (!visited.add(type)) {
+            return;
+        }
+        Class<?> rawClass = type.getRawClass();
+        if (type.isContainerType() || type.isReferenceType()) {
+            this.reader(mapper, type);
+            if (type.getKeyType() != null && isBean(type.getKeyType().getRawClass())) {
+                this.warmUp(mapper, type.getKeyType(), visited, typeCount);
+            }
+            if (type.getContentType() != null && isBean(type.getContentType().getRawClass())) {
+                this.warmUp(mapper, type.getContentType(), visited, typeCount);
+            }
+            typeCount.incrementAndGet();
+            return;
+        }
+        this.reader(mapper, type);
+        if (!Modifier.isAbstract(rawClass.getModifiers())) {
+            SerializerProvider provider = mapper.getSerializerProviderInstance();
+            try {
+                // 运行时按值的实际类型查找序列化器, 与ObjectMapper.writeValue的查找路径一致
+                provider.findTypedValueSerializer(rawClass, true, null);
+            } catch (IOException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        typeCount.incrementAndGet();
+        if (rawClass.isEnum() || !isBean(rawClass)) {
+            return;
+        }
+        SerializerProvider provider = mapper.getSerializerProviderInstance();
+        for (BeanPropertyDefinition property : mapper.getSerializationConfig().introspect(type).findProperties()) {
+            JavaType propertyType = property.getPrimaryType();
+            if (propertyType == null) {
+                continue;
+            }
+            Class<?> propertyClass = propertyType.getRawClass();
+            if (isBean(propertyClass) || propertyType.isContainerType() || propertyType.isReferenceType()) {
+                this.warmUp(mapper, propertyType, visited, typeCount);
+            } else if (!propertyClass.isPrimitive() && !Modifier.isAbstract(propertyClass.getModifiers())) {
+                // 非final的属性类型(如Date)在序列化时按实际类型查找, 预先构建声明类型的序列化器
+                try {
+                    provider.findValueSerializer(propertyClass);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }
+        }
+    }
+
+    private void reader(ObjectMapper mapper, JavaType type) {
+        if (mapper instanceof CachingObjectMapper) {
+            ((CachingObjectMapper) mapper).cachedReader(type);
+        } else {
+            // 默认开启EAGER_DESERIALIZER_FETCH, 创建reader时即构建根类型的反序列化器
+            mapper.readerFor(type);
+        }
+    }
+
+    private static JavaType resolveType(ObjectMapper mapper, Type type) {
+        if (mapper instanceof CachingObjectMapper) {
+            return ((CachingObjectMapper) mapper).resolveType(type);
+        }
+        return mapper.constructType(type);
+    }
+
+    private static JavaType resolveType(ObjectMapper mapper, TypeReference<?> type) {
+        if (mapper instanceof CachingObjectMapper) {
+            return ((CachingObjectMapper) mapper).resolveType(type);
+        }
+        return mapper.constructType(type);
+    }
+
+    private static String keyOf(ObjectMapper mapper) {
+        String key = mapper instanceof CachingObjectMapper ? ((CachingObjectMapper) mapper).getKey() : null;
+        return key != null ? key : mapper.toString();
+    }
+
+    /**
+     * 是否需要递归预热的bean类型, jdk类型使用jackson内置的序列化器, 不递归
+     */
+    private static boolean isBean(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type == Object.class) {
+            return false;
+        }
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    /**
+     * 扫描包及子包中的类, 支持目录及jar
+     */
+    private static List<Class<?>> scan(String packageName, ClassLoader classLoader) throws IOException {
+        String path = packageName.replace('.', '/');
+        Enumeration<URL> resources = classLoader.getResources(path);
+        if (!resources.hasMoreElements()) {
+            throw new IllegalArgumentException("package not found: " + packageName);
+        }
+        Set<String> classNames = new LinkedHashSet<>();
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            if ("file".equals(url.getProtocol())) {
+                File dir = new File(URLDecoder.decode(url.getFile(), StandardCharsets.UTF_8.name()));
+                scanDirectory(dir, packageName, classNames);
+                continue;
+            }
+            URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection) {
+                connection.setUseCaches(false);
+                try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (name.startsWith(path + "/") && name.endsWith(".class")) {
+                            classNames.add(name.substring(0, name.length() - 6).replace('/', '.'));
+                        }
+                    }
+                }
+            }
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : classNames) {
+            if (className.endsWith("package-info") || className.endsWith("module-info")) {
+                continue;
+            }
+            Class<?> type;
+            try {
+                type = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            int modifiers = type.getModifiers();
+            if (type.isInterface() || type.isAnnotation() || type.isSynthetic() || type.isAnonymousClass()
+                    || type.isLocalClass() || (Modifier.isAbstract(modifiers) && !type.isEnum())
+                    || (type.isMemberClass() && !Modifier.isStatic(modifiers))) {
+                continue;
+            }
+            classes.add(type);
+        }
+        return classes;
+    }
+
+    private static void scanDirectory(File dir, String packageName, Set<String> classNames) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                scanDirectory(file, packageName + "." + name, classNames);
+            } else if (name.endsWith(".class")) {
+                classNames.add(packageName + "." + name.substring(0, name.length() - 6));
+            }
+        }
+    }
+
+    /**
+     * 预热结果
+     */
+    public static class Result {
+        private final long durationNanos;
+        private final int mapperCount;
+        private final int typeCount;
+        private final Map<String, Throwable> failures;
+
+        public Result(long durationNanos, int mapperCount, int typeCount, Map<String, Throwable> failures) {
+            this.durationNanos = durationNanos;
+            this.mapperCount = mapperCount;
+            this.typeCount = typeCount;
+            this.failures = Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * 预热耗时(纳秒)
+         */
+        public long getDurationNanos() {
+            return this.durationNanos;
+        }
+
+        /**
+         * 预热的objectMapper数量
+         */
+        public int getMapperCount() {
+            return this.mapperCount;
+        }
+
+        /**
+         * 各objectMapper预热的类型数之和, 包含递归预热的属性类型
+         */
+        public int getTypeCount() {
+            return this.typeCount;
+        }
+
+        /**
+         * 预热失败的objectMapper、包或类型及其异常
+         */
+        public Map<String, Throwable> getFailures() {
+            return this.failures;
+        }
+
+        /**
+         * 是否全部预热成功
+         */
+        public boolean isSuccessful() {
+            return this.failures.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "Result{durationMillis=" + this.durationNanos / 1000000 + ", mapperCount=" + this.mapperCount
+                    + ", typeCount=" + this.typeCount + ", failures=" + this.failures.keySet() + "}";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.rdlinux.luava.json.jackson.factory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.rdlinux.luava.json.jackson.buffer.BufferPool;
+
+/**
+ * 从{@link BufferPool}分配解析及输出缓冲区的jsonFactory, 未指定缓冲区池时使用{@link BufferPool#getDefault()}
+ */
+public class PooledJsonFactory extends MappingJsonFactory {
+    private static final long serialVersionUID = 1L;
+    private final transient BufferPool bufferPool;
+
+    public PooledJsonFactory() {
+        this((BufferPool) null);
+    }
+
+    /**
+     * @param bufferPool 缓冲区池, 为null时使用{@link BufferPool#getDefault()}
+     */
+    public PooledJsonFactory(BufferPool bufferPool) {
+        super();
+        this.bufferPool = bufferPool;
+    }
+
+    protected PooledJsonFactory(PooledJsonFactory src, ObjectMapper objectMapper) {
+        super(src, objectMapper);
+        this.bufferPool = src.bufferPool;
+    }
+
+    @Override
+    public JsonFactory copy() {
+        this._checkInvalidCopy(PooledJsonFactory.class);
+        return new PooledJsonFactory(this, null);
+    }
+
+    public BufferPool getBufferPool() {
+        return this.bufferPool == null ? BufferPool.getDefault() : this.bufferPool;
+    }
+
+    /**
+     * 关闭{@link JsonFactory.Feature#USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING}时与jackson一致, 每次使用新的回收器
+     */
+    @Override
+    public BufferRecycler _getBufferRecycler() {
+        if (!this.isEnabled(JsonFactory.Feature.USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING)) {
+            return new BufferRecycler();
+        }
+        return this.getBufferPool().getBufferRecycler();
+    }
+}
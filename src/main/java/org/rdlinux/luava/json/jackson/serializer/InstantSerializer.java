@@ -0,0 +1,60 @@
+package org.rdlinux.luava.json.jackson.serializer;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 按UTC时间以{@link DateTimeFormatter#ISO_INSTANT}格式输出Instant, 直接由纪元秒计算各字段
+ */
+public class InstantSerializer extends JavaTimeSerializer<Instant> {
+    public static final DateTimeFormatter instantFormatter = DateTimeFormatter.ISO_INSTANT;
+    private static final InstantSerializer instance = new InstantSerializer(null);
+
+    private InstantSerializer(DateTimeFormatter formatter) {
+        super(Instant.class, formatter);
+    }
+
+    public static InstantSerializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected int write(Instant value, char[] buffer) {
+        long epochSecond = value.getEpochSecond();
+        long epochDay = Math.floorDiv(epochSecond, 86400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86400L);
+        // 纪元日转公历日期, 3月作为一年的开始以便处理闰日
+        long zeroDay = epochDay + 719468;
+        long era = Math.floorDiv(zeroDay, 146097L);
+        long doe = zeroDay - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int pos = writeDate(buffer, 0, (int) year, month, day);
+        buffer[pos++] = 'T';
+        pos = writeIsoTime(buffer, pos, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+                value.getNano(), true);
+        buffer[pos] = 'Z';
+        return pos + 1;
+    }
+
+    @Override
+    protected DateTimeFormatter defaultFormatter() {
+        return instantFormatter;
+    }
+
+    /**
+     * 属性声明的格式未指定时区时按UTC输出
+     */
+    @Override
+    protected JavaTimeSerializer<Instant> withFormatter(DateTimeFormatter formatter) {
+        return new InstantSerializer(formatter.getZone() == null ? formatter.withZone(ZoneOffset.UTC) : formatter);
+    }
+}
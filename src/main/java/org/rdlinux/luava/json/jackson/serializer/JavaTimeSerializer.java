@@ -0,0 +1,187 @@
+package org.rdlinux.luava.json.jackson.serializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * java.time类型序列化器的基类, 默认格式直接把各字段的数字写入字符数组后输出, 不经过DateTimeFormatter及临时字符串.
+ * 年份超出0000-9999等快速路径不支持的值使用默认格式的DateTimeFormatter输出;
+ * 属性上通过{@link JsonFormat}声明了格式时使用该格式的DateTimeFormatter输出
+ */
+public abstract class JavaTimeSerializer<T extends TemporalAccessor> extends StdSerializer<T>
+        implements ContextualSerializer {
+    /**
+     * 最长输出yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS+HH:mm所需的字符数
+     */
+    private static final int MAX_LENGTH = 35;
+    /**
+     * 属性声明的格式, 为null时使用默认格式
+     */
+    protected final DateTimeFormatter formatter;
+
+    protected JavaTimeSerializer(Class<T> type, DateTimeFormatter formatter) {
+        super(type);
+        this.formatter = formatter;
+    }
+
+    /**
+     * 写出两位数字
+     *
+     * @return 写出后的位置
+     */
+    protected static int write2(char[] buffer, int pos, int value) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    /**
+     * 写出yyyy-MM-dd
+     *
+     * @return 写出后的位置
+     */
+    protected static int writeDate(char[] buffer, int pos, int year, int month, int day) {
+        pos = write2(buffer, pos, year / 100);
+        pos = write2(buffer, pos, year % 100);
+        buffer[pos++] = '-';
+        pos = write2(buffer, pos, month);
+        buffer[pos++] = '-';
+        return write2(buffer, pos, day);
+    }
+
+    /**
+     * 写出HH:mm:ss.SSS, 毫秒以下的部分被截断
+     *
+     * @return 写出后的位置
+     */
+    protected static int writeTime(char[] buffer, int pos, int hour, int minute, int second, int nano) {
+        pos = writeSeconds(buffer, pos, hour, minute, second);
+        buffer[pos++] = '.';
+        return writeFraction(buffer, pos, nano / 1000000, 3);
+    }
+
+    /**
+     * 按ISO格式写出HH:mm:ss[.S], 与jackson-datatype-jsr310的输出一致: 整秒时不输出小数,
+     * 否则去掉末尾的0, 按3位分组时补齐为3, 6或9位
+     *
+     * @param grouped 小数是否按3位分组, {@link DateTimeFormatter#ISO_INSTANT}分组,
+     *                {@link DateTimeFormatter#ISO_LOCAL_TIME}不分组
+     * @return 写出后的位置
+     */
+    protected static int writeIsoTime(char[] buffer, int pos, int hour, int minute, int second, int nano,
+                                      boolean grouped) {
+        pos = writeSeconds(buffer, pos, hour, minute, second);
+        if (nano == 0) {
+            return pos;
+        }
+        buffer[pos++] = '.';
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        if (grouped) {
+            while (digits % 3 != 0) {
+                nano *= 10;
+                digits++;
+            }
+        }
+        return writeFraction(buffer, pos, nano, digits);
+    }
+
+    private static int writeSeconds(char[] buffer, int pos, int hour, int minute, int second) {
+        pos = write2(buffer, pos, hour);
+        buffer[pos++] = ':';
+        pos = write2(buffer, pos, minute);
+        buffer[pos++] = ':';
+        return write2(buffer, pos, second);
+    }
+
+    private static int writeFraction(char[] buffer, int pos, int fraction, int digits) {
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        return pos + digits;
+    }
+
+    /**
+     * 写出时区偏移, 零偏移为Z, 其它为+HH:mm
+     *
+     * @return 写出后的位置, 偏移包含秒时返回-1
+     */
+    protected static int writeOffset(char[] buffer, int pos, int totalSeconds) {
+        if (totalSeconds == 0) {
+            buffer[pos] = 'Z';
+            return pos + 1;
+        }
+        if (totalSeconds % 60 != 0) {
+            return -1;
+        }
+        buffer[pos++] = totalSeconds < 0 ? '-' : '+';
+        int minutes = Math.abs(totalSeconds) / 60;
+        pos = write2(buffer, pos, minutes / 60);
+        buffer[pos++] = ':';
+        return write2(buffer, pos, minutes % 60);
+    }
+
+    protected static boolean isSupportedYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    /**
+     * 按默认格式写入字符数组
+     *
+     * @return 写出的字符数, 快速路径不支持该值时返回-1
+     */
+    protected abstract int write(T value, char[] buffer);
+
+    /**
+     * 默认格式的DateTimeFormatter, 快速路径不支持时使用
+     */
+    protected abstract DateTimeFormatter defaultFormatter();
+
+    /**
+     * 创建使用属性声明格式的序列化器
+     */
+    protected abstract JavaTimeSerializer<T> withFormatter(DateTimeFormatter formatter);
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (this.formatter != null) {
+            gen.writeString(this.formatter.format(value));
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int len = this.write(value, buffer);
+        if (len < 0) {
+            gen.writeString(this.defaultFormatter().format(value));
+        } else {
+            gen.writeString(buffer, 0, len);
+        }
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = this.findFormatOverrides(prov, property, this.handledType());
+        if (format == null || !format.hasPattern()) {
+            return this;
+        }
+        DateTimeFormatter formatter = format.hasLocale() ? DateTimeFormatter.ofPattern(format.getPattern(), format.getLocale())
+                : DateTimeFormatter.ofPattern(format.getPattern());
+        if (format.hasTimeZone()) {
+            formatter = formatter.withZone(format.getTimeZone().toZoneId());
+        }
+        return this.withFormatter(formatter);
+    }
+}
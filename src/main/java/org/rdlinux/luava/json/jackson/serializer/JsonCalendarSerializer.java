@@ -0,0 +1,43 @@
+package org.rdlinux.luava.json.jackson.serializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.CalendarSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Calendar;
+
+/**
+ * 与{@link JsonDateSerializer}输出一致的Calendar序列化
+ */
+public class JsonCalendarSerializer extends StdSerializer<Calendar> implements ContextualSerializer {
+    private final JsonDateSerializer dateSerializer;
+
+    public JsonCalendarSerializer(JsonDateSerializer dateSerializer) {
+        super(Calendar.class);
+        this.dateSerializer = dateSerializer;
+    }
+
+    @Override
+    public void serialize(Calendar value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        this.dateSerializer.serialize(value.getTimeInMillis(), gen, provider);
+    }
+
+    /**
+     * 属性上声明了{@link JsonFormat}时使用jackson默认的Calendar序列化
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = this.findFormatOverrides(prov, property, this.handledType());
+        if (format != null && (format.hasPattern() || format.hasShape() || format.hasLocale() || format.hasTimeZone())) {
+            return CalendarSerializer.instance.createContextual(prov, property);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,201 @@
+package org.rdlinux.luava.json.jackson.serializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 使用不可变的{@link DateTimeFormatter}序列化Date, 避免jackson每次序列化都克隆SimpleDateFormat.
+ * 只转换纯数字字段的格式(y, M, d, H, h, k, K, m, s, S, D, Z), 其它格式及儒略历日期仍使用objectMapper配置的DateFormat
+ */
+public class JsonDateSerializer extends StdSerializer<Date> implements ContextualSerializer {
+    /**
+     * 公历完整启用的第一年(1583-01-02), 之前的日期SimpleDateFormat按儒略历输出
+     */
+    private static final long GREGORIAN_CUTOVER = -12212467200000L;
+    private static final DateTimeFormatter UNSUPPORTED = DateTimeFormatter.ISO_INSTANT;
+    private static final ConcurrentMap<String, DateTimeFormatter> patternMapFormatter = new ConcurrentHashMap<>();
+    private final DateFormat dateFormat;
+    private final TimeZone timeZone;
+    private final DateTimeFormatter formatter;
+
+    /**
+     * @param datePattern 时间输出格式
+     * @param dateFormat  objectMapper配置的DateFormat, 配置被替换后(如设置了时区)回退到jackson默认处理
+     */
+    public JsonDateSerializer(String datePattern, DateFormat dateFormat) {
+        super(Date.class);
+        this.dateFormat = dateFormat;
+        this.timeZone = dateFormat.getTimeZone();
+        DateTimeFormatter formatter = patternMapFormatter.computeIfAbsent(datePattern, JsonDateSerializer::translate);
+        this.formatter = formatter == UNSUPPORTED ? null : formatter;
+    }
+
+    private static boolean appendField(DateTimeFormatterBuilder builder, char letter, int count) {
+        if (count > 19) {
+            return false;
+        }
+        switch (letter) {
+            case 'y':
+                if (count == 2) {
+                    builder.appendValueReduced(ChronoField.YEAR_OF_ERA, 2, 2, 2000);
+                } else {
+                    builder.appendValue(ChronoField.YEAR_OF_ERA, count, 19, SignStyle.NORMAL);
+                }
+                return true;
+            case 'M':
+                if (count > 2) {
+                    return false;
+                }
+                builder.appendValue(ChronoField.MONTH_OF_YEAR, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'd':
+                builder.appendValue(ChronoField.DAY_OF_MONTH, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'D':
+                builder.appendValue(ChronoField.DAY_OF_YEAR, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'H':
+                builder.appendValue(ChronoField.HOUR_OF_DAY, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'k':
+                builder.appendValue(ChronoField.CLOCK_HOUR_OF_DAY, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'h':
+                builder.appendValue(ChronoField.CLOCK_HOUR_OF_AMPM, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'K':
+                builder.appendValue(ChronoField.HOUR_OF_AMPM, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'm':
+                builder.appendValue(ChronoField.MINUTE_OF_HOUR, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 's':
+                builder.appendValue(ChronoField.SECOND_OF_MINUTE, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'S':
+                builder.appendValue(ChronoField.MILLI_OF_SECOND, count, 19, SignStyle.NOT_NEGATIVE);
+                return true;
+            case 'Z':
+                builder.appendOffset("+HHMM", "+0000");
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 把SimpleDateFormat格式转换为输出一致的DateTimeFormatter
+     *
+     * @return 无法保证输出一致时返回{@link #UNSUPPORTED}
+     */
+    private static DateTimeFormatter translate(String pattern) {
+        if (DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getZeroDigit() != '0') {
+            return UNSUPPORTED;
+        }
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        int len = pattern.length();
+        int i = 0;
+        while (i < len) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                StringBuilder text = new StringBuilder();
+                int end = i + 1;
+                if (end < len && pattern.charAt(end) == '\'') {
+                    builder.appendLiteral('\'');
+                    i = end + 1;
+                    continue;
+                }
+                while (true) {
+                    if (end >= len) {
+                        return UNSUPPORTED;
+                    }
+                    char ch = pattern.charAt(end);
+                    if (ch == '\'') {
+                        if (end + 1 < len && pattern.charAt(end + 1) == '\'') {
+                            text.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    text.append(ch);
+                    end++;
+                }
+                builder.appendLiteral(text.toString());
+                i = end + 1;
+            } else if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z') {
+                int count = 1;
+                while (i + count < len && pattern.charAt(i + count) == c) {
+                    count++;
+                }
+                if (!appendField(builder, c, count)) {
+                    return UNSUPPORTED;
+                }
+                i += count;
+            } else {
+                builder.appendLiteral(c);
+                i++;
+            }
+        }
+        return builder.toFormatter(Locale.ROOT);
+    }
+
+    /**
+     * 输出时间戳对应的时间字符串, Calendar序列化共用
+     */
+    void serialize(long timestamp, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (this.formatter == null || timestamp < GREGORIAN_CUTOVER
+                || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                || provider.getConfig().getDateFormat() != this.dateFormat) {
+            provider.defaultSerializeDateValue(timestamp, gen);
+            return;
+        }
+        int offsetMillis = this.timeZone.getOffset(timestamp);
+        long localMillis = timestamp + offsetMillis;
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L),
+                (int) Math.floorMod(localMillis, 1000L) * 1000000, ZoneOffset.UTC);
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetMillis / 1000);
+        gen.writeString(this.formatter.format(OffsetDateTime.of(localDateTime, offset)));
+    }
+
+    @Override
+    public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        this.serialize(value.getTime(), gen, provider);
+    }
+
+    /**
+     * 属性上声明了{@link JsonFormat}时使用jackson默认的Date序列化
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = this.findFormatOverrides(prov, property, this.handledType());
+        if (format != null && (format.hasPattern() || format.hasShape() || format.hasLocale() || format.hasTimeZone())) {
+            return DateSerializer.instance.createContextual(prov, property);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,38 @@
+package org.rdlinux.luava.json.jackson.serializer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 按yyyy-MM-dd输出LocalDate
+ */
+public class LocalDateSerializer extends JavaTimeSerializer<LocalDate> {
+    public static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final LocalDateSerializer instance = new LocalDateSerializer(null);
+
+    private LocalDateSerializer(DateTimeFormatter formatter) {
+        super(LocalDate.class, formatter);
+    }
+
+    public static LocalDateSerializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected int write(LocalDate value, char[] buffer) {
+        if (!isSupportedYear(value.getYear())) {
+            return -1;
+        }
+        return writeDate(buffer, 0, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+    }
+
+    @Override
+    protected DateTimeFormatter defaultFormatter() {
+        return dateFormatter;
+    }
+
+    @Override
+    protected JavaTimeSerializer<LocalDate> withFormatter(DateTimeFormatter formatter) {
+        return new LocalDateSerializer(formatter);
+    }
+}
@@ -1,19 +1,18 @@
 package org.rdlinux.luava.json.jackson.serializer;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonSerializer;
-import com.fasterxml.jackson.databind.SerializerProvider;
-
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-public class LocalDateTimeSerializer extends JsonSerializer<LocalDateTime> {
+/**
+ * 按yyyy-MM-dd HH:mm:ss.SSS输出LocalDateTime
+ */
+public class LocalDateTimeSerializer extends JavaTimeSerializer<LocalDateTime> {
     public static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
     //public static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-    private static final LocalDateTimeSerializer instance = new LocalDateTimeSerializer();
+    private static final LocalDateTimeSerializer instance = new LocalDateTimeSerializer(null);
 
-    private LocalDateTimeSerializer() {
+    private LocalDateTimeSerializer(DateTimeFormatter formatter) {
+        super(LocalDateTime.class, formatter);
     }
 
     public static LocalDateTimeSerializer getInstance() {
@@ -21,8 +20,22 @@ public class LocalDateTimeSerializer extends JsonSerializer<LocalDateTime> {
     }
 
     @Override
-    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        String format = dateTimeFormatter.format(value);
-        gen.writeString(format);
+    protected int write(LocalDateTime value, char[] buffer) {
+        if (!isSupportedYear(value.getYear())) {
+            return -1;
+        }
+        int pos = writeDate(buffer, 0, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        buffer[pos++] = ' ';
+        return writeTime(buffer, pos, value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+    }
+
+    @Override
+    protected DateTimeFormatter defaultFormatter() {
+        return dateTimeFormatter;
+    }
+
+    @Override
+    protected JavaTimeSerializer<LocalDateTime> withFormatter(DateTimeFormatter formatter) {
+        return new LocalDateTimeSerializer(formatter);
     }
 }
@@ -0,0 +1,36 @@
+package org.rdlinux.luava.json.jackson.serializer;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 以{@link DateTimeFormatter#ISO_LOCAL_TIME}格式输出LocalTime
+ */
+public class LocalTimeSerializer extends JavaTimeSerializer<LocalTime> {
+    public static final DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_LOCAL_TIME;
+    private static final LocalTimeSerializer instance = new LocalTimeSerializer(null);
+
+    private LocalTimeSerializer(DateTimeFormatter formatter) {
+        super(LocalTime.class, formatter);
+    }
+
+    public static LocalTimeSerializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected int write(LocalTime value, char[] buffer) {
+        return writeIsoTime(buffer, 0, value.getHour(), value.getMinute(), value.getSecond(), value.getNano(),
+                false);
+    }
+
+    @Override
+    protected DateTimeFormatter defaultFormatter() {
+        return timeFormatter;
+    }
+
+    @Override
+    protected JavaTimeSerializer<LocalTime> withFormatter(DateTimeFormatter formatter) {
+        return new LocalTimeSerializer(formatter);
+    }
+}
@@ -0,0 +1,42 @@
+package org.rdlinux.luava.json.jackson.serializer;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 以{@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}格式输出OffsetDateTime, 保留原偏移, 零偏移输出Z
+ */
+public class OffsetDateTimeSerializer extends JavaTimeSerializer<OffsetDateTime> {
+    public static final DateTimeFormatter offsetDateTimeFormatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final OffsetDateTimeSerializer instance = new OffsetDateTimeSerializer(null);
+
+    private OffsetDateTimeSerializer(DateTimeFormatter formatter) {
+        super(OffsetDateTime.class, formatter);
+    }
+
+    public static OffsetDateTimeSerializer getInstance() {
+        return instance;
+    }
+
+    @Override
+    protected int write(OffsetDateTime value, char[] buffer) {
+        if (!isSupportedYear(value.getYear())) {
+            return -1;
+        }
+        int pos = writeDate(buffer, 0, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        buffer[pos++] = 'T';
+        pos = writeIsoTime(buffer, pos, value.getHour(), value.getMinute(), value.getSecond(), value.getNano(),
+                false);
+        return writeOffset(buffer, pos, value.getOffset().getTotalSeconds());
+    }
+
+    @Override
+    protected DateTimeFormatter defaultFormatter() {
+        return offsetDateTimeFormatter;
+    }
+
+    @Override
+    protected JavaTimeSerializer<OffsetDateTime> withFormatter(DateTimeFormatter formatter) {
+        return new OffsetDateTimeSerializer(formatter);
+    }
+}
@@ -0,0 +1,88 @@
+package org.rdlinux.luava.json.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.rdlinux.luava.json.jackson.factory.CachingObjectMapper;
+
+import java.util.Arrays;
+
+/**
+ * 统计入口, 管理{@link JsonListener}并分发事件. 没有注册监听器时调用方只读取一次监听器数组,
+ * 不计时、不包装输入输出流
+ */
+public class JsonInstrumentation {
+    private static final JsonListener[] NONE = new JsonListener[0];
+    private static volatile JsonListener[] listeners = NONE;
+
+    /**
+     * 注册监听器, 重复注册同一个实例无效
+     */
+    public static synchronized void addListener(JsonListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener can not be null");
+        }
+        for (JsonListener registered : listeners) {
+            if (registered == listener) {
+                return;
+            }
+        }
+        JsonListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * 移除监听器
+     */
+    public static synchronized void removeListener(JsonListener listener) {
+        JsonListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                JsonListener[] updated = new JsonListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated.length == 0 ? NONE : updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 是否有注册的监听器
+     */
+    public static boolean isEnabled() {
+        return listeners.length != 0;
+    }
+
+    /**
+     * 分发一次操作的事件, 耗时从startNanos计算到当前
+     *
+     * @param objectMapper 执行操作的objectMapper, 工厂创建的objectMapper使用其key
+     * @param startNanos   {@link System#nanoTime()}记录的开始时间
+     */
+    public static void record(JsonOperation operation, ObjectMapper objectMapper, Class<?> type, long startNanos,
+                              long size, Throwable error) {
+        String mapperKey = objectMapper instanceof CachingObjectMapper ? ((CachingObjectMapper) objectMapper).getKey()
+                : null;
+        record(operation, mapperKey, type, startNanos, size, error);
+    }
+
+    /**
+     * 分发一次操作的事件, 耗时从startNanos计算到当前
+     *
+     * @param startNanos {@link System#nanoTime()}记录的开始时间
+     */
+    public static void record(JsonOperation operation, String mapperKey, Class<?> type, long startNanos, long size,
+                              Throwable error) {
+        JsonListener[] current = listeners;
+        if (current.length == 0) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - startNanos;
+        for (JsonListener listener : current) {
+            try {
+                listener.onEvent(operation, mapperKey, type, durationNanos, size, error);
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+}
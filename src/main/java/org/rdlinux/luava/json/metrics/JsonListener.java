@@ -0,0 +1,21 @@
+package org.rdlinux.luava.json.metrics;
+
+/**
+ * 统计监听器, 通过{@link JsonInstrumentation#addListener}注册, 在调用线程上同步回调, 实现需线程安全且尽量轻量,
+ * 抛出的异常会被忽略
+ */
+@FunctionalInterface
+public interface JsonListener {
+    /**
+     * 一次操作结束
+     *
+     * @param operation     操作
+     * @param mapperKey     objectMapper在工厂中的key, 如"default:yyyy-MM-dd HH:mm:ss", 非工厂创建的objectMapper为null
+     * @param type          序列化时为输入数据的类型, 反序列化及转换时为目标类型的原始类型, 可能为null
+     * @param durationNanos 耗时, 纳秒
+     * @param size          输入或输出的长度, 字节数, 字符串输入输出为字符数, 未知时为-1
+     * @param error         失败时的异常, 成功时为null
+     */
+    void onEvent(JsonOperation operation, String mapperKey, Class<?> type, long durationNanos, long size,
+                 Throwable error);
+}
@@ -0,0 +1,211 @@
+package org.rdlinux.luava.json.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按操作、objectMapper的key及类型汇总调用次数、失败次数、耗时直方图及输入输出长度的监听器,
+ * 注册后可随时通过{@link #snapshot()}读取. 耗时直方图按2的幂分桶, 分位数误差不超过一倍
+ */
+public class JsonMetricsRecorder implements JsonListener {
+    private static final int BUCKETS = 64;
+    private final ConcurrentMap<Key, Metric> keyMapMetric = new ConcurrentHashMap<>();
+
+    @Override
+    public void onEvent(JsonOperation operation, String mapperKey, Class<?> type, long durationNanos, long size,
+                        Throwable error) {
+        Key key = new Key(operation, mapperKey, type);
+        Metric metric = this.keyMapMetric.get(key);
+        if (metric == null) {
+            metric = this.keyMapMetric.computeIfAbsent(key, k -> new Metric());
+        }
+        metric.record(durationNanos, size, error != null);
+    }
+
+    /**
+     * 获取统计信息快照
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(this.keyMapMetric.size());
+        this.keyMapMetric.forEach((key, metric) -> snapshots.add(metric.snapshot(key)));
+        return snapshots;
+    }
+
+    /**
+     * 清空统计信息
+     */
+    public void reset() {
+        this.keyMapMetric.clear();
+    }
+
+    private static class Key {
+        private final JsonOperation operation;
+        private final String mapperKey;
+        private final Class<?> type;
+
+        private Key(JsonOperation operation, String mapperKey, Class<?> type) {
+            this.operation = operation;
+            this.mapperKey = mapperKey;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return this.operation == key.operation && this.type == key.type
+                    && Objects.equals(this.mapperKey, key.mapperKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.operation.hashCode() * 31 + Objects.hashCode(this.mapperKey)) * 31
+                    + Objects.hashCode(this.type);
+        }
+    }
+
+    private static class Metric {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalSize = new LongAdder();
+        private final LongAccumulator maxSize = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        private void record(long durationNanos, long size, boolean failed) {
+            this.count.increment();
+            if (failed) {
+                this.failureCount.increment();
+            }
+            this.totalNanos.add(durationNanos);
+            this.maxNanos.accumulate(durationNanos);
+            this.buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(Math.max(durationNanos, 1)));
+            if (size >= 0) {
+                this.totalSize.add(size);
+                this.maxSize.accumulate(size);
+            }
+        }
+
+        private Snapshot snapshot(Key key) {
+            long[] buckets = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = this.buckets.get(i);
+            }
+            return new Snapshot(key.operation, key.mapperKey, key.type, this.count.sum(), this.failureCount.sum(),
+                    this.totalNanos.sum(), this.maxNanos.get(), this.totalSize.sum(), this.maxSize.get(), buckets);
+        }
+    }
+
+    /**
+     * 一组操作、objectMapper的key及类型的统计信息
+     */
+    public static class Snapshot {
+        private final JsonOperation operation;
+        private final String mapperKey;
+        private final Class<?> type;
+        private final long count;
+        private final long failureCount;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long totalSize;
+        private final long maxSize;
+        private final long[] latencyBuckets;
+
+        public Snapshot(JsonOperation operation, String mapperKey, Class<?> type, long count, long failureCount,
+                        long totalNanos, long maxNanos, long totalSize, long maxSize, long[] latencyBuckets) {
+            this.operation = operation;
+            this.mapperKey = mapperKey;
+            this.type = type;
+            this.count = count;
+            this.failureCount = failureCount;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.totalSize = totalSize;
+            this.maxSize = maxSize;
+            this.latencyBuckets = latencyBuckets;
+        }
+
+        public JsonOperation getOperation() {
+            return this.operation;
+        }
+
+        public String getMapperKey() {
+            return this.mapperKey;
+        }
+
+        public Class<?> getType() {
+            return this.type;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getFailureCount() {
+            return this.failureCount;
+        }
+
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return this.maxNanos;
+        }
+
+        /**
+         * 已知长度的输入输出累计长度
+         */
+        public long getTotalSize() {
+            return this.totalSize;
+        }
+
+        public long getMaxSize() {
+            return this.maxSize;
+        }
+
+        /**
+         * 耗时直方图, 第i个桶为耗时在[2^i, 2^(i+1))纳秒内的次数, 第0个桶同时包含0纳秒
+         */
+        public long[] getLatencyBuckets() {
+            return this.latencyBuckets.clone();
+        }
+
+        /**
+         * 按直方图估算的耗时分位数, 返回所在桶的上界
+         *
+         * @param quantile 分位, 如0.99
+         */
+        public long getLatencyNanos(double quantile) {
+            long rank = (long) Math.ceil(quantile * this.count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += this.latencyBuckets[i];
+                if (seen >= rank && seen > 0) {
+                    return i == BUCKETS - 1 ? this.maxNanos : Math.min((1L << (i + 1)) - 1, this.maxNanos);
+                }
+            }
+            return this.maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{operation=" + this.operation + ", mapperKey=" + this.mapperKey + ", type="
+                    + (this.type == null ? null : this.type.getName()) + ", count=" + this.count + ", failureCount="
+                    + this.failureCount + ", totalNanos=" + this.totalNanos + ", maxNanos=" + this.maxNanos
+                    + ", totalSize=" + this.totalSize + ", maxSize=" + this.maxSize + "}";
+        }
+    }
+}
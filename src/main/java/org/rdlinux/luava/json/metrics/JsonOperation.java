@@ -0,0 +1,23 @@
+package org.rdlinux.luava.json.metrics;
+
+/**
+ * 被统计的操作
+ */
+public enum JsonOperation {
+    /**
+     * 对象输出为json字符串、字节、输出流或缓冲区
+     */
+    SERIALIZE,
+    /**
+     * json字符串、字节、输入流或缓冲区解析为对象
+     */
+    DESERIALIZE,
+    /**
+     * 对象之间的转换, 不经过json文本
+     */
+    CONVERT,
+    /**
+     * 工厂创建objectMapper, 类型为null
+     */
+    CREATE_MAPPER
+}
@@ -0,0 +1,79 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.AsyncJsonDecoder;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AsyncJsonDecoderTest {
+    @Test
+    public void valueFromChunks() throws Exception {
+        AsyncJsonDecoder<Student> decoder = JacksonUtils.snakeCaseAsyncDecoder(Student.class,
+                AsyncJsonDecoder.Mode.VALUE, null);
+        byte[] json = "{\"name_t\":\"测试\",\"now\":\"2018-12-13 09:27:41\"}".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < json.length; i++) {
+            Assert.assertTrue(decoder.feed(ByteBuffer.wrap(json, i, 1)));
+        }
+        decoder.endOfInput();
+        Student student = decoder.completion().get();
+        Assert.assertEquals("测试", student.getNameT());
+        Assert.assertNotNull(student.getNow());
+    }
+
+    @Test
+    public void arrayWithBackPressure() throws Exception {
+        List<Integer> values = new ArrayList<>();
+        AtomicInteger ready = new AtomicInteger();
+        AsyncJsonDecoder<Integer> decoder = new AsyncJsonDecoder<>(ObjectMapperFactory.getDefaultObjectMapper(),
+                ObjectMapperFactory.getDefaultObjectMapper().constructType(Integer.class), AsyncJsonDecoder.Mode.ARRAY,
+                new AsyncJsonDecoder.Listener<Integer>() {
+                    @Override
+                    public void onValue(Integer value) {
+                        values.add(value);
+                    }
+
+                    @Override
+                    public void onReadyForInput() {
+                        ready.incrementAndGet();
+                    }
+                }, 1);
+        Assert.assertFalse(decoder.feed("[1,2,".getBytes(StandardCharsets.UTF_8), 0, 5));
+        Assert.assertEquals("[1]", values.toString());
+        decoder.request(5);
+        Assert.assertEquals("[1, 2]", values.toString());
+        Assert.assertEquals(1, ready.get());
+        ByteBuffer tail = ByteBuffer.wrap("3]".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(decoder.feed(tail));
+        Assert.assertEquals(0, tail.position());
+        Assert.assertEquals("[1, 2, 3]", values.toString());
+        Assert.assertTrue(decoder.completion().isDone());
+    }
+
+    @Test
+    public void sequenceAndError() throws Exception {
+        List<Map<String, Object>> values = new ArrayList<>();
+        AsyncJsonDecoder<Map<String, Object>> decoder = JacksonUtils.asyncDecoder(
+                new TypeReference<Map<String, Object>>() {
+                }, AsyncJsonDecoder.Mode.SEQUENCE, values::add);
+        decoder.feed(ByteBuffer.wrap("{\"a\":1}\n{\"a\"".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(1, values.size());
+        decoder.feed(ByteBuffer.wrap(":2}\n{]".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(2, values.size());
+        CompletableFuture<Map<String, Object>> completion = decoder.completion();
+        try {
+            completion.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+}
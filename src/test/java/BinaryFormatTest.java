@@ -0,0 +1,61 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.jackson.factory.BinaryFormat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+
+public class BinaryFormatTest {
+    @Test
+    public void roundTrip() {
+        Student student = new Student();
+        student.setNameT("测试");
+        student.setNow(new Date(1544693261000L));
+        student.setBirthday(LocalDateTime.of(2018, 12, 13, 9, 27, 41, 123000000));
+        for (BinaryFormat format : BinaryFormat.values()) {
+            byte[] data = JacksonUtils.toBinary(student, format);
+            Assert.assertEquals(format, BinaryFormat.detect(data, 0, data.length));
+            Student copy = JacksonUtils.fromBinary(data, Student.class);
+            Assert.assertEquals(student.getNameT(), copy.getNameT());
+            Assert.assertEquals(student.getNow(), copy.getNow());
+            Assert.assertEquals(student.getBirthday(), copy.getBirthday());
+
+            data = JacksonUtils.snakeCaseToBinary(student, format, "yyyy-MM-dd");
+            Map<String, Object> map = JacksonUtils.snakeCaseFromBinary(data,
+                    new TypeReference<Map<String, Object>>() {
+                    });
+            Assert.assertEquals("测试", map.get("name_t"));
+            Assert.assertEquals(JacksonUtils.toJsonString(student.getNow(), "yyyy-MM-dd"), "\"" + map.get("now") + "\"");
+        }
+    }
+
+    @Test
+    public void detectAndFallback() {
+        byte[] json = "{\"nameT\":\"测试\",\"enabled\":\"是\"}".getBytes(StandardCharsets.UTF_8);
+        Assert.assertNull(BinaryFormat.detect(json, 0, json.length));
+        Map<String, Object> map = JacksonUtils.fromBinary(json, new TypeReference<Map<String, Object>>() {
+        });
+        Assert.assertEquals("测试", map.get("nameT"));
+        Assert.assertNull(JacksonUtils.fromBinary(null, Map.class));
+
+        byte[] data = JacksonUtils.toBinary(map, BinaryFormat.CBOR);
+        Enabled enabled = JacksonUtils.fromBinary(data, Enabled.class);
+        Assert.assertEquals(Boolean.TRUE, enabled.getEnabled());
+    }
+
+    public static class Enabled {
+        private Boolean enabled;
+
+        public Boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
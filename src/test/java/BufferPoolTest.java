@@ -0,0 +1,74 @@
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.StreamUtils;
+import org.rdlinux.luava.json.jackson.buffer.BufferPool;
+import org.rdlinux.luava.json.jackson.factory.CachingObjectMapper;
+import org.rdlinux.luava.json.jackson.factory.PooledJsonFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+public class BufferPoolTest {
+    @Test
+    public void reuseAndCaps() {
+        for (BufferPool pool : new BufferPool[]{BufferPool.lockFree(1, 10000), BufferPool.striped(4, 10000),
+                BufferPool.threadLocal(10000)}) {
+            byte[] bytes = pool.allocByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, 0);
+            Assert.assertEquals(8000, bytes.length);
+            pool.releaseByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, bytes);
+            Assert.assertSame(bytes, pool.allocByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, 100));
+            pool.releaseByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, bytes);
+            pool.releaseByteBuffer(BufferRecycler.BYTE_READ_IO_BUFFER, new byte[8000]);
+            pool.releaseCharBuffer(BufferRecycler.CHAR_TEXT_BUFFER, new char[20000]);
+            char[] chars = pool.allocCharBuffer(BufferRecycler.CHAR_TEXT_BUFFER, 0);
+            Assert.assertEquals(200, chars.length);
+            BufferPool.Stats stats = pool.getStats();
+            Assert.assertEquals(pool.toString(), 1, stats.getHitCount());
+            Assert.assertEquals(2, stats.getMissCount());
+            Assert.assertEquals(2, stats.getReleaseCount());
+            Assert.assertEquals(2, stats.getDropCount());
+        }
+    }
+
+    @Test
+    public void sharedAcrossThreads() throws Exception {
+        BufferPool lockFree = BufferPool.lockFree();
+        BufferPool threadLocal = BufferPool.threadLocal();
+        ObjectMapper lockFreeMapper = new CachingObjectMapper(new PooledJsonFactory(lockFree)).copy();
+        ObjectMapper threadLocalMapper = new CachingObjectMapper(new PooledJsonFactory(threadLocal));
+        for (int i = 0; i < 5; i++) {
+            Thread thread = new Thread(() -> {
+                for (ObjectMapper mapper : new ObjectMapper[]{lockFreeMapper, threadLocalMapper}) {
+                    try {
+                        String json = mapper.writeValueAsString(Collections.singletonMap("a", "测试"));
+                        Assert.assertEquals("测试", mapper.readValue(json, Map.class).get("a"));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+        Assert.assertTrue(lockFreeMapper.getFactory() instanceof PooledJsonFactory);
+        Assert.assertTrue(lockFree.getStats().getHitCount() > threadLocal.getStats().getHitCount());
+        Assert.assertEquals(lockFree.getStats().getMissCount() + lockFree.getStats().getHitCount(),
+                threadLocal.getStats().getMissCount() + threadLocal.getStats().getHitCount());
+    }
+
+    @Test
+    public void copyToString() throws Exception {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 10000) {
+            text.append("测试json");
+        }
+        for (String value : new String[]{"", "测试", text.toString()}) {
+            Assert.assertEquals(value, StreamUtils.copyToString(
+                    new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.jackson.factory.CachingObjectMapper;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+public class CachingObjectMapperTest {
+    private Map<String, List<Integer>> field;
+
+    @Test
+    public void cachedTypes() throws Exception {
+        CachingObjectMapper objectMapper = new CachingObjectMapper();
+        Type genericType = CachingObjectMapperTest.class.getDeclaredField("field").getGenericType();
+        JavaType javaType = objectMapper.resolveType(genericType);
+        Assert.assertSame(javaType, objectMapper.resolveType(genericType));
+        Assert.assertEquals(javaType, objectMapper.resolveType(new TypeReference<Map<String, List<Integer>>>() {
+        }));
+        ObjectReader reader = objectMapper.cachedReader(javaType);
+        Assert.assertSame(reader, objectMapper.cachedReader(javaType));
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        Assert.assertNotSame(reader, objectMapper.cachedReader(javaType));
+        Map<String, List<Integer>> value = JacksonUtils.conversion("{\"a\":[1,2]}", genericType);
+        Assert.assertEquals(Integer.valueOf(2), value.get("a").get(1));
+    }
+
+    @Test
+    public void derivedFromTemplate() {
+        ObjectMapper camelCase = ObjectMapperFactory.getDefaultObjectMapper("yyyy");
+        ObjectMapper snakeCase = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper("MM");
+        Assert.assertSame(camelCase.getTypeFactory(), snakeCase.getTypeFactory());
+        Assert.assertEquals(camelCase.getRegisteredModuleIds(), snakeCase.getRegisteredModuleIds());
+        Assert.assertEquals("default:yyyy", ((CachingObjectMapper) camelCase).getKey());
+
+        Student student = new Student();
+        student.setNameT("a");
+        student.setNow(new Date(0));
+        String yyyy = new SimpleDateFormat("yyyy").format(student.getNow());
+        String mm = new SimpleDateFormat("MM").format(student.getNow());
+        Assert.assertEquals("{\"nameT\":\"a\",\"now\":\"" + yyyy + "\"}", JacksonUtils.toJsonString(student, "yyyy"));
+        Assert.assertEquals("{\"name_t\":\"a\",\"now\":\"" + mm + "\"}",
+                JacksonUtils.toSnakeCaseJsonString(student, "MM"));
+        Assert.assertEquals(Boolean.TRUE, JacksonUtils.conversion("\"是\"", Boolean.class, "yyyy"));
+    }
+
+    @Test
+    public void genericTypesDoNotPinClassLoader() throws Exception {
+        CachingObjectMapper objectMapper = new CachingObjectMapper();
+        WeakReference<ClassLoader> loader = resolveInIsolatedLoader(objectMapper);
+        // TypeFactory自身的类型缓存同样引用类型, 排除其影响
+        objectMapper.getTypeFactory().clearCache();
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertNull(loader.get());
+        Assert.assertNotNull(objectMapper.resolveType(List.class));
+    }
+
+    @Test
+    public void evictedMapperNotPinnedByReaders() throws Exception {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(1, ObjectMapperRegistry.EvictionPolicy.LRU);
+        WeakReference<ObjectMapper> evicted = cacheReaderIn(registry, "a");
+        registry.get("b", key -> new CachingObjectMapper());
+        for (int i = 0; i < 50 && evicted.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertNull(evicted.get());
+    }
+
+    private static WeakReference<ObjectMapper> cacheReaderIn(ObjectMapperRegistry registry, String key) {
+        CachingObjectMapper objectMapper = (CachingObjectMapper) registry.get(key, k -> new CachingObjectMapper());
+        ObjectReader reader = objectMapper.cachedReader(objectMapper.resolveType(AppDto.class));
+        Assert.assertSame(reader, objectMapper.cachedReader(objectMapper.resolveType(AppDto.class)));
+        return new WeakReference<>(objectMapper);
+    }
+
+    private static WeakReference<ClassLoader> resolveInIsolatedLoader(CachingObjectMapper objectMapper)
+            throws IOException {
+        IsolatedLoader loader = new IsolatedLoader();
+        Class<?> dto = loader.define(AppDto.class);
+        Assert.assertNotSame(AppDto.class, dto);
+        Type listType = new ParameterizedType() {
+            @Override
+            public Type[] getActualTypeArguments() {
+                return new Type[]{dto};
+            }
+
+            @Override
+            public Type getRawType() {
+                return List.class;
+            }
+
+            @Override
+            public Type getOwnerType() {
+                return null;
+            }
+        };
+        JavaType javaType = objectMapper.resolveType(listType);
+        Assert.assertSame(javaType, objectMapper.resolveType(listType));
+        Assert.assertSame(dto, javaType.getContentType().getRawClass());
+        return new WeakReference<>(loader);
+    }
+
+    public static class AppDto {
+        public String name;
+    }
+
+    private static class IsolatedLoader extends ClassLoader {
+        private IsolatedLoader() {
+            super(CachingObjectMapperTest.class.getClassLoader());
+        }
+
+        private Class<?> define(Class<?> type) throws IOException {
+            String resource = type.getName().replace('.', '/') + ".class";
+            try (InputStream in = this.getParent().getResourceAsStream(resource)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                for (int n; (n = in.read(buffer)) > 0; ) {
+                    out.write(buffer, 0, n);
+                }
+                byte[] bytes = out.toByteArray();
+                return this.defineClass(type.getName(), bytes, 0, bytes.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+public class CoercionTest {
+    @Test
+    public void booleans() {
+        for (String json : Arrays.asList("true", "1", "\"true\"", "\"TRUE\"", "\"Yes\"", "\"是\"", "\"1\"", "\" yes \"")) {
+            Assert.assertEquals(json, Boolean.TRUE, JacksonUtils.conversion(json, Boolean.class));
+        }
+        for (String json : Arrays.asList("false", "0", "\"False\"", "\"NO\"", "\"否\"", "\"0\"")) {
+            Assert.assertEquals(json, Boolean.FALSE, JacksonUtils.conversion(json, Boolean.class));
+        }
+        Assert.assertNull(JacksonUtils.conversion("\"\"", Boolean.class));
+        for (String json : Arrays.asList("\"yess\"", "\"t\"", "2", "[true]")) {
+            try {
+                JacksonUtils.conversion(json, Boolean.class);
+                Assert.fail(json);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        Flags flags = JacksonUtils.conversion("{\"active\":\"是\",\"enabled\":\"NO\"}", Flags.class);
+        Assert.assertTrue(flags.isActive());
+        Assert.assertEquals(Boolean.FALSE, flags.getEnabled());
+        flags = JacksonUtils.conversion("{\"active\":null,\"enabled\":null}", Flags.class);
+        Assert.assertFalse(flags.isActive());
+        Assert.assertNull(flags.getEnabled());
+    }
+
+    @Test
+    public void numbers() {
+        Amounts amounts = JacksonUtils.conversion("{\"count\":\"1,234\",\"total\":\" -9,876,543,210 \","
+                + "\"price\":\"1,234.5\",\"amount\":\"12,345.678\",\"size\":\"是\",\"boxed\":false}", Amounts.class);
+        Assert.assertEquals(1234, amounts.getCount());
+        Assert.assertEquals(Long.valueOf(-9876543210L), amounts.getTotal());
+        Assert.assertEquals(1234.5, amounts.getPrice(), 0);
+        Assert.assertEquals(new BigDecimal("12345.678"), amounts.getAmount());
+        Assert.assertEquals(1, amounts.getSize());
+        Assert.assertEquals(Integer.valueOf(0), amounts.getBoxed());
+
+        amounts = JacksonUtils.conversion("{\"count\":\"\",\"total\":\"\",\"price\":null,\"size\":true}", Amounts.class);
+        Assert.assertEquals(0, amounts.getCount());
+        Assert.assertNull(amounts.getTotal());
+        Assert.assertEquals(0, amounts.getPrice(), 0);
+        Assert.assertEquals(1, amounts.getSize());
+
+        Assert.assertEquals(Integer.valueOf(12), JacksonUtils.conversion("12.9", Integer.class));
+        Assert.assertEquals(Integer.valueOf(12), JacksonUtils.conversion("\"12.9\"", Integer.class));
+        Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), JacksonUtils.conversion("\"" + Long.MIN_VALUE + "\"",
+                Long.class));
+        Assert.assertEquals(Double.valueOf(1.5e3), JacksonUtils.conversion("\"1.5e3\"", Double.class));
+        Assert.assertTrue(JacksonUtils.conversion("\"NaN\"", Double.class).isNaN());
+        Assert.assertEquals(new BigDecimal("0.10"), JacksonUtils.conversion("0.10", BigDecimal.class));
+        for (String json : Arrays.asList("\"1,2,3,\"", "\",123\"", "\"12a\"", "\"2147483648\"", "\"1.5,0\"")) {
+            try {
+                JacksonUtils.conversion(json, Integer.class);
+                Assert.fail(json);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        Assert.assertEquals(Integer.valueOf(-1234567), JacksonUtils.conversion("\"-1,234,567\"", Integer.class));
+        Assert.assertEquals(Double.valueOf(123456.5), JacksonUtils.conversion("\"123,456.5\"", Double.class));
+        // 逗号作小数点或分组位数不对时不能当作千分位
+        for (String json : Arrays.asList("\"0,5\"", "\"1,5\"", "\"12,34\"", "\"1234,567\"", "\"1,2345\"",
+                "\"1,234,56\"", "\"0,5e3\"", "\"-12,34.5\"")) {
+            for (Class<?> type : Arrays.asList(Integer.class, Long.class, Double.class, BigDecimal.class)) {
+                try {
+                    JacksonUtils.conversion(json, type);
+                    Assert.fail(json + " " + type);
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        }
+    }
+
+    public static class Flags {
+        private boolean active;
+        private Boolean enabled;
+
+        public boolean isActive() {
+            return this.active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Amounts {
+        private int count;
+        private Long total;
+        private double price;
+        private BigDecimal amount;
+        private int size;
+        private Integer boxed;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public Long getTotal() {
+            return this.total;
+        }
+
+        public void setTotal(Long total) {
+            this.total = total;
+        }
+
+        public double getPrice() {
+            return this.price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public BigDecimal getAmount() {
+            return this.amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public int getSize() {
+            return this.size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public Integer getBoxed() {
+            return this.boxed;
+        }
+
+        public void setBoxed(Integer boxed) {
+            this.boxed = boxed;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DeepCopyTest {
+    @Test
+    public void deepCopy() {
+        Student student = new Student();
+        student.setNameT("test");
+        student.setNow(new Date(1544664461000L));
+        student.setBirthday(LocalDateTime.of(2018, 12, 13, 9, 27, 41, 123000000));
+        Student copy = JacksonUtils.deepCopy(student);
+        Assert.assertNotSame(student, copy);
+        Assert.assertEquals(JacksonUtils.toJsonString(student), JacksonUtils.toJsonString(copy));
+        Assert.assertEquals(student.getNow(), copy.getNow());
+        Assert.assertEquals(student.getBirthday(), copy.getBirthday());
+        Assert.assertNull(copy.getAgeS());
+
+        // 时间按输出格式拷贝, 与转换为json后再读回一致
+        Student dateOnly = JacksonUtils.deepCopy(student, "yyyy-MM-dd");
+        Assert.assertEquals(JacksonUtils.conversion(JacksonUtils.toJsonString(student, "yyyy-MM-dd"), Student.class)
+                .getNow(), dateOnly.getNow());
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        List<Object> values = new ArrayList<>(Arrays.asList(1, 2.5, new BigDecimal("0.10"), null));
+        map.put("values", values);
+        map.put("empty", null);
+        Map<String, Object> mapCopy = JacksonUtils.deepCopy(map);
+        Assert.assertNotSame(values, mapCopy.get("values"));
+        Assert.assertEquals(values, mapCopy.get("values"));
+        Assert.assertFalse(mapCopy.containsKey("empty"));
+        Assert.assertNull(JacksonUtils.deepCopy(null));
+    }
+
+    @Test
+    public void deepCopyGeneric() {
+        Student student = new Student();
+        student.setNameT("test");
+        List<Student> students = Arrays.asList(student, null);
+        List<Student> copy = JacksonUtils.deepCopy(students, new TypeReference<List<Student>>() {
+        });
+        Assert.assertEquals(2, copy.size());
+        Assert.assertNotSame(student, copy.get(0));
+        Assert.assertEquals("test", copy.get(0).getNameT());
+        Assert.assertNull(copy.get(1));
+
+        Map<String, Object> map = JacksonUtils.deepCopy(student,
+                JacksonUtils.getJavaType(new TypeReference<Map<String, Object>>() {
+                }.getType()));
+        Assert.assertEquals("test", map.get("nameT"));
+        Assert.assertFalse(map.containsKey("ageS"));
+    }
+}
@@ -0,0 +1,214 @@
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.jackson.serializer.LocalDateSerializer;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JavaTimeCodecTest {
+    private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of(2018, 12, 13, 9, 27, 41, 123456789);
+
+    @Test
+    public void format() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("local_date_time", LOCAL_DATE_TIME);
+        map.put("local_date", LOCAL_DATE_TIME.toLocalDate());
+        map.put("local_time", LocalTime.of(9, 5));
+        map.put("instant", LOCAL_DATE_TIME.toInstant(ZoneOffset.UTC));
+        map.put("utc", OffsetDateTime.of(LOCAL_DATE_TIME, ZoneOffset.UTC));
+        map.put("offset", OffsetDateTime.of(LOCAL_DATE_TIME, ZoneOffset.ofHoursMinutes(-3, -30)));
+        map.put("year", LocalDate.of(10000, 1, 1));
+        Assert.assertEquals("{\"local_date_time\":\"2018-12-13 09:27:41.123\",\"local_date\":\"2018-12-13\","
+                        + "\"local_time\":\"09:05:00\",\"instant\":\"2018-12-13T09:27:41.123456789Z\","
+                        + "\"utc\":\"2018-12-13T09:27:41.123456789Z\",\"offset\":\"2018-12-13T09:27:41.123456789-03:30\","
+                        + "\"year\":\"" + LocalDateSerializer.dateFormatter.format(LocalDate.of(10000, 1, 1)) + "\"}",
+                JacksonUtils.toJsonString(map));
+        Assert.assertEquals("\"1969-12-31T23:59:59.999Z\"", JacksonUtils.toJsonString(Instant.ofEpochMilli(-1)));
+        Assert.assertEquals("\"2000-02-29T00:00:00Z\"",
+                JacksonUtils.toJsonString(Instant.parse("2000-02-29T00:00:00Z")));
+    }
+
+    @Test
+    public void parse() {
+        LocalDateTime millis = LOCAL_DATE_TIME.withNano(123000000);
+        Assert.assertEquals(millis, JacksonUtils.conversion("\"2018-12-13 09:27:41.123\"", LocalDateTime.class));
+        Assert.assertEquals(LOCAL_DATE_TIME,
+                JacksonUtils.conversion("\"2018-12-13T09:27:41.123456789\"", LocalDateTime.class));
+        Assert.assertEquals(millis.withNano(0), JacksonUtils.conversion("\"2018-12-13 09:27:41\"", LocalDateTime.class));
+        Assert.assertEquals(millis.withSecond(0).withNano(0),
+                JacksonUtils.conversion("\"2018-12-13T09:27\"", LocalDateTime.class));
+        Assert.assertEquals(LocalDate.of(2018, 12, 13), JacksonUtils.conversion("\"2018-12-13\"", LocalDate.class));
+        Assert.assertEquals(LocalDate.of(2000, 2, 29), JacksonUtils.conversion("\"2000-02-29\"", LocalDate.class));
+        Assert.assertEquals(LocalTime.of(9, 27, 41, 500000000),
+                JacksonUtils.conversion("\"09:27:41.5\"", LocalTime.class));
+
+        Instant instant = millis.toInstant(ZoneOffset.UTC);
+        for (String text : Arrays.asList("2018-12-13T09:27:41.123Z", "2018-12-13 17:27:41.123+08:00",
+                "2018-12-13T17:27:41.123+0800", "2018-12-13T01:27:41.123-08")) {
+            Assert.assertEquals(text, instant, JacksonUtils.conversion("\"" + text + "\"", Instant.class));
+            Assert.assertEquals(text, instant,
+                    JacksonUtils.conversion("\"" + text + "\"", OffsetDateTime.class).toInstant());
+        }
+        Assert.assertEquals(ZoneOffset.ofHours(8), JacksonUtils.conversion("\"2018-12-13T17:27:41.123+08:00\"",
+                OffsetDateTime.class).getOffset());
+        Assert.assertNull(JacksonUtils.conversion("\"\"", LocalDate.class));
+
+        // 快速路径不支持的格式交给DateTimeFormatter
+        Assert.assertEquals(LocalDate.of(10000, 1, 1), JacksonUtils.conversion("\"+10000-01-01\"", LocalDate.class));
+        Assert.assertEquals(OffsetDateTime.of(LOCAL_DATE_TIME.withNano(0), ZoneOffset.ofHoursMinutesSeconds(1, 0, 30)),
+                JacksonUtils.conversion("\"2018-12-13T09:27:41+01:00:30\"", OffsetDateTime.class));
+
+        // 各类型输出的文本可以原样读回
+        List<Object> values = Arrays.asList(millis, millis.toLocalDate(), millis.toLocalTime(), instant,
+                OffsetDateTime.of(millis, ZoneOffset.ofHours(-5)));
+        for (Object value : values) {
+            Assert.assertEquals(value, JacksonUtils.conversion(JacksonUtils.toJsonString(value), value.getClass()));
+        }
+    }
+
+    @Test
+    public void nanoPrecision() {
+        Instant instant = Instant.ofEpochSecond(1544693261, 123456789);
+        Assert.assertEquals("\"2018-12-13T09:27:41.123456789Z\"", JacksonUtils.toJsonString(instant));
+        Assert.assertEquals("\"2018-12-13T09:27:41.123400Z\"",
+                JacksonUtils.toJsonString(Instant.ofEpochSecond(1544693261, 123400000)));
+        Assert.assertEquals("\"09:27:41.123456789\"", JacksonUtils.toJsonString(LOCAL_DATE_TIME.toLocalTime()));
+        Assert.assertEquals("\"2018-12-13T09:27:41.123456789+08:00\"",
+                JacksonUtils.toJsonString(OffsetDateTime.of(LOCAL_DATE_TIME, ZoneOffset.ofHours(8))));
+        // LocalDateTime保持原有的毫秒格式
+        Assert.assertEquals("\"2018-12-13 09:27:41.123\"", JacksonUtils.toJsonString(LOCAL_DATE_TIME));
+
+        List<Object> values = Arrays.asList(instant, LOCAL_DATE_TIME.toLocalTime(), LocalTime.of(0, 0, 0, 1000),
+                OffsetDateTime.of(LOCAL_DATE_TIME, ZoneOffset.ofHours(-5)),
+                Instant.ofEpochSecond(-62198755200L, 5), OffsetDateTime.of(LOCAL_DATE_TIME.withYear(10000),
+                        ZoneOffset.ofHours(1)));
+        for (Object value : values) {
+            Assert.assertEquals(value, JacksonUtils.conversion(JacksonUtils.toJsonString(value), value.getClass()));
+        }
+    }
+
+    @Test
+    public void isoFraction() {
+        // 与jackson-datatype-jsr310一致, 整秒不输出小数, Instant的小数按3位分组
+        Assert.assertEquals("\"2020-09-13T12:26:40Z\"", JacksonUtils.toJsonString(Instant.ofEpochSecond(1600000000)));
+        Assert.assertEquals("\"2020-09-13T12:26:40.500Z\"",
+                JacksonUtils.toJsonString(Instant.ofEpochSecond(1600000000, 500000000)));
+        Assert.assertEquals("\"12:00:00\"", JacksonUtils.toJsonString(LocalTime.NOON));
+        Assert.assertEquals("\"12:00:00.5\"", JacksonUtils.toJsonString(LocalTime.NOON.withNano(500000000)));
+        Assert.assertEquals("\"2020-09-13T12:26:40+08:00\"", JacksonUtils.toJsonString(OffsetDateTime.of(2020, 9, 13,
+                12, 26, 40, 0, ZoneOffset.ofHours(8))));
+        Assert.assertEquals("\"2020-09-13T12:26:40.05Z\"", JacksonUtils.toJsonString(OffsetDateTime.of(2020, 9, 13,
+                12, 26, 40, 50000000, ZoneOffset.UTC)));
+        // LocalDateTime保持原有的毫秒格式
+        Assert.assertEquals("\"2020-09-13 12:00:00.000\"", JacksonUtils.toJsonString(LocalDateTime.of(2020, 9, 13, 12,
+                0)));
+    }
+
+    @Test
+    public void epochSecond() {
+        Instant instant = Instant.parse("2020-09-13T12:26:40Z");
+        Assert.assertEquals(instant, JacksonUtils.conversion("1600000000", Instant.class));
+        Assert.assertEquals(instant.plusNanos(123456789), JacksonUtils.conversion("1600000000.123456789", Instant.class));
+        Assert.assertEquals(Instant.ofEpochMilli(-500), JacksonUtils.conversion("-0.5", Instant.class));
+        Assert.assertEquals(instant, JacksonUtils.conversion("\"1600000000\"", Instant.class));
+        Assert.assertEquals(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC),
+                JacksonUtils.conversion("1600000000", OffsetDateTime.class));
+        Assert.assertEquals(OffsetDateTime.ofInstant(instant.plusMillis(500), ZoneOffset.UTC),
+                JacksonUtils.conversion("1600000000.5", OffsetDateTime.class));
+        Assert.assertEquals(instant, JacksonUtils.conversion("{\"at\":1600000000}", Event.class).getAt());
+    }
+
+    @Test
+    public void invalid() {
+        for (String text : Arrays.asList("2018-02-30 09:27:41", "2018-12-13 24:00:00", "2018-12-13 09:27:41.",
+                "2018-12-13 09:27:41.1234567890", "2018/12/13 09:27:41", "2018-12-13 09:27:41Z")) {
+            try {
+                JacksonUtils.conversion("\"" + text + "\"", LocalDateTime.class);
+                Assert.fail(text);
+            } catch (DateTimeException ignored) {
+            }
+        }
+        for (String text : Arrays.asList("2018-12-13T09:27:41", "2018-12-13T09:27:41+19:00",
+                "2018-12-13T09:27:41+08:0")) {
+            try {
+                JacksonUtils.conversion("\"" + text + "\"", Instant.class);
+                Assert.fail(text);
+            } catch (DateTimeException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void formatOverride() {
+        Schedule schedule = new Schedule();
+        schedule.setDay(LocalDate.of(2018, 12, 13));
+        schedule.setAt(Instant.parse("2018-12-13T09:27:00Z"));
+        schedule.setTimes(Arrays.asList(LocalTime.of(9, 0), LocalTime.of(18, 30)));
+        String json = JacksonUtils.toJsonString(schedule);
+        Assert.assertEquals("{\"day\":\"2018/12/13\",\"at\":\"2018-12-13 17:27\",\"times\":[\"09:00:00\","
+                + "\"18:30:00\"]}", json);
+        Schedule read = JacksonUtils.conversion(json, Schedule.class);
+        Assert.assertEquals(schedule.getDay(), read.getDay());
+        Assert.assertEquals(schedule.getAt(), read.getAt());
+        Assert.assertEquals(schedule.getTimes(), read.getTimes());
+        Assert.assertEquals(Arrays.asList(LocalTime.of(9, 0)), JacksonUtils.conversion("[\"09:00\"]",
+                new TypeReference<List<LocalTime>>() {
+                }));
+    }
+
+    public static class Event {
+        private Instant at;
+
+        public Instant getAt() {
+            return this.at;
+        }
+
+        public void setAt(Instant at) {
+            this.at = at;
+        }
+    }
+
+    public static class Schedule {
+        @JsonFormat(pattern = "yyyy/MM/dd")
+        private LocalDate day;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm", timezone = "GMT+8")
+        private Instant at;
+        private List<LocalTime> times;
+
+        public LocalDate getDay() {
+            return this.day;
+        }
+
+        public void setDay(LocalDate day) {
+            this.day = day;
+        }
+
+        public Instant getAt() {
+            return this.at;
+        }
+
+        public void setAt(Instant at) {
+            this.at = at;
+        }
+
+        public List<LocalTime> getTimes() {
+            return this.times;
+        }
+
+        public void setTimes(List<LocalTime> times) {
+            this.times = times;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.JsonArrayCursor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class JsonArrayCursorTest {
+    @Test
+    public void readInputStream() {
+        byte[] json = ("[{\"name_t\":\"a\",\"now\":\"2018-12-13 09:27:41\"},null,{\"name_t\":\"b\"}]")
+                .getBytes(StandardCharsets.UTF_8);
+        try (JsonArrayCursor<Student> cursor = JacksonUtils.snakeCaseReadArray(new ByteArrayInputStream(json),
+                Student.class)) {
+            Student first = cursor.next();
+            Assert.assertEquals("a", first.getNameT());
+            Assert.assertEquals(JacksonUtils.conversion("\"2018-12-13 09:27:41\"", Date.class), first.getNow());
+            Assert.assertNull(cursor.next());
+            Assert.assertEquals("b", cursor.next().getNameT());
+            Assert.assertFalse(cursor.hasNext());
+        }
+        Assert.assertFalse(JacksonUtils.readArray("", Student.class).hasNext());
+        Assert.assertFalse(JacksonUtils.readArray("[]", Student.class).hasNext());
+    }
+
+    @Test
+    public void streamPath() throws Exception {
+        Path file = Files.createTempFile("cursor", ".json");
+        try {
+            Files.write(file, "[{\"a\":[1,2]},{\"b\":[3]}]".getBytes(StandardCharsets.UTF_8));
+            try (Stream<Map<String, List<Integer>>> stream = JacksonUtils.readArray(file,
+                    new TypeReference<Map<String, List<Integer>>>() {
+                    }).stream()) {
+                List<Integer> values = stream.flatMap(e -> e.values().stream()).flatMap(List::stream)
+                        .collect(Collectors.toList());
+                Assert.assertEquals(3, values.size());
+                Assert.assertEquals(Integer.valueOf(3), values.get(2));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void notArray() {
+        JacksonUtils.readArray("{\"a\":1}", Student.class);
+    }
+}
@@ -0,0 +1,87 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.JsonArrayWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public class JsonArrayWriterTest {
+    @Test
+    public void writeArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assert.assertEquals(3, JacksonUtils.writeArray(IntStream.range(0, 3).boxed(), out));
+        Assert.assertEquals("[0,1,2]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        out.reset();
+        Assert.assertEquals(0, JacksonUtils.writeArray(Collections.emptyIterator(), out));
+        Assert.assertEquals("[]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        Student student = new Student();
+        student.setNameT("测试");
+        student.setNow(new Date(1544693261000L));
+        out.reset();
+        JacksonUtils.snakeCaseWriteArray(Arrays.asList(student, student).iterator(), out, "yyyy-MM-dd");
+        String expected = JacksonUtils.toSnakeCaseJsonString(Arrays.asList(student, student), "yyyy-MM-dd");
+        Assert.assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void envelopeAndPages() {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("total", 5);
+        envelope.put("records", "ignored");
+        envelope.put("page_no", 1);
+        Iterator<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4, 5),
+                new ArrayList<Integer>()).iterator();
+        StringWriter out = new StringWriter();
+        List<String> flushed = new ArrayList<>();
+        try (JsonArrayWriter writer = JacksonUtils.snakeCaseArrayWriter(out, 100).withEnvelope(envelope, "records")) {
+            writer.writePages(() -> {
+                flushed.add(out.toString());
+                return pages.next();
+            });
+            Assert.assertEquals(5, writer.getCount());
+        }
+        Assert.assertEquals("{\"total\":5,\"page_no\":1,\"records\":[1,2,3,4,5]}", out.toString());
+        // 获取下一页之前上一页已经输出
+        Assert.assertEquals(Arrays.asList("", "{\"total\":5,\"page_no\":1,\"records\":[1,2",
+                "{\"total\":5,\"page_no\":1,\"records\":[1,2,3,4,5"), flushed);
+        Map<String, Object> map = JacksonUtils.conversion(out.toString(), new TypeReference<Map<String, Object>>() {
+        });
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), map.get("records"));
+    }
+
+    @Test
+    public void batchFlushAndFailure() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonArrayWriter writer = JacksonUtils.arrayWriter(out, 2);
+        writer.write("a");
+        Assert.assertEquals(0, out.size());
+        writer.write("b");
+        Assert.assertEquals("[\"a\",\"b\"", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        try {
+            writer.write(new Object());
+            Assert.fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        writer.close();
+        Assert.assertFalse(new String(out.toByteArray(), StandardCharsets.UTF_8).endsWith("]"));
+        try {
+            writer.write("c");
+            Assert.fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+}
@@ -0,0 +1,135 @@
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.jackson.deserializer.JsonDateDeserializer;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 与原有的正则识别格式后新建SimpleDateFormat的实现对照
+ */
+public class JsonDateDeserializerTest {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final List<String> zones = Arrays.asList("UTC", "Asia/Shanghai", "America/New_York",
+            "Europe/London", "Australia/Lord_Howe", "America/Sao_Paulo");
+    private final TimeZone defaultZone = TimeZone.getDefault();
+
+    @After
+    public void restoreZone() {
+        TimeZone.setDefault(this.defaultZone);
+    }
+
+    private static SimpleDateFormat legacyFormat(String dateString) {
+        if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}Z$")) {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}\\+[0-9]{4}$")
+                || dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}\\sUTC$")) {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}T[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}$")) {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}\\s[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}\\.[0-9]{1,3}$")) {
+            return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}\\s[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}$")) {
+            return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        } else if (dateString.matches("^[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}$")) {
+            return new SimpleDateFormat("yyyy-MM-dd");
+        } else if (dateString.matches("^[0-9]{1,2}/[0-9]{1,2}/[0-9]{4}$")) {
+            return new SimpleDateFormat("MM/dd/yyyy");
+        } else if (dateString.matches("^[0-9]{1,2}/[0-9]{1,2}/[0-9]{4}\\s[0-9]{1,2}:[0-9]{1,2}:[0-9]{1,2}$")) {
+            return new SimpleDateFormat("MM/dd/yyyy HH:mm:ss");
+        }
+        return null;
+    }
+
+    /**
+     * 原有实现
+     */
+    private static Object legacyParse(String source) {
+        if (source.trim().isEmpty()) {
+            return null;
+        }
+        if (source.matches("^[0-9]+$")) {
+            return new Date(Long.parseLong(source));
+        }
+        SimpleDateFormat format = legacyFormat(source);
+        if (format == null) {
+            return null;
+        }
+        try {
+            return format.parse(source);
+        } catch (ParseException e) {
+            return IllegalArgumentException.class;
+        }
+    }
+
+    private static Object parse(String source) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser("\"" + source.replace("\\", "\\\\").replace("\n", "\\n")
+                .replace("\r", "\\r").replace("\t", "\\t").replace("\f", "\\f").replace("\u000B", "\\u000B") + "\"")) {
+            parser.nextToken();
+            return JsonDateDeserializer.getInstance().deserialize(parser, null);
+        } catch (IllegalArgumentException e) {
+            return IllegalArgumentException.class;
+        }
+    }
+
+    private static List<String> inputs() {
+        List<String> inputs = new ArrayList<>(Arrays.asList(
+                // 各格式
+                "1544693261123", "2018-12-13T09:27:41.123Z", "2018-12-13T09:27:41.123+0800",
+                "2018-12-13T09:27:41.123 UTC", "2018-12-13T09:27:41.123", "2018-12-13 09:27:41.123",
+                "2018-12-13 09:27:41", "2018-12-13", "12/13/2018", "12/13/2018 09:27:41",
+                "2018-1-3T9:7:4.5Z", "2018-1-3 9:7:4", "1/3/2018 9:7:4", "2018-12-13T09:27:41.12+0000",
+                // 顺延
+                "2018-13-01", "2018-02-29", "2018-00-00", "2018-12-32 25:61:61", "2018-12-13T23:59:59.999Z",
+                "2018-12-13T99:99:99.999", "13/32/2018", "00/00/2018 24:00:00", "2016-02-30 00:00:00.000",
+                // 时区偏移
+                "2018-12-13T09:27:41.123+2400", "2018-12-13T09:27:41.123+2359", "2018-12-13T09:27:41.123+0060",
+                "2018-12-13T09:27:41.123+9999", "2018-12-13T09:27:41.123-0800",
+                // 夏令时切换
+                "2018-03-11 02:30:00", "2018-11-04 01:30:00", "2018-03-25 01:30:00", "2018-10-28 01:30:00",
+                "2018-10-07 02:15:00", "2018-04-01 01:45:00", "2018-11-04 00:00:00", "2018-02-17 23:30:00",
+                "2018-03-11T02:30:00.000", "03/11/2018 02:30:00",
+                // 儒略历
+                "1500-01-01", "1582-10-10 12:00:00", "1582-10-15", "0001-01-01 00:00:00.000", "1000-02-29",
+                "1582-12-31T23:59:59.999Z", "1582-06-01T00:00:00.000+0800", "1582-06-01T00:00:00.000 UTC",
+                "02/29/1500", "10/10/1582 12:00:00",
+                // 空白
+                "2018-12-13\t09:27:41", "2018-12-13\n09:27:41", "2018-12-13\t09:27:41.123",
+                "12/13/2018\t09:27:41", "12/13/2018\r09:27:41", "2018-12-13T09:27:41.000\tUTC",
+                "2018-12-13T09:27:41.000\nUTC", "2018-12-13T09:27:41.000\rUTC", "2018-12-13T09:27:41.000\fUTC",
+                "2018-12-13T09:27:41.000\u000BUTC", "  ", " 2018-12-13", "2018-12-13 ",
+                // 不支持的格式
+                "2018-12-13T09:27:41", "2018-12-13T09:27:41.1234", "2018-12-13 09:27", "2018/12/13",
+                "2018-12-13T09:27:41.123+08:00", "2018-12-13T09:27:41.123 GMT", "12/13/18", "123/13/2018",
+                "2018-12-13T09:27:41.123z", "20181213", "-1"));
+        for (int hour = 0; hour < 24; hour += 5) {
+            inputs.add(String.format("2018-03-%02d %02d:30:00", 10 + hour % 3, hour));
+        }
+        return inputs;
+    }
+
+    @Test
+    public void matchesLegacy() throws IOException {
+        List<String> mismatches = new ArrayList<>();
+        for (String zone : zones) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            for (String input : inputs()) {
+                Object expected = legacyParse(input);
+                Object actual = parse(input);
+                if (expected == null ? actual != null : !expected.equals(actual)) {
+                    mismatches.add(zone + " " + input.replace("\n", "\\n") + ": " + expected + " != " + actual);
+                }
+            }
+        }
+        Assert.assertEquals(String.join("\n", mismatches), 0, mismatches.size());
+    }
+}
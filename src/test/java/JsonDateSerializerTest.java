@@ -0,0 +1,80 @@
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.jackson.serializer.JsonDateSerializer;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * 与SimpleDateFormat的输出对照
+ */
+public class JsonDateSerializerTest {
+    private static final List<String> zones = Arrays.asList("UTC", "Asia/Shanghai", "America/New_York",
+            "Asia/Kolkata", "Pacific/Chatham", "America/St_Johns", "Africa/Monrovia", "Europe/Amsterdam");
+    private static final List<String> patterns = Arrays.asList(
+            // 各字母及位数
+            "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "yy/M/d H:m:s.S",
+            "y", "yyy", "yyyyy", "M MM", "d dd ddd", "D DD DDD", "H HH", "k kk", "K KK", "h hh", "m mm", "s ss",
+            "S SS SSS SSSS", "Z ZZ ZZZZ", "yyyyMMddHHmmssSSS",
+            // 字面量
+            "''yyyy''", "'o''clock' HH", "'It''s' h", "yyyy-MM-dd 'at' HH:mm", "'''quoted'''", "HH'h'mm'm'",
+            "yyyy/MM/dd #HH@mm", "", " ", "'T'",
+            // 回退到DateFormat
+            "EEE, d MMM yyyy HH:mm:ss Z", "hh:mm a", "yyyy-MM-dd HH:mm z", "yyyy-MM-dd'T'HH:mm:ssXXX",
+            "G yyyy", "YYYY-ww", "u F", "MMM", "MMMM yyyy");
+
+    private final TimeZone defaultZone = TimeZone.getDefault();
+
+    @After
+    public void restoreZone() {
+        TimeZone.setDefault(this.defaultZone);
+    }
+
+    private static List<Long> instants() {
+        List<Long> instants = new ArrayList<>(Arrays.asList(0L, -1L, 1L, 1544693261123L, 1544693261007L,
+                // 夏令时切换前后
+                1520751599999L, 1520751600000L, 1541311200000L, 1541314800000L, 1521939600000L,
+                // 公历启用前后及年份边界
+                -12212467200001L, -12212467200000L, -12219292800000L, -62135596800000L, -62135596800001L,
+                253402300799999L, 253402300800000L, 9000000000000000L, -100000000000000L));
+        Random random = new Random(20181213);
+        for (int i = 0; i < 200; i++) {
+            instants.add(random.nextLong() % 4102444800000L);
+        }
+        return instants;
+    }
+
+    @Test
+    public void matchesSimpleDateFormat() throws JsonProcessingException {
+        List<String> mismatches = new ArrayList<>();
+        for (String zone : zones) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            for (String pattern : patterns) {
+                SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
+                ObjectMapper objectMapper = new ObjectMapper().setDateFormat(dateFormat)
+                        .registerModule(new SimpleModule().addSerializer(Date.class,
+                                new JsonDateSerializer(pattern, dateFormat)));
+                SimpleDateFormat expectedFormat = new SimpleDateFormat(pattern);
+                for (long instant : instants()) {
+                    Date date = new Date(instant);
+                    String expected = objectMapper.writeValueAsString(expectedFormat.format(date));
+                    String actual = objectMapper.writeValueAsString(date);
+                    if (!expected.equals(actual)) {
+                        mismatches.add(zone + " [" + pattern + "] " + instant + ": " + expected + " != " + actual);
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(String.join("\n", mismatches.subList(0, Math.min(40, mismatches.size()))), 0,
+                mismatches.size());
+    }
+}
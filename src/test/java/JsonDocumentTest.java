@@ -0,0 +1,85 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.JsonDocument;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class JsonDocumentTest {
+    private static final String JSON = "{\"header\":{\"trace_id\":\"t-1\",\"size\":2},"
+            + "\"items\":[{\"name_t\":\"测试\",\"now\":\"2018-12-13 09:27:41\"},{\"name_t\":\"a\\\"b\",\"now\":null}],"
+            + "\"enabled\":true,\"price\":1.5,\"empty\":{},\"dup\":1,\"dup\":2}";
+
+    @Test
+    public void navigate() {
+        JsonDocument document = JacksonUtils.snakeCaseDocument(JSON);
+        Assert.assertEquals(JsonDocument.ValueType.OBJECT, document.getType());
+        Assert.assertEquals(Arrays.asList("header", "items", "enabled", "price", "empty", "dup", "dup"),
+                document.getFieldNames());
+        Assert.assertEquals("t-1", document.get("header").get("trace_id").getValue());
+        Assert.assertEquals(2, document.get("header").get("size").getValue());
+        Assert.assertEquals(Boolean.TRUE, document.get("enabled").getValue());
+        Assert.assertEquals(1.5, document.get("price").getValue());
+        Assert.assertEquals(2, document.get("dup").getValue());
+        Assert.assertEquals(0, document.get("empty").size());
+        Assert.assertNull(document.get("missing"));
+        Assert.assertNull(document.get(0));
+        Assert.assertFalse(document.has("missing"));
+
+        JsonDocument items = document.get("items");
+        Assert.assertEquals(JsonDocument.ValueType.ARRAY, items.getType());
+        Assert.assertEquals(2, items.size());
+        Assert.assertNull(items.get(2));
+        Assert.assertSame(items.get(1), items.get(1));
+        Assert.assertEquals("a\"b", items.get(1).get("name_t").getValue());
+        Assert.assertEquals(JsonDocument.ValueType.NULL, items.get(1).get("now").getType());
+        Assert.assertNull(items.get(1).get("now").getValue());
+
+        Object header = document.get("header").getValue();
+        Assert.assertTrue(header instanceof Map);
+        Assert.assertSame(header, document.get("header").getValue());
+    }
+
+    @Test
+    public void convertSubtree() {
+        JsonDocument document = JacksonUtils.snakeCaseDocument(JSON.getBytes(StandardCharsets.UTF_8));
+        Student student = document.get("items").get(0).to(Student.class);
+        Assert.assertEquals("测试", student.getNameT());
+        Assert.assertNotNull(student.getNow());
+        List<Student> students = document.get("items").to(new TypeReference<List<Student>>() {
+        });
+        Assert.assertEquals(2, students.size());
+        Assert.assertEquals(Long.valueOf(2), document.get("header").get("size").to(Long.class));
+
+        byte[] padded = ("xx" + JSON + "yy").getBytes(StandardCharsets.UTF_8);
+        document = JacksonUtils.snakeCaseDocument(ByteBuffer.wrap(padded, 2, padded.length - 4).slice());
+        Assert.assertEquals("t-1", document.get("header").get("trace_id").getValue());
+        document = JacksonUtils.document(new ByteArrayInputStream(padded, 2, padded.length - 4));
+        Assert.assertEquals(Arrays.asList("trace_id", "size"), document.get("header").getFieldNames());
+    }
+
+    @Test
+    public void scalarAndInvalid() {
+        JsonDocument document = JacksonUtils.document("\"测试\"");
+        Assert.assertEquals(JsonDocument.ValueType.STRING, document.getType());
+        Assert.assertEquals("测试", document.getValue());
+        Assert.assertEquals(0, document.size());
+        Assert.assertNull(JacksonUtils.document(null));
+        try {
+            JacksonUtils.document("{\"a\":[1,}");
+            Assert.fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            JacksonUtils.document(" ");
+            Assert.fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.JsonLinesReader;
+import org.rdlinux.luava.json.JsonLinesWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class JsonLinesTest {
+    @Test
+    public void writeAndRead() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = JacksonUtils.snakeCaseWriteLines(IntStream.range(0, 5).mapToObj(i -> {
+            Student student = new Student();
+            student.setNameT("s" + i);
+            student.setNow(new Date(1544693261000L));
+            return student;
+        }), out);
+        Assert.assertEquals(5, count);
+        String text = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        String[] lines = text.split("\n");
+        Assert.assertEquals(5, lines.length);
+        Assert.assertTrue(text.endsWith("\n"));
+        Assert.assertEquals("{\"name_t\":\"s0\",\"now\":\"" + JacksonUtils.conversion(new Date(1544693261000L),
+                String.class) + "\"}", lines[0]);
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        JsonLinesReader<Student> reader = JacksonUtils.snakeCaseReadLines(
+                new ByteArrayInputStream((text + "\n\n").getBytes(StandardCharsets.UTF_8)), Student.class);
+        reader.forEachBatch(2, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(e -> names.add(e.getNameT()));
+        });
+        Assert.assertEquals("[2, 2, 1]", batchSizes.toString());
+        Assert.assertEquals("s4", names.get(4));
+    }
+
+    @Test
+    public void batchedFlush() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonLinesWriter writer = JacksonUtils.linesWriter(out, 2)) {
+            writer.write(1);
+            Assert.assertEquals(0, out.size());
+            writer.write(2);
+            Assert.assertEquals("1\n2\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+            writer.write(3);
+        }
+        Assert.assertEquals("1\n2\n3\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.metrics.JsonInstrumentation;
+import org.rdlinux.luava.json.metrics.JsonMetricsRecorder;
+import org.rdlinux.luava.json.metrics.JsonOperation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JsonMetricsTest {
+    private static JsonMetricsRecorder.Snapshot find(List<JsonMetricsRecorder.Snapshot> snapshots,
+                                                     JsonOperation operation, String mapperKey, Class<?> type) {
+        for (JsonMetricsRecorder.Snapshot snapshot : snapshots) {
+            if (snapshot.getOperation() == operation && mapperKey.equals(snapshot.getMapperKey())
+                    && snapshot.getType() == type) {
+                return snapshot;
+            }
+        }
+        throw new AssertionError(operation + " " + mapperKey + " " + type + " not found in " + snapshots);
+    }
+
+    @Test
+    public void record() {
+        JsonMetricsRecorder recorder = new JsonMetricsRecorder();
+        JsonInstrumentation.addListener(recorder);
+        try {
+            Student student = new Student();
+            student.setNameT("测试");
+            String json = JacksonUtils.toJsonString(student);
+            JacksonUtils.toSnakeCaseJsonBytes(student, "yyyy/MM/dd HH:mm:ss.SSS");
+            JacksonUtils.writeTo(Collections.singletonMap("a", 1), ByteBuffer.allocate(64));
+            JacksonUtils.conversion(json, Student.class);
+            JacksonUtils.conversion(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), Student.class);
+            JacksonUtils.conversion(new HashMap<>(), Student.class);
+            try {
+                JacksonUtils.conversion("{\"nameT\":", Student.class);
+                Assert.fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+        } finally {
+            JsonInstrumentation.removeListener(recorder);
+        }
+        JacksonUtils.toJsonString(new Student());
+        Assert.assertFalse(JsonInstrumentation.isEnabled());
+
+        List<JsonMetricsRecorder.Snapshot> snapshots = recorder.snapshot();
+        String defaultKey = "default:yyyy-MM-dd HH:mm:ss";
+        JsonMetricsRecorder.Snapshot serialize = find(snapshots, JsonOperation.SERIALIZE, defaultKey, Student.class);
+        Assert.assertEquals(1, serialize.getCount());
+        String expected = "{\"nameT\":\"测试\"}";
+        Assert.assertEquals(expected.length(), serialize.getTotalSize());
+        Assert.assertEquals(1, find(snapshots, JsonOperation.SERIALIZE, "defaultSnakeCase:yyyy/MM/dd HH:mm:ss.SSS",
+                Student.class).getCount());
+        Assert.assertEquals(1, find(snapshots, JsonOperation.CREATE_MAPPER,
+                "defaultSnakeCase:yyyy/MM/dd HH:mm:ss.SSS", null).getCount());
+        Assert.assertEquals(7, find(snapshots, JsonOperation.SERIALIZE, defaultKey,
+                Collections.singletonMap("a", 1).getClass()).getTotalSize());
+
+        JsonMetricsRecorder.Snapshot deserialize = find(snapshots, JsonOperation.DESERIALIZE, defaultKey,
+                Student.class);
+        Assert.assertEquals(3, deserialize.getCount());
+        Assert.assertEquals(1, deserialize.getFailureCount());
+        Assert.assertEquals(expected.length() + expected.getBytes(StandardCharsets.UTF_8).length
+                + "{\"nameT\":".length(),
+                deserialize.getTotalSize());
+        Assert.assertTrue(deserialize.getLatencyNanos(0.5) <= deserialize.getMaxNanos());
+        Assert.assertEquals(3, Arrays.stream(deserialize.getLatencyBuckets()).sum());
+        Assert.assertEquals(1, find(snapshots, JsonOperation.CONVERT, defaultKey, Student.class).getCount());
+    }
+}
@@ -0,0 +1,67 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.JsonPath;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+public class JsonPathTest {
+    /**
+     * 匹配完成后的内容不是合法json, 能提取成功说明已停止读取
+     */
+    private static final String JSON = "{\"header\":{\"traceId\":\"t-1\",\"sent\":\"2018-12-13 09:27:41\",\"gzip\":\"是\"},"
+            + "\"items\":[{\"sku\":\"a\",\"tags\":[1,{\"x\":[]}]},{\"sku\":\"b\"},{\"n\":1},{\"sku\":\"c\"}],"
+            + "\"a.b\":{\"name_t\":\"测试\"},\"tail\":@@@";
+
+    @Test
+    public void extract() {
+        Assert.assertEquals("t-1", JacksonUtils.extract(JSON, JsonPath.compile("$.header.traceId"), String.class));
+        Assert.assertEquals(JacksonUtils.conversion("\"2018-12-13 09:27:41\"", Date.class),
+                JacksonUtils.extract(JSON.getBytes(StandardCharsets.UTF_8), JsonPath.compile("$['header'].sent"),
+                        Date.class));
+        Assert.assertEquals(Boolean.TRUE, JacksonUtils.extract(
+                new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)), JsonPath.compile("$.header.gzip"),
+                Boolean.class));
+        Assert.assertEquals("b", JacksonUtils.extract(JSON, JsonPath.compile("$.items[1].sku"), String.class));
+        Assert.assertNull(JacksonUtils.extract(JSON, JsonPath.compile("$.header.missing"), String.class));
+        Assert.assertNull(JacksonUtils.extract(JSON, JsonPath.compile("$.items[2].sku"), String.class));
+        Assert.assertEquals(Arrays.asList(1, Collections.singletonMap("x", Collections.emptyList())),
+                JacksonUtils.extract(JSON, JsonPath.compile("$.items[0].tags"), List.class));
+        Student student = JacksonUtils.snakeCaseExtract("{\"a.b\":{\"name_t\":\"测试\"}}",
+                JsonPath.compile("$[\"a.b\"]"), Student.class);
+        Assert.assertEquals("测试", student.getNameT());
+    }
+
+    @Test
+    public void extractAll() {
+        JsonPath skus = JsonPath.compile("$.items[*].sku");
+        Assert.assertFalse(skus.isDefinite());
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), JacksonUtils.extractAll(JSON, skus, String.class));
+        Assert.assertEquals("a", JacksonUtils.extract(JSON, skus, String.class));
+        List<Map<String, Object>> headers = JacksonUtils.extractAll("[{\"h\":{\"v\":1}},{\"h\":{\"v\":2}},3]",
+                JsonPath.compile("$[*].*"), new TypeReference<Map<String, Object>>() {
+                });
+        Assert.assertEquals(2, headers.size());
+        Assert.assertEquals(2, headers.get(1).get("v"));
+        Assert.assertEquals(Collections.emptyList(), JacksonUtils.extractAll("[]", skus, String.class));
+        Assert.assertEquals(1, JacksonUtils.extractAll("{\"v\":1}", JsonPath.compile("$"), Map.class).size());
+    }
+
+    @Test
+    public void invalidPath() {
+        for (String expression : new String[]{"header", "$.", "$[", "$[1", "$['a]", "$[x]", "$a"}) {
+            try {
+                JsonPath.compile(expression);
+                Assert.fail(expression);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+}
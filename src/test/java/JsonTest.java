@@ -1,10 +1,18 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
 import org.junit.Test;
 import org.rdlinux.luava.json.JacksonUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Date;
+import java.util.Map;
 
 public class JsonTest {
     @Test
@@ -19,6 +27,56 @@ public class JsonTest {
         System.out.println(JacksonUtils.toJsonString(student));
     }
 
+    @Test
+    public void objectConversion() {
+        Student student = new Student();
+        student.setNameT("test");
+        student.setNow(new Date(1544693261000L));
+        student.setBirthday(LocalDateTime.of(2018, 12, 13, 9, 27, 41, 123000000));
+        Map<String, Object> map = JacksonUtils.snakeCaseConversion(student, new TypeReference<Map<String, Object>>() {
+        });
+        Assert.assertEquals("test", map.get("name_t"));
+        Assert.assertEquals("2018-12-13 09:27:41.123", map.get("birthday"));
+        Student copy = JacksonUtils.snakeCaseConversion(map, Student.class);
+        Assert.assertNotSame(student, copy);
+        Assert.assertEquals(student.getNameT(), copy.getNameT());
+        Assert.assertEquals(student.getNow(), copy.getNow());
+        Assert.assertEquals(student.getBirthday(), copy.getBirthday());
+    }
+
+    @Test
+    public void byteSourceConversion() throws IOException {
+        byte[] json = "{\"name_t\":\"test\",\"now\":\"2018-12-13 09:27:41\"}".getBytes(StandardCharsets.UTF_8);
+        Student student = JacksonUtils.snakeCaseConversion(json, Student.class);
+        Assert.assertEquals("test", student.getNameT());
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json).flip();
+        student = JacksonUtils.snakeCaseConversion(direct, Student.class);
+        Assert.assertEquals("test", student.getNameT());
+        Assert.assertEquals(json.length, direct.remaining());
+        ByteArrayInputStream in = new ByteArrayInputStream(json);
+        student = JacksonUtils.snakeCaseConversion(in, Student.class);
+        Assert.assertEquals("test", student.getNameT());
+        Assert.assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void byteSink() {
+        Student student = new Student();
+        student.setNameT("测试");
+        student.setNow(new Date(1544693261000L));
+        String json = JacksonUtils.toSnakeCaseJsonString(student);
+        Assert.assertArrayEquals(json.getBytes(StandardCharsets.UTF_8), JacksonUtils.toSnakeCaseJsonBytes(student));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtils.snakeCaseWriteTo(student, out);
+        Assert.assertEquals(json, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        ByteBuffer direct = ByteBuffer.allocateDirect(256);
+        int written = JacksonUtils.snakeCaseWriteTo(student, direct);
+        Assert.assertEquals(written, direct.position());
+        direct.flip();
+        Assert.assertEquals(json, StandardCharsets.UTF_8.decode(direct).toString());
+    }
+
     @Test
     public void localDateTime() {
         Student student = new Student();
@@ -50,60 +108,3 @@ public class JsonTest {
         System.out.println(JacksonUtils.toJsonString(student));
     }
 }
-
-class Student {
-    private String nameT;
-    private String ageS;
-    private Date now;
-    private LocalDateTime birthday;
-    private LocalDate localDate;
-    private LocalTime localTime;
-
-    public String getNameT() {
-        return this.nameT;
-    }
-
-    public void setNameT(String nameT) {
-        this.nameT = nameT;
-    }
-
-    public String getAgeS() {
-        return this.ageS;
-    }
-
-    public void setAgeS(String ageS) {
-        this.ageS = ageS;
-    }
-
-    public Date getNow() {
-        return this.now;
-    }
-
-    public void setNow(Date now) {
-        this.now = now;
-    }
-
-    public LocalDateTime getBirthday() {
-        return this.birthday;
-    }
-
-    public void setBirthday(LocalDateTime birthday) {
-        this.birthday = birthday;
-    }
-
-    public LocalDate getLocalDate() {
-        return this.localDate;
-    }
-
-    public void setLocalDate(LocalDate localDate) {
-        this.localDate = localDate;
-    }
-
-    public LocalTime getLocalTime() {
-        return this.localTime;
-    }
-
-    public void setLocalTime(LocalTime localTime) {
-        this.localTime = localTime;
-    }
-}
\ No newline at end of file
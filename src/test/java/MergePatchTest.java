@@ -0,0 +1,199 @@
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MergePatchTest {
+    private static Order order() {
+        Order order = new Order();
+        order.setCode("A001");
+        order.setTags(Arrays.asList("a", "b"));
+        Address address = new Address();
+        address.setCity("成都");
+        address.setStreet("天府大道");
+        order.setAddress(address);
+        Map<String, Object> extra = new LinkedHashMap<>();
+        extra.put("keep", 1);
+        extra.put("drop", 2);
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("x", 1);
+        extra.put("nested", nested);
+        order.setExtra(extra);
+        return order;
+    }
+
+    @Test
+    public void mergePatch() {
+        Order order = order();
+        Address address = order.getAddress();
+        Map<String, Object> extra = order.getExtra();
+        Order merged = JacksonUtils.mergePatch("{\"address\":{\"street\":null,\"zip\":\"610000\"},\"tags\":[\"c\"],"
+                + "\"extra\":{\"drop\":null,\"added\":{\"k\":null,\"v\":2},\"nested\":{\"y\":2}}}", order);
+        Assert.assertSame(order, merged);
+        Assert.assertSame(address, order.getAddress());
+        Assert.assertSame(extra, order.getExtra());
+        Assert.assertEquals("A001", order.getCode());
+        Assert.assertEquals("成都", address.getCity());
+        Assert.assertNull(address.getStreet());
+        Assert.assertEquals("610000", address.getZip());
+        Assert.assertEquals(Arrays.asList("c"), order.getTags());
+        Assert.assertEquals("{\"keep\":1,\"nested\":{\"x\":1,\"y\":2},\"added\":{\"v\":2}}",
+                JacksonUtils.toJsonString(extra));
+
+        JacksonUtils.mergePatch("{\"address\":null,\"code\":null}", order);
+        Assert.assertNull(order.getAddress());
+        Assert.assertNull(order.getCode());
+        JacksonUtils.mergePatch("{\"address\":{\"city\":\"北京\",\"street\":null}}", order);
+        Assert.assertEquals("北京", order.getAddress().getCity());
+
+        // 补丁不是对象时整体替换
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("list", Arrays.asList(1, 2));
+        Assert.assertEquals("[3]", JacksonUtils.toJsonString(JacksonUtils.mergePatch("{\"list\":[3]}", map).get("list")));
+        Assert.assertEquals("text", JacksonUtils.mergePatch("\"text\"", new Object()));
+        Assert.assertNull(JacksonUtils.mergePatch("null", order()));
+        Assert.assertSame(order, JacksonUtils.mergePatch(null, order));
+    }
+
+    @Test
+    public void mergeIntoNullProperty() {
+        Order order = new Order();
+        JacksonUtils.mergePatch("{\"extra\":{\"a\":null,\"b\":1,\"c\":{\"d\":null}},"
+                + "\"address\":{\"city\":\"成都\",\"street\":null}}", order);
+        Assert.assertEquals("{\"b\":1,\"c\":{}}", JacksonUtils.toJsonString(order.getExtra()));
+        Assert.assertFalse(order.getExtra().containsKey("a"));
+        Assert.assertEquals("成都", order.getAddress().getCity());
+        Assert.assertNull(order.getAddress().getStreet());
+    }
+
+    @Test
+    public void mergePatchObject() {
+        Order order = order();
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("code", "A002");
+        Map<String, Object> address = new LinkedHashMap<>();
+        address.put("zip", "100000");
+        patch.put("address", address);
+        JacksonUtils.mergePatch(patch, order);
+        Assert.assertEquals("A002", order.getCode());
+        Assert.assertEquals("成都", order.getAddress().getCity());
+        Assert.assertEquals("100000", order.getAddress().getZip());
+    }
+
+    @Test
+    public void snakeCase() {
+        Order order = order();
+        Address address = order.getAddress();
+        JacksonUtils.snakeCaseMergePatch("{\"created_at\":\"2018-12-13\",\"address\":{\"zip\":\"610000\"}}", order,
+                "yyyy/MM/dd");
+        Assert.assertSame(address, order.getAddress());
+        Assert.assertEquals("610000", address.getZip());
+        Assert.assertEquals("2018/12/13", JacksonUtils.toSnakeCaseJsonString(order.getCreatedAt(), "yyyy/MM/dd")
+                .replace("\"", ""));
+
+        JacksonUtils.snakeCaseUpdate("{\"code\":\"A003\",\"created_at\":null}", order);
+        Assert.assertEquals("A003", order.getCode());
+        Assert.assertNull(order.getCreatedAt());
+    }
+
+    @Test
+    public void update() {
+        Order order = order();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("code", "A004");
+        data.put("createdAt", "2018-12-13 09:27:41");
+        JacksonUtils.update(data, order, "yyyy-MM-dd HH:mm:ss");
+        Assert.assertEquals("A004", order.getCode());
+        Assert.assertNotNull(order.getCreatedAt());
+        Assert.assertEquals("成都", order.getAddress().getCity());
+        Assert.assertSame(order, JacksonUtils.update(null, order));
+        try {
+            JacksonUtils.update("{}", null);
+            Assert.fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    public static class Order {
+        private String code;
+        private Date createdAt;
+        private List<String> tags;
+        private Address address;
+        private Map<String, Object> extra;
+
+        public String getCode() {
+            return this.code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public Date getCreatedAt() {
+            return this.createdAt;
+        }
+
+        public void setCreatedAt(Date createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Address getAddress() {
+            return this.address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public Map<String, Object> getExtra() {
+            return this.extra;
+        }
+
+        public void setExtra(Map<String, Object> extra) {
+            this.extra = extra;
+        }
+    }
+
+    public static class Address {
+        private String city;
+        private String street;
+        private String zip;
+
+        public String getCity() {
+            return this.city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getStreet() {
+            return this.street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getZip() {
+            return this.zip;
+        }
+
+        public void setZip(String zip) {
+            this.zip = zip;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperRegistry;
+
+import java.text.SimpleDateFormat;
+
+public class ObjectMapperRegistryTest {
+    @Test
+    public void lruEviction() {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(2, ObjectMapperRegistry.EvictionPolicy.LRU);
+        registry.pin("a");
+        ObjectMapper a = registry.get("a", key -> new ObjectMapper());
+        registry.get("b", key -> new ObjectMapper());
+        registry.get("c", key -> new ObjectMapper());
+        Assert.assertEquals(2, registry.size());
+        Assert.assertSame(a, registry.get("a", key -> new ObjectMapper()));
+        ObjectMapperRegistry.Stats stats = registry.getStats();
+        Assert.assertEquals(1, stats.getHitCount());
+        Assert.assertEquals(3, stats.getMissCount());
+        Assert.assertEquals(1, stats.getEvictionCount());
+    }
+
+    @Test
+    public void lfuEviction() {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(2, ObjectMapperRegistry.EvictionPolicy.LFU);
+        ObjectMapper a = registry.get("a", key -> new ObjectMapper());
+        registry.get("a", key -> new ObjectMapper());
+        registry.get("b", key -> new ObjectMapper());
+        registry.get("c", key -> new ObjectMapper());
+        Assert.assertSame(a, registry.get("a", key -> new ObjectMapper()));
+        Assert.assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void failedBuildNotRetained() {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(4, ObjectMapperRegistry.EvictionPolicy.LRU);
+        for (int i = 0; i < 1000; i++) {
+            try {
+                registry.get("bad" + i, key -> new ObjectMapper().setDateFormat(new SimpleDateFormat(key)));
+                Assert.fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        Assert.assertEquals(0, registry.size());
+        registry.get("yyyy", key -> new ObjectMapper().setDateFormat(new SimpleDateFormat(key)));
+        Assert.assertEquals(1, registry.size());
+        Assert.assertEquals(1, registry.getStats().getMissCount());
+    }
+}
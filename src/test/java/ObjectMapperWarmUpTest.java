@@ -0,0 +1,81 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperWarmUp;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class ObjectMapperWarmUpTest {
+    @Test
+    public void warmUpTypes() {
+        String datePattern = "yyyy/MM/dd HH:mm";
+        ObjectMapperWarmUp.Result result = new ObjectMapperWarmUp()
+                .types(Wrapper.class)
+                .types(new TypeReference<List<Student>>() {
+                })
+                .snakeCase(true)
+                .datePatterns(datePattern)
+                .parallel(ForkJoinPool.commonPool())
+                .run();
+        Assert.assertTrue(result.getFailures().toString(), result.isSuccessful());
+        Assert.assertEquals(4, result.getMapperCount());
+        // Wrapper, Student, List<Student>
+        Assert.assertEquals(12, result.getTypeCount());
+        Assert.assertTrue(result.getDurationNanos() > 0);
+
+        ObjectMapper objectMapper = ObjectMapperFactory.getDefaultSnakeCaseObjectMapper(datePattern);
+        int serializers = ((DefaultSerializerProvider) objectMapper.getSerializerProviderInstance())
+                .cachedSerializersCount();
+        Assert.assertTrue(serializers > 0);
+        Wrapper wrapper = new Wrapper();
+        wrapper.setStudent(new Student());
+        wrapper.getStudent().setNow(new Date(0));
+        JacksonUtils.toSnakeCaseJsonString(wrapper, datePattern);
+        Assert.assertEquals(serializers, ((DefaultSerializerProvider) objectMapper.getSerializerProviderInstance())
+                .cachedSerializersCount());
+    }
+
+    @Test
+    public void warmUpPackage() {
+        ObjectMapperWarmUp.Result result = new ObjectMapperWarmUp()
+                .packages("org.rdlinux.luava.json.metrics", "org.rdlinux.luava.missing")
+                .pin(false)
+                .run();
+        Assert.assertEquals(1, result.getMapperCount());
+        Assert.assertEquals(1, result.getFailures().size());
+        Assert.assertTrue(result.getFailures().containsKey("package org.rdlinux.luava.missing"));
+        // JsonOperation, JsonMetricsRecorder及其Snapshot; JsonInstrumentation为final工具类, 同样被预热
+        Assert.assertTrue(result.getTypeCount() >= 3);
+    }
+
+    @Test
+    public void mapperFailureKey() {
+        ObjectMapperWarmUp.Result result = new ObjectMapperWarmUp()
+                .snakeCase(true)
+                .datePatterns("yyyy/MM/dd", "bad pattern")
+                .pin(false)
+                .run();
+        Assert.assertEquals(4, result.getMapperCount());
+        Assert.assertEquals(2, result.getFailures().size());
+        Assert.assertTrue(result.getFailures().containsKey("camelCase bad pattern"));
+        Assert.assertTrue(result.getFailures().containsKey("snakeCase bad pattern"));
+    }
+
+    public static class Wrapper {
+        private Student student;
+
+        public Student getStudent() {
+            return this.student;
+        }
+
+        public void setStudent(Student student) {
+            this.student = student;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+import org.rdlinux.luava.json.ParallelJsonReader;
+import org.rdlinux.luava.json.jackson.factory.ObjectMapperFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelJsonReaderTest {
+    private static List<Map<String, Object>> records() {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            records.add(JacksonUtils.conversion("{\"id\":" + i + ",\"text\":\"a,]}[{\\\"" + i + "\",\"tags\":[" + i
+                    + ",{\"x\":[]}]}", new TypeReference<Map<String, Object>>() {
+            }));
+        }
+        return records;
+    }
+
+    @Test
+    public void readArray() throws Exception {
+        List<Map<String, Object>> records = records();
+        Path file = Files.createTempFile("parallel", ".json");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Files.write(file, (" \n" + JacksonUtils.toJsonString(records) + "\n").getBytes(StandardCharsets.UTF_8));
+            ParallelJsonReader reader = new ParallelJsonReader(ObjectMapperFactory.getDefaultObjectMapper(), pool, 64);
+            Assert.assertEquals(records, reader.readArray(file, new TypeReference<Map<String, Object>>() {
+            }));
+            ConcurrentLinkedQueue<Map<String, Object>> unordered = new ConcurrentLinkedQueue<>();
+            reader.readArray(file, new TypeReference<Map<String, Object>>() {
+            }, unordered::add);
+            Assert.assertEquals(records.size(), unordered.size());
+            Assert.assertTrue(unordered.containsAll(records));
+
+            Files.write(file, "[]".getBytes(StandardCharsets.UTF_8));
+            Assert.assertEquals(Collections.emptyList(), reader.readArray(file, Map.class));
+            Files.write(file, "[{\"id\":1},{\"id\":]".getBytes(StandardCharsets.UTF_8));
+            try {
+                reader.readArray(file, Map.class);
+                Assert.fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+        } finally {
+            pool.shutdown();
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void readLines() throws Exception {
+        List<Map<String, Object>> records = records();
+        Path file = Files.createTempFile("parallel", ".jsonl");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JacksonUtils.writeLines(records.iterator(), out);
+            Files.write(file, out.toByteArray());
+            ParallelJsonReader reader = new ParallelJsonReader(ObjectMapperFactory.getDefaultObjectMapper(), pool, 100);
+            Assert.assertEquals(records, reader.readLines(file, new TypeReference<Map<String, Object>>() {
+            }));
+            ConcurrentLinkedQueue<Map<String, Object>> unordered = new ConcurrentLinkedQueue<>();
+            reader.readLines(file, new TypeReference<Map<String, Object>>() {
+            }, unordered::add);
+            Assert.assertEquals(records.size(), unordered.size());
+            Assert.assertEquals(records, JacksonUtils.parallelReader().readLines(file,
+                    new TypeReference<Map<String, Object>>() {
+                    }));
+        } finally {
+            pool.shutdown();
+            Files.delete(file);
+        }
+    }
+}
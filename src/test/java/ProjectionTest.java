@@ -0,0 +1,122 @@
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.json.JacksonUtils;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+
+public class ProjectionTest {
+    /**
+     * 未投影的属性内容无法绑定到目标类型, 转换成功说明被跳过
+     */
+    private static final String JSON = "{\"id\":1,\"created\":\"not a date\",\"detail\":{\"count\":\"x\"},"
+            + "\"name\":\"测试\",\"enabled\":\"是\",\"unknown\":[1,2]}";
+
+    @Test
+    public void properties() {
+        Order order = JacksonUtils.conversionProjected(JSON, Order.class,
+                new HashSet<>(Arrays.asList("id", "name", "enabled")));
+        Assert.assertEquals(1, order.getId());
+        Assert.assertEquals("测试", order.getName());
+        Assert.assertEquals(Boolean.TRUE, order.getEnabled());
+        Assert.assertNull(order.getCreated());
+        Assert.assertNull(order.getDetail());
+        try {
+            JacksonUtils.conversion(JSON, Order.class);
+            Assert.fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        Order source = new Order();
+        source.setId(2);
+        source.setName("n");
+        source.setCreated(new Date());
+        Order copied = JacksonUtils.conversionProjected(source, Order.class,
+                new HashSet<>(Arrays.asList("name", "missing")));
+        Assert.assertEquals(0, copied.getId());
+        Assert.assertEquals("n", copied.getName());
+        Assert.assertNull(copied.getCreated());
+        try {
+            JacksonUtils.conversionProjected(JSON, Map.class, new HashSet<>(Arrays.asList("id")));
+            Assert.fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void projectionInterface() {
+        String json = "{\"name_t\":\"测试\",\"now\":\"not a date\"}";
+        Student student = JacksonUtils.snakeCaseConversionProjected(json, Student.class, StudentName.class);
+        Assert.assertEquals("测试", student.getNameT());
+        Assert.assertNull(student.getNow());
+        student = JacksonUtils.snakeCaseConversionProjected(json, Student.class, new HashSet<>(Arrays.asList("name_t")));
+        Assert.assertEquals("测试", student.getNameT());
+        Assert.assertNull(JacksonUtils.conversionProjected("null", Student.class, StudentName.class));
+    }
+
+    public interface StudentName {
+        String getNameT();
+    }
+
+    public static class Detail {
+        private int count;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    public static class Order {
+        private int id;
+        private String name;
+        private Date created;
+        private Detail detail;
+        private Boolean enabled;
+
+        public int getId() {
+            return this.id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Date getCreated() {
+            return this.created;
+        }
+
+        public void setCreated(Date created) {
+            this.created = created;
+        }
+
+        public Detail getDetail() {
+            return this.detail;
+        }
+
+        public void setDetail(Detail detail) {
+            this.detail = detail;
+        }
+
+        public Boolean getEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+class Student {
+    private String nameT;
+    private String ageS;
+    private Date now;
+    private LocalDateTime birthday;
+    private LocalDate localDate;
+    private LocalTime localTime;
+
+    public String getNameT() {
+        return this.nameT;
+    }
+
+    public void setNameT(String nameT) {
+        this.nameT = nameT;
+    }
+
+    public String getAgeS() {
+        return this.ageS;
+    }
+
+    public void setAgeS(String ageS) {
+        this.ageS = ageS;
+    }
+
+    public Date getNow() {
+        return this.now;
+    }
+
+    public void setNow(Date now) {
+        this.now = now;
+    }
+
+    public LocalDateTime getBirthday() {
+        return this.birthday;
+    }
+
+    public void setBirthday(LocalDateTime birthday) {
+        this.birthday = birthday;
+    }
+
+    public LocalDate getLocalDate() {
+        return this.localDate;
+    }
+
+    public void setLocalDate(LocalDate localDate) {
+        this.localDate = localDate;
+    }
+
+    public LocalTime getLocalTime() {
+        return this.localTime;
+    }
+
+    public void setLocalTime(LocalTime localTime) {
+        this.localTime = localTime;
+    }
+}
\ No newline at end of file